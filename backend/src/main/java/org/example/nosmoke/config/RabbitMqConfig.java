@@ -4,12 +4,16 @@ import org.springframework.amqp.core.Binding;
 import org.springframework.amqp.core.BindingBuilder;
 import org.springframework.amqp.core.Queue;
 import org.springframework.amqp.core.TopicExchange;
+import org.springframework.amqp.rabbit.config.SimpleRabbitListenerContainerFactory;
 import org.springframework.amqp.rabbit.connection.ConnectionFactory;
 import org.springframework.amqp.rabbit.core.RabbitTemplate;
 import org.springframework.amqp.support.converter.Jackson2JsonMessageConverter;
 import org.springframework.amqp.support.converter.MessageConverter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.amqp.SimpleRabbitListenerContainerFactoryConfigurer;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
+import org.springframework.core.task.VirtualThreadTaskExecutor;
 
 
 
@@ -19,6 +23,7 @@ public class RabbitMqConfig {
     public static final String EXCHANGE_NAME = "monkey.exchange";
     public static final String QUEUE_NAME = "monkey.ai.queue";
     public static final String ROUTING_KEY = "monkey.ai.request";
+    public static final String AI_LISTENER_FACTORY = "aiListenerContainerFactory";
 
     // 큐 생성 (AI 요청을 쌓아 둘 버퍼)
     @Bean
@@ -52,6 +57,30 @@ public class RabbitMqConfig {
         return template;
     }
 
+    // AI 요청 컨슈머 - 컨슈머마다 가상 스레드 하나 (Gemini 응답을 기다리는 동안 OS 스레드를 잡지 않음)
+    // 큐에 메시지가 계속 있으면 min ~ max 사이에서 컨슈머를 늘리고, 한가해지면 줄임
+    // 호출 속도는 컨슈머 수가 아니라 AiRateLimiter 가 제한
+    @Bean(AI_LISTENER_FACTORY)
+    public SimpleRabbitListenerContainerFactory aiListenerContainerFactory(
+            SimpleRabbitListenerContainerFactoryConfigurer configurer,
+            ConnectionFactory connectionFactory,
+            @Value("${ai.consumer.min-consumers:2}") int minConsumers,
+            @Value("${ai.consumer.max-consumers:50}") int maxConsumers) {
+        SimpleRabbitListenerContainerFactory factory = new SimpleRabbitListenerContainerFactory();
+        configurer.configure(factory, connectionFactory);
+        factory.setTaskExecutor(new VirtualThreadTaskExecutor("ai-consumer-"));
+        factory.setConcurrentConsumers(minConsumers);
+        factory.setMaxConcurrentConsumers(maxConsumers);
+        // 메시지를 하나씩만 받아 두어, 남은 메시지는 큐에 두고 새로 늘어난 컨슈머가 가져가도록
+        factory.setPrefetchCount(1);
+        // 연속 2번 메시지를 받으면 컨슈머 추가 (최소 1초 간격), 연속 10번 비어 있으면 제거 (최소 30초 간격)
+        factory.setConsecutiveActiveTrigger(2);
+        factory.setStartConsumerMinInterval(1000L);
+        factory.setConsecutiveIdleTrigger(10);
+        factory.setStopConsumerMinInterval(30000L);
+        return factory;
+    }
+
 
 
 
@@ -6,6 +6,7 @@ import org.springframework.context.annotation.Configuration;
 import org.springframework.data.redis.connection.RedisConnectionFactory;
 import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
 import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
 import org.springframework.data.redis.serializer.StringRedisSerializer;
 
 @Configuration
@@ -20,6 +21,10 @@ public class RedisConfig {
     @Value("${spring.data.redis.password}")
     private String password;
 
+    // 서버 간 로컬 캐시 무효화용 Pub/Sub 구독 여부 (테스트 환경에서는 끔)
+    @Value("${redis.pubsub.enabled:true}")
+    private boolean pubSubEnabled;
+
     @Bean
     public RedisConnectionFactory redisConnectionFactory() {
         LettuceConnectionFactory lettuceConnectionFactory = new LettuceConnectionFactory(host, port);
@@ -43,4 +48,13 @@ public class RedisConfig {
         return template;
     }
 
+    // Redis Pub/Sub 메시지 리스너 컨테이너
+    @Bean
+    public RedisMessageListenerContainer redisMessageListenerContainer() {
+        RedisMessageListenerContainer container = new RedisMessageListenerContainer();
+        container.setConnectionFactory(redisConnectionFactory());
+        container.setAutoStartup(pubSubEnabled);
+        return container;
+    }
+
 }
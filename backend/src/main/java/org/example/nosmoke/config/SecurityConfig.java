@@ -1,8 +1,13 @@
 package org.example.nosmoke.config;
 
+import io.micrometer.core.instrument.MeterRegistry;
 import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.service.user.AccessTokenBlacklist;
+import org.example.nosmoke.service.user.SecurityVersionService;
+import org.example.nosmoke.util.BoundedPasswordEncoder;
 import org.example.nosmoke.util.JwtAuthenticationFilter;
 import org.example.nosmoke.util.JwtTokenProvider;
+import org.springframework.beans.factory.annotation.Value;
 import org.springframework.context.annotation.Bean;
 import org.springframework.context.annotation.Configuration;
 import org.springframework.http.HttpMethod;
@@ -27,10 +32,20 @@ import java.util.Arrays;
 public class SecurityConfig {
 
     private final JwtTokenProvider jwtTokenProvider;
+    private final SecurityVersionService securityVersionService;
+    private final AccessTokenBlacklist accessTokenBlacklist;
 
-    @Bean
-    public PasswordEncoder passwordEncoder() { // 비밀번호 암호화 함수
-        return new BCryptPasswordEncoder();
+    @Bean(destroyMethod = "shutdown")
+    public PasswordEncoder passwordEncoder( // 비밀번호 암호화 함수
+            @Value("${security.bcrypt.strength:10}") int strength,
+            @Value("${security.bcrypt.threads:0}") int threads,
+            @Value("${security.bcrypt.queue-capacity:64}") int queueCapacity,
+            @Value("${security.bcrypt.retry-after-seconds:1}") long retryAfterSeconds,
+            MeterRegistry meterRegistry) {
+        // 해싱 스레드 수 미설정(0) 시 CPU 코어 수만큼
+        int hashThreads = threads > 0 ? threads : Runtime.getRuntime().availableProcessors();
+        return new BoundedPasswordEncoder(
+                new BCryptPasswordEncoder(strength), hashThreads, queueCapacity, retryAfterSeconds, meterRegistry);
     }
 
     @Bean
@@ -54,6 +69,7 @@ public class SecurityConfig {
                         .requestMatchers(
                                 "/api/auth/signup",
                                 "/api/auth/login",
+                                "/api/auth/reissue", // Access Token 이 만료된 상태에서 호출되므로 인증 없이 허용 (서비스에서 토큰 검증)
                                 "/api/auth/check-email",
                                 // Swagger UI
                                 "/swagger-resources/**",
@@ -66,7 +82,7 @@ public class SecurityConfig {
                 )
 
                 // Security의 기본 필터(UsernamePasswordAuthenticationFilter) 실행 전에 JwtAuthenticationFilter를 앞에 추가
-                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider), UsernamePasswordAuthenticationFilter.class);
+                .addFilterBefore(new JwtAuthenticationFilter(jwtTokenProvider, securityVersionService, accessTokenBlacklist), UsernamePasswordAuthenticationFilter.class);
 
         return http.build();
     }
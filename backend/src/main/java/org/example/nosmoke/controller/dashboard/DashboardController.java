@@ -2,20 +2,27 @@ package org.example.nosmoke.controller.dashboard;
 
 import lombok.RequiredArgsConstructor;
 import org.example.nosmoke.dto.ApiResponse;
+import org.example.nosmoke.dto.dashboard.CheckInCalendarResponseDto;
 import org.example.nosmoke.dto.dashboard.DashboardResponseDto;
 import org.example.nosmoke.service.dashboard.DashboardService;
+import org.example.nosmoke.service.quitsurvey.CheckInCalendarService;
+import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
 import org.springframework.web.bind.annotation.RestController;
 
+import java.time.LocalDate;
+
 @RestController
 @RequestMapping("/api/dashboard")
 @RequiredArgsConstructor
 public class DashboardController {
     private final DashboardService dashboardService;
+    private final CheckInCalendarService checkInCalendarService;
 
     @GetMapping
     public ResponseEntity<ApiResponse<DashboardResponseDto>> getDashboard(){
@@ -33,5 +40,19 @@ public class DashboardController {
 
     }
 
+    // 연간 체크인 달력 (히트맵) - year 미지정 시 올해
+    @GetMapping("/calendar")
+    public ResponseEntity<ApiResponse<CheckInCalendarResponseDto>> getCalendar(@RequestParam(required = false) Integer year){
+        try{
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String userId = authentication.getName();
+
+            int targetYear = year != null ? year : LocalDate.now().getYear();
+            CheckInCalendarResponseDto calendar = checkInCalendarService.getCalendar(Long.parseLong(userId), targetYear);
 
+            return ResponseEntity.ok(ApiResponse.success("체크인 달력 조회 완료", calendar));
+        } catch(IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("CALENDAR_ERROR", e.getMessage()));
+        }
+    }
 }
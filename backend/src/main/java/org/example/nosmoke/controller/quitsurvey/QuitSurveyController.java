@@ -3,9 +3,14 @@ package org.example.nosmoke.controller.quitsurvey;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.nosmoke.dto.ApiResponse;
-import org.example.nosmoke.dto.quitsurvey.QuitSurveyListResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportRequestDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyPageResponseDto;
 import org.example.nosmoke.dto.quitsurvey.QuitSurveyRequestDto;
 import org.example.nosmoke.dto.quitsurvey.QuitSurveyResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyStatsResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTrendResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyUpdateRequestDto;
 import org.example.nosmoke.dto.smokinginfo.SmokingInfoResponseDto;
 import org.example.nosmoke.entity.QuitSurvey;
 import org.example.nosmoke.service.quitsurvey.QuitSurveyService;
@@ -16,7 +21,6 @@ import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.stereotype.Controller;
 import org.springframework.web.bind.annotation.*;
 
-import java.util.List;
 
 @RestController
 @RequestMapping("/api/surveys")
@@ -56,17 +60,49 @@ public class QuitSurveyController {
         }
     }
 
-    @GetMapping
-    public ResponseEntity<ApiResponse<QuitSurveyListResponseDto>> getMySurveys(){
+    // 오프라인으로 기록한 설문 일괄 등록 (날짜 오름차순, 이미 설문이 있는 날짜는 건너뜀)
+    @PostMapping("/import")
+    public ResponseEntity<ApiResponse<QuitSurveyImportResponseDto>> importSurveys(@Valid @RequestBody QuitSurveyImportRequestDto requestDto) {
+        try{
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String userId = authentication.getName();
+
+            QuitSurveyImportResponseDto responseDto = quitSurveyService.importSurveys(Long.parseLong(userId), requestDto);
+
+            return ResponseEntity.status(HttpStatus.CREATED).body(ApiResponse.success("설문 일괄 등록이 완료되었습니다.", responseDto));
+        } catch(IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("IMPORT_ERROR", e.getMessage()));
+        }
+    }
+
+    // 설문 수정 (본인 설문만)
+    @PutMapping("/{surveyId}")
+    public ResponseEntity<ApiResponse<QuitSurveyResponseDto>> updateSurvey(@PathVariable Long surveyId,
+                                                                          @Valid @RequestBody QuitSurveyUpdateRequestDto requestDto) {
         try{
             Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
             String userId = authentication.getName();
 
-            List<QuitSurvey> savedSurveys = quitSurveyService.findSurveyByUserId(Long.parseLong(userId));
+            QuitSurvey updatedSurvey = quitSurveyService.updateSurvey(Long.parseLong(userId), surveyId, requestDto);
+
+            return ResponseEntity.ok(ApiResponse.success("설문이 수정되었습니다.", new QuitSurveyResponseDto(updatedSurvey)));
+        } catch(IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("UPDATE_ERROR", e.getMessage()));
+        }
+    }
+
+    // 설문 기록 조회 (최신 순, 커서 기반 페이징) - 다음 페이지는 응답의 nextCursor 를 그대로 전달
+    @GetMapping
+    public ResponseEntity<ApiResponse<QuitSurveyPageResponseDto>> getMySurveys(
+            @RequestParam(required = false) String cursor,
+            @RequestParam(defaultValue = "20") int size){
+        try{
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String userId = authentication.getName();
 
-            QuitSurveyListResponseDto responseDto = new QuitSurveyListResponseDto(savedSurveys);
+            QuitSurveyPageResponseDto responseDto = quitSurveyService.findSurveyPage(Long.parseLong(userId), cursor, size);
 
-            ApiResponse<QuitSurveyListResponseDto> response = ApiResponse.success(
+            ApiResponse<QuitSurveyPageResponseDto> response = ApiResponse.success(
                     "사용자의 설문 목록 조회가 완료되었습니다",
                     responseDto
             );
@@ -77,5 +113,36 @@ public class QuitSurveyController {
 
         }
     }
-}
 
+    // 설문 통계 (성공률, 평균 스트레스 / 충동 레벨)
+    @GetMapping("/stats")
+    public ResponseEntity<ApiResponse<QuitSurveyStatsResponseDto>> getMySurveyStats(){
+        try{
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String userId = authentication.getName();
+
+            QuitSurveyStatsResponseDto responseDto = quitSurveyService.getSurveyStats(Long.parseLong(userId));
+
+            return ResponseEntity.ok(ApiResponse.success("사용자의 설문 통계 조회가 완료되었습니다", responseDto));
+        } catch(IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error("SURVEY_NOT_FOUND", e.getMessage()));
+        }
+    }
+
+    // 주별 / 월별 추이 (성공률, 평균 스트레스 / 충동 레벨) - 집계 작업 주기만큼 늦게 반영될 수 있음
+    @GetMapping("/trends")
+    public ResponseEntity<ApiResponse<QuitSurveyTrendResponseDto>> getMySurveyTrend(
+            @RequestParam(defaultValue = "week") String period,
+            @RequestParam(defaultValue = "12") int periods){
+        try{
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            String userId = authentication.getName();
+
+            QuitSurveyTrendResponseDto responseDto = quitSurveyService.getSurveyTrend(Long.parseLong(userId), period, periods);
+
+            return ResponseEntity.ok(ApiResponse.success("사용자의 설문 추이 조회가 완료되었습니다", responseDto));
+        } catch(IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(ApiResponse.error("TREND_ERROR", e.getMessage()));
+        }
+    }
+}
@@ -0,0 +1,58 @@
+package org.example.nosmoke.controller.user;
+
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.dto.ApiResponse;
+import org.example.nosmoke.exception.TooManyRequestsException;
+import org.example.nosmoke.service.user.AccountExportService;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
+
+@RestController
+@RequestMapping("/api/export")
+@RequiredArgsConstructor
+public class AccountExportController {
+    private final AccountExportService accountExportService;
+
+    // 내 계정 데이터 전체 내보내기 (NDJSON, zip=true 면 zip 으로 압축)
+    // 응답 본문은 DB 커서에서 읽는 대로 바로 흘려보냄 - 전체를 메모리에 만들지 않음
+    @GetMapping
+    public ResponseEntity<?> exportMyData(@RequestParam(defaultValue = "false") boolean zip) {
+        try{
+            Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+            Long userId = Long.parseLong(authentication.getName());
+            accountExportService.checkUser(userId);
+            accountExportService.acquireSlot();
+
+            // 확보한 자리는 응답을 다 쓴 뒤(중간에 끊겨도) 반납
+            StreamingResponseBody body = outputStream -> {
+                try {
+                    accountExportService.export(userId, outputStream, zip);
+                } finally {
+                    accountExportService.releaseSlot();
+                }
+            };
+
+            String fileName = zip ? AccountExportService.FILE_NAME + ".zip" : AccountExportService.FILE_NAME;
+            return ResponseEntity.ok()
+                    .contentType(zip ? MediaType.parseMediaType("application/zip") : MediaType.parseMediaType("application/x-ndjson"))
+                    .header(HttpHeaders.CONTENT_DISPOSITION, ContentDisposition.attachment().filename(fileName).build().toString())
+                    .body(body);
+        } catch(IllegalArgumentException e){
+            return ResponseEntity.status(HttpStatus.NOT_FOUND).body(ApiResponse.error("USER_NOT_FOUND", e.getMessage()));
+        } catch (TooManyRequestsException e) {
+            return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                    .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                    .body(ApiResponse.error("TOO_MANY_REQUESTS", e.getMessage()));
+        }
+    }
+}
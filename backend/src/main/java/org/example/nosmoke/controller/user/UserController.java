@@ -1,13 +1,18 @@
 package org.example.nosmoke.controller.user;
 
+import jakarta.servlet.http.HttpServletRequest;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.nosmoke.dto.ApiResponse;
 import org.example.nosmoke.dto.token.TokenDto;
 import org.example.nosmoke.dto.user.*;
+import org.example.nosmoke.exception.TooManyRequestsException;
 import org.example.nosmoke.service.user.UserService;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
 import org.springframework.http.ResponseEntity;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.bind.annotation.*;
 
 @RestController
@@ -42,6 +47,8 @@ public class UserController {
                     e.getMessage()
             );
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
         }
     }
 
@@ -49,10 +56,11 @@ public class UserController {
     // 로그인
     @PostMapping("/login")
     public ResponseEntity<ApiResponse<UserLoginResponseDto>> login(
-            @Valid @RequestBody UserLoginRequestDto requestDto) {
+            @Valid @RequestBody UserLoginRequestDto requestDto,
+            HttpServletRequest request) {
 
         try {
-            UserLoginResponseDto responseDto = userService.login(requestDto);
+            UserLoginResponseDto responseDto = userService.login(requestDto, resolveClientIp(request));
             ApiResponse<UserLoginResponseDto> response = ApiResponse.success(
                     "로그인이 완료되었습니다",
                     responseDto
@@ -66,6 +74,9 @@ public class UserController {
             );
             return ResponseEntity.status(HttpStatus.UNAUTHORIZED).body(response);
 
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
+
         } catch (Exception e) {
             // [추가] Redis 연결 실패 등 예상치 못한 시스템 에러 처리
             e.printStackTrace(); // 서버 로그에 상세 에러 출력
@@ -110,6 +121,33 @@ public class UserController {
         }
     }
 
+    // 모든 기기에서 로그아웃 API
+    @PostMapping("/logout-all")
+    public ResponseEntity<ApiResponse<String>> logoutAll(){
+        // SecurityContext에서 ID 가져오기
+        Authentication authentication = SecurityContextHolder.getContext().getAuthentication();
+        Long userId = Long.parseLong(authentication.getName());
+
+        userService.logoutAll(userId);
+        return ResponseEntity.ok(ApiResponse.success("모든 기기에서 로그아웃 완료", "LOGOUT_ALL_SUCCESS"));
+    }
+
+    // 비밀번호 해싱 대기열 초과 등 --> 429 + Retry-After
+    private <T> ResponseEntity<ApiResponse<T>> tooManyRequests(TooManyRequestsException e) {
+        return ResponseEntity.status(HttpStatus.TOO_MANY_REQUESTS)
+                .header(HttpHeaders.RETRY_AFTER, String.valueOf(e.getRetryAfterSeconds()))
+                .body(ApiResponse.error("TOO_MANY_REQUESTS", e.getMessage()));
+    }
+
+    // nginx 가 넘겨주는 실제 클라이언트 IP (직접 접근 시에는 소켓 주소)
+    private String resolveClientIp(HttpServletRequest request) {
+        String realIp = request.getHeader("X-Real-IP");
+        if (realIp != null && !realIp.isBlank()) {
+            return realIp.trim();
+        }
+        return request.getRemoteAddr();
+    }
+
     private String resolveToken(String bearerToken) {
         if(bearerToken.startsWith("Bearer ")) {
            return bearerToken.substring(7);
@@ -185,6 +223,8 @@ public class UserController {
                     e.getMessage()
             );
             return ResponseEntity.status(HttpStatus.BAD_REQUEST).body(response);
+        } catch (TooManyRequestsException e) {
+            return tooManyRequests(e);
         }
 
     }
@@ -0,0 +1,18 @@
+package org.example.nosmoke.dto.dashboard;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+import java.util.List;
+
+// 연간 체크인 달력 (히트맵)
+@Getter
+@Builder
+public class CheckInCalendarResponseDto {
+    private final int year;
+    private final int surveyedDays; // 설문한 날 수
+    private final int successDays; // 금연 성공한 날 수
+    private final List<LocalDate> surveyedDates; // 설문한 날짜
+    private final List<LocalDate> successDates; // 금연 성공한 날짜
+}
@@ -0,0 +1,19 @@
+package org.example.nosmoke.dto.dashboard;
+
+import lombok.Builder;
+import lombok.Getter;
+
+import java.time.LocalDate;
+
+// Redis 에 저장하는 대시보드 원본 값
+// 날짜에 따라 바뀌는 값(금연 일수, 절약 금액, 오늘 설문 여부)은 저장하지 않고 조회 시점에 계산
+@Getter
+@Builder
+public class DashboardViewDto {
+    private final int points; // 보유 포인트
+    private final LocalDate quitStartDate; // 금연 시작일 (흡연 정보 미등록 시 null)
+    private final int dailyConsumption; // 하루 흡연량
+    private final int currentStreak; // 현재 연속 성공일
+    private final int longestStreak; // 최장 연속 성공일
+    private final LocalDate lastSurveyDate; // 마지막 설문일 (설문 없으면 null)
+}
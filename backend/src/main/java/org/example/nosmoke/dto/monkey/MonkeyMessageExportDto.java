@@ -0,0 +1,17 @@
+package org.example.nosmoke.dto.monkey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.entity.MonkeyMessage;
+
+import java.time.LocalDateTime;
+
+// 계정 데이터 내보내기용 대화 메시지 한 건 (JPQL 생성자 프로젝션 - 영속성 컨텍스트에 쌓이지 않음)
+@Getter
+@RequiredArgsConstructor
+public class MonkeyMessageExportDto {
+    private final Long id;
+    private final MonkeyMessage.MessageType messageType;
+    private final String content;
+    private final LocalDateTime createdAt;
+}
@@ -0,0 +1,9 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import java.time.LocalDate;
+
+// 날짜별 설문 여부 (체크인 달력 재구성용 네이티브 쿼리 프로젝션)
+public interface CheckInDayDto {
+    LocalDate getDay();
+    Number getSuccess(); // 그날 성공한 설문이 하나라도 있으면 1
+}
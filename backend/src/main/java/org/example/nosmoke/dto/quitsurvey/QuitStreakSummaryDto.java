@@ -0,0 +1,9 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+// 설문 기록 전체에 대한 스트릭 집계 결과 (네이티브 쿼리 인터페이스 프로젝션)
+// DB 마다 COUNT/SUM 결과 타입이 달라(BIGINT, DECIMAL) Number 로 받는다
+public interface QuitStreakSummaryDto {
+    Number getTotalSuccesses();
+    Number getLongestStreak();
+    Number getCurrentStreak();
+}
@@ -0,0 +1,22 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 계정 데이터 내보내기용 설문 한 건 (JPQL 생성자 프로젝션 - 영속성 컨텍스트에 쌓이지 않음)
+@Getter
+@RequiredArgsConstructor
+public class QuitSurveyExportDto {
+    private final Long id;
+    private final LocalDate surveyDate;
+    private final boolean success;
+    private final Integer stressLevel;
+    private final String stressCause;
+    private final Integer cravingLevel;
+    private final String additionalNotes;
+    private final LocalDateTime createdAt;
+    private final LocalDateTime modifiedAt;
+}
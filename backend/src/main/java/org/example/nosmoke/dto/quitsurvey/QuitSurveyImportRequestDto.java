@@ -0,0 +1,18 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import jakarta.validation.Valid;
+import jakarta.validation.constraints.NotEmpty;
+import jakarta.validation.constraints.Size;
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 설문 일괄 등록 요청 - 날짜 오름차순, 한 번에 최대 31일치 (오프라인 기록 기간 기본 30일 + 오늘)
+@Getter
+@RequiredArgsConstructor
+public class QuitSurveyImportRequestDto {
+    @NotEmpty(message = "등록할 설문이 없습니다.")
+    @Size(max = 31, message = "설문은 한 번에 31일까지 등록할 수 있습니다.")
+    private final List<@Valid QuitSurveyImportItemDto> surveys;
+}
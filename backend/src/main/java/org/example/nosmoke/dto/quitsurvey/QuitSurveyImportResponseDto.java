@@ -0,0 +1,14 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 설문 일괄 등록 결과
+@Getter
+@RequiredArgsConstructor
+public class QuitSurveyImportResponseDto {
+    private final int requested; // 요청한 설문 수
+    private final int imported; // 새로 저장된 설문 수
+    private final int skipped; // 이미 설문이 있던 날짜라 건너뛴 수
+    private final int pointsEarned; // 새로 저장된 성공 설문으로 지급된 포인트
+}
@@ -0,0 +1,15 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.util.List;
+
+// 설문 기록 한 페이지 (최신 순)
+@Getter
+@RequiredArgsConstructor
+public class QuitSurveyPageResponseDto {
+    private final List<QuitSurveyResponseDto> surveys;
+    private final String nextCursor; // 다음 페이지 요청 시 그대로 전달 (마지막 페이지면 null)
+    private final boolean hasNext;
+}
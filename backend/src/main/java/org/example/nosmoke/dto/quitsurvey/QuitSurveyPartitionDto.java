@@ -0,0 +1,18 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+import java.time.LocalDate;
+
+// quit_survey 파티션 하나 (information_schema.PARTITIONS)
+@Getter
+@RequiredArgsConstructor
+public class QuitSurveyPartitionDto {
+    private final String name;
+    private final LocalDate lessThan; // VALUES LESS THAN (MAXVALUE) 면 null
+
+    public boolean isMaxValue() {
+        return lessThan == null;
+    }
+}
@@ -3,6 +3,7 @@ package org.example.nosmoke.dto.quitsurvey;
 import lombok.Getter;
 import lombok.RequiredArgsConstructor;
 import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.QuitSurveyArchive;
 
 import java.time.LocalDateTime;
 
@@ -32,6 +33,19 @@ public class QuitSurveyResponseDto {
         this.modifiedAt = quitSurvey.getModifiedAt();
         this.pointsEarned = 0;
     }
+    // 보관된 설문 (기록 조회에서 quit_survey 와 섞어서 보여줌)
+    public QuitSurveyResponseDto(QuitSurveyArchive archived) {
+        this.id = archived.getId();
+        this.userId = archived.getUserId();
+        this.success = archived.isSuccess();
+        this.stressLevel = archived.getStressLevel();
+        this.stressCause = archived.getStressCause();
+        this.cravingLevel = archived.getCravingLevel();
+        this.additionalNotes = archived.getAdditionalNotes();
+        this.createdAt = archived.getCreatedAt();
+        this.modifiedAt = archived.getModifiedAt();
+        this.pointsEarned = 0;
+    }
     public void setPointsEarned(int points) {
         this.pointsEarned = points;
     }
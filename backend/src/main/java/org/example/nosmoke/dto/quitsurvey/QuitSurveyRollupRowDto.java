@@ -0,0 +1,15 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 집계 작업이 읽는 설문 한 건 (메모 등 긴 컬럼 제외 프로젝션)
+public interface QuitSurveyRollupRowDto {
+    Long getId();
+    Long getUserId();
+    LocalDate getSurveyDate(); // 유니크 키 도입 전 중복 설문은 null -> 작성일 기준
+    LocalDateTime getCreatedAt();
+    Boolean getSuccess();
+    Integer getStressLevel();
+    Integer getCravingLevel();
+}
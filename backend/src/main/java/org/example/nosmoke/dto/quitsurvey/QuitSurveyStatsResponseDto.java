@@ -0,0 +1,30 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import lombok.Getter;
+import org.example.nosmoke.entity.QuitSurveyStats;
+
+// 설문 통계 (사용자별 통계 누적값 한 행으로 계산)
+@Getter
+public class QuitSurveyStatsResponseDto {
+    private final int totalSurveys; // 설문 전체 수
+    private final int successDays; // 성공 일수
+    private final double successRate;  // 성공률
+    private final double averageStressLevel; // 평균 스트레스 레벨
+    private final double averageCravingLevel; // 평균 충동 레벨
+
+    // 통계 누적값으로 계산 (평균은 값이 입력된 설문만 대상)
+    public QuitSurveyStatsResponseDto(QuitSurveyStats stats) {
+        this.totalSurveys = (int) stats.getTotalSurveys();
+        this.successDays = (int) stats.getSuccessCount();
+        // 성공률 계산 --> 0 나눔 방지
+        this.successRate = this.totalSurveys > 0
+                ? ((double) this.successDays / this.totalSurveys) * 100.0
+                : 0.0;
+        this.averageStressLevel = stats.getStressCount() > 0
+                ? (double) stats.getStressSum() / stats.getStressCount()
+                : 0.0;
+        this.averageCravingLevel = stats.getCravingCount() > 0
+                ? (double) stats.getCravingSum() / stats.getCravingCount()
+                : 0.0;
+    }
+}
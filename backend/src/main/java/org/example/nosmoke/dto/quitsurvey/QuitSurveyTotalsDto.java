@@ -0,0 +1,11 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+// 설문 기록 전체로 다시 계산한 통계 누적값 (보정 작업 / 누적값이 없는 사용자용 네이티브 쿼리 프로젝션)
+public interface QuitSurveyTotalsDto {
+    Number getTotalSurveys();
+    Number getSuccessCount();
+    Number getStressSum();
+    Number getStressCount();
+    Number getCravingSum();
+    Number getCravingCount();
+}
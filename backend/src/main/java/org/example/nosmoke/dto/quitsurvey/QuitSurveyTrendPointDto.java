@@ -0,0 +1,39 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import lombok.Getter;
+import org.example.nosmoke.entity.QuitSurveyRollup;
+
+import java.time.LocalDate;
+
+// 추이 차트의 한 기간 (주 / 월)
+@Getter
+public class QuitSurveyTrendPointDto {
+    private final LocalDate periodStart;
+    private final int totalSurveys;
+    private final double successRate;
+    private final double averageStressLevel;
+    private final double averageCravingLevel;
+
+    // 설문이 없던 기간 (차트가 끊기지 않도록 0 으로 채움)
+    public QuitSurveyTrendPointDto(LocalDate periodStart) {
+        this.periodStart = periodStart;
+        this.totalSurveys = 0;
+        this.successRate = 0.0;
+        this.averageStressLevel = 0.0;
+        this.averageCravingLevel = 0.0;
+    }
+
+    public QuitSurveyTrendPointDto(QuitSurveyRollup rollup) {
+        this.periodStart = rollup.getPeriodStart();
+        this.totalSurveys = (int) rollup.getTotalSurveys();
+        this.successRate = rollup.getTotalSurveys() > 0
+                ? ((double) rollup.getSuccessCount() / rollup.getTotalSurveys()) * 100.0
+                : 0.0;
+        this.averageStressLevel = rollup.getStressCount() > 0
+                ? (double) rollup.getStressSum() / rollup.getStressCount()
+                : 0.0;
+        this.averageCravingLevel = rollup.getCravingCount() > 0
+                ? (double) rollup.getCravingSum() / rollup.getCravingCount()
+                : 0.0;
+    }
+}
@@ -0,0 +1,15 @@
+package org.example.nosmoke.dto.quitsurvey;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.entity.QuitSurveyRollup;
+
+import java.util.List;
+
+// 주별 / 월별 추이 (오래된 기간부터, 집계 작업 주기만큼 늦게 반영될 수 있음)
+@Getter
+@RequiredArgsConstructor
+public class QuitSurveyTrendResponseDto {
+    private final QuitSurveyRollup.Period period;
+    private final List<QuitSurveyTrendPointDto> points;
+}
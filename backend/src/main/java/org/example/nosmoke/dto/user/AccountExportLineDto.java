@@ -0,0 +1,12 @@
+package org.example.nosmoke.dto.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+
+// 계정 데이터 내보내기(NDJSON)의 한 줄 - type : profile, smoking_info, survey, message
+@Getter
+@RequiredArgsConstructor
+public class AccountExportLineDto {
+    private final String type;
+    private final Object data;
+}
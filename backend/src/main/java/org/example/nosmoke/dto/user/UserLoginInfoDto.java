@@ -0,0 +1,15 @@
+package org.example.nosmoke.dto.user;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.entity.User;
+
+// 로그인 시 사용자와 흡연 정보 등록 여부를 한 번의 쿼리로 조회한 결과
+@Getter
+@RequiredArgsConstructor
+public class UserLoginInfoDto {
+
+    private final User user;
+    private final boolean hasSmokingInfo;
+
+}
@@ -10,8 +10,12 @@ import lombok.NoArgsConstructor;
 @Getter
 @NoArgsConstructor(access = AccessLevel.PROTECTED)
 public class MonkeyMessage extends BaseEntity {
+    // 시퀀스 대용 테이블(id_sequence)에서 50개씩 구간을 받아 ID 배정 - IDENTITY 와 달리 INSERT 를 JDBC 배치로 묶을 수 있음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "monkey_message_id_generator")
+    @TableGenerator(name = "monkey_message_id_generator", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "monkey_message", allocationSize = 50)
     private Long id;
 
     @ManyToOne(fetch = FetchType.LAZY)
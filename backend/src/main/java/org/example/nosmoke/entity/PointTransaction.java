@@ -0,0 +1,45 @@
+package org.example.nosmoke.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 포인트 변동 내역 (추가만 하고 수정 / 삭제하지 않는 원장)
+// 사용자별 amount 합계가 users.point 와 같아야 한다 - 잔액 감사 / 재계산용
+@Entity
+@Table(name="point_transaction")
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+public class PointTransaction extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="user_id", nullable=false)
+    private Long userId;
+
+    @Column(nullable=false)
+    private int amount; // 변동량 (차감은 음수)
+
+    @Column(name="balance_after", nullable=false)
+    private int balanceAfter; // 반영 직후 잔액
+
+    @Column(nullable=false, length=30)
+    @Enumerated(EnumType.STRING)
+    private Reason reason;
+
+    public PointTransaction(Long userId, int amount, int balanceAfter, Reason reason) {
+        this.userId = userId;
+        this.amount = amount;
+        this.balanceAfter = balanceAfter;
+        this.reason = reason;
+    }
+
+    public enum Reason {
+        OPENING_BALANCE, // 원장 도입 시점의 기존 잔액 (V6 마이그레이션)
+        SURVEY_SUCCESS, // 금연 성공 설문 보상
+        ADJUSTMENT, // 포인트 직접 수정
+        RECONCILE // 원장 합계와 잔액이 달라 잔액을 다시 맞춘 경우
+    }
+}
@@ -0,0 +1,61 @@
+package org.example.nosmoke.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.LocalDate;
+
+// 사용자별 금연 스트릭 요약 (설문 저장 시 함께 갱신)
+// 대시보드는 설문 기록 전체 대신 이 한 행만 읽는다
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name="quit_streak")
+public class QuitStreak extends BaseEntity {
+    @Id
+    @Column(name="user_id")
+    private Long userId;
+
+    @Column(name="current_streak", nullable=false)
+    private int currentStreak; // 가장 최근 설문부터 이어진 연속 성공 횟수
+
+    @Column(name="longest_streak", nullable=false)
+    private int longestStreak; // 전체 기간 최장 연속 성공 횟수
+
+    @Column(name="total_successes", nullable=false)
+    private int totalSuccesses; // 누적 성공 횟수
+
+    @Column(name="last_survey_date")
+    private LocalDate lastSurveyDate; // 마지막 설문 일자 (오늘 설문 여부 판단용)
+
+    public QuitStreak(Long userId, int currentStreak, int longestStreak, int totalSuccesses, LocalDate lastSurveyDate) {
+        this.userId = userId;
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.totalSuccesses = totalSuccesses;
+        this.lastSurveyDate = lastSurveyDate;
+    }
+
+    // 설문 한 건 반영
+    public void record(boolean isSuccess, LocalDate surveyDate) {
+        if (isSuccess) {
+            this.currentStreak++;
+            this.totalSuccesses++;
+            this.longestStreak = Math.max(this.longestStreak, this.currentStreak);
+        } else {
+            this.currentStreak = 0;
+        }
+        if (surveyDate != null && (this.lastSurveyDate == null || surveyDate.isAfter(this.lastSurveyDate))) {
+            this.lastSurveyDate = surveyDate;
+        }
+    }
+
+    // 전체 기록으로 다시 계산한 값으로 덮어쓰기 (백필 / 보정용)
+    public void overwrite(int currentStreak, int longestStreak, int totalSuccesses, LocalDate lastSurveyDate) {
+        this.currentStreak = currentStreak;
+        this.longestStreak = longestStreak;
+        this.totalSuccesses = totalSuccesses;
+        this.lastSurveyDate = lastSurveyDate;
+    }
+}
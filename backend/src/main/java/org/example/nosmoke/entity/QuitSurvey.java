@@ -4,9 +4,12 @@ import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 
+import java.time.LocalDate;
+
 @Getter
 @NoArgsConstructor
 @Entity
+@Table(name = "quit_survey") // 인덱스는 Flyway 마이그레이션(db/migration)에서 관리
 public class QuitSurvey extends BaseEntity {
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
@@ -15,6 +18,11 @@ public class QuitSurvey extends BaseEntity {
     @Column(name="user_id", nullable=false)
     private Long userId;
 
+    // 설문 날짜 - (user_id, survey_date) 유니크 키로 하루 한 번만 저장
+    // 유니크 키 도입 전 같은 날 중복으로 저장된 설문은 NULL (V7) - MySQL 에서는 파티션 키라 V11 에서 보관 테이블로 옮김
+    @Column(name="survey_date")
+    private LocalDate surveyDate;
+
     @Column(name="is_success")
     private boolean isSuccess;
 
@@ -33,7 +41,21 @@ public class QuitSurvey extends BaseEntity {
     private String additionalNotes;
 
     public QuitSurvey(Long userId, boolean isSuccess, Integer stressLevel, String stressCause, Integer cravingLevel, String additionalNotes) {
+        this(userId, null, isSuccess, stressLevel, stressCause, cravingLevel, additionalNotes);
+    }
+
+    public QuitSurvey(Long userId, LocalDate surveyDate, boolean isSuccess, Integer stressLevel, String stressCause, Integer cravingLevel, String additionalNotes) {
         this.userId = userId;
+        this.surveyDate = surveyDate;
+        this.isSuccess = isSuccess;
+        this.stressLevel = stressLevel;
+        this.stressCause = stressCause;
+        this.cravingLevel = cravingLevel;
+        this.additionalNotes = additionalNotes;
+    }
+
+    // 설문 수정 (작성일은 유지)
+    public void updateSurvey(boolean isSuccess, Integer stressLevel, String stressCause, Integer cravingLevel, String additionalNotes) {
         this.isSuccess = isSuccess;
         this.stressLevel = stressLevel;
         this.stressCause = stressCause;
@@ -0,0 +1,42 @@
+package org.example.nosmoke.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Immutable;
+
+import java.time.LocalDate;
+
+// 보관 기간이 지나 quit_survey 에서 옮겨진 설문 (읽기 전용)
+// 행은 파티션 관리 작업(QuitSurveyPartitionRepository)이 SQL 로만 옮겨 오므로 애플리케이션에서 저장 / 수정하지 않는다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Immutable
+@Entity
+@Table(name = "quit_survey_archive")
+public class QuitSurveyArchive extends BaseEntity {
+    @Id
+    private Long id; // quit_survey.id 그대로
+
+    @Column(name="user_id", nullable=false)
+    private Long userId;
+
+    @Column(name="survey_date")
+    private LocalDate surveyDate;
+
+    @Column(name="is_success")
+    private boolean isSuccess;
+
+    @Column(name="stress_level")
+    private Integer stressLevel;
+
+    @Column(name="stress_cause")
+    private String stressCause;
+
+    @Column(name="craving_level")
+    private Integer cravingLevel;
+
+    @Column(name="additional_notes", columnDefinition = "TEXT")
+    private String additionalNotes;
+}
@@ -0,0 +1,81 @@
+package org.example.nosmoke.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.time.temporal.TemporalAdjusters;
+
+// 사용자별 주간 / 월간 설문 집계 (추이 차트용)
+// 집계 작업이 워터마크 이후 설문만 읽어 차이만큼 더하고, 평균은 합계 / 개수로 계산
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name="quit_survey_rollup")
+public class QuitSurveyRollup extends BaseEntity {
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name="user_id", nullable=false)
+    private Long userId;
+
+    @Column(name="period_type", nullable=false, length=10)
+    @Enumerated(EnumType.STRING)
+    private Period periodType;
+
+    @Column(name="period_start", nullable=false)
+    private LocalDate periodStart; // 주 : 월요일, 월 : 1일
+
+    @Column(name="total_surveys", nullable=false)
+    private long totalSurveys;
+
+    @Column(name="success_count", nullable=false)
+    private long successCount;
+
+    @Column(name="stress_sum", nullable=false)
+    private long stressSum;
+
+    @Column(name="stress_count", nullable=false)
+    private long stressCount;
+
+    @Column(name="craving_sum", nullable=false)
+    private long cravingSum;
+
+    @Column(name="craving_count", nullable=false)
+    private long cravingCount;
+
+    public QuitSurveyRollup(Long userId, Period periodType, LocalDate periodStart) {
+        this.userId = userId;
+        this.periodType = periodType;
+        this.periodStart = periodStart;
+    }
+
+    // 설문 한 건 (또는 수정 전후 차이) 더하기
+    public void add(long total, long success, long stressSum, long stressCount, long cravingSum, long cravingCount) {
+        this.totalSurveys += total;
+        this.successCount += success;
+        this.stressSum += stressSum;
+        this.stressCount += stressCount;
+        this.cravingSum += cravingSum;
+        this.cravingCount += cravingCount;
+    }
+
+    public enum Period {
+        WEEK, // 월요일 시작
+        MONTH;
+
+        public LocalDate startOf(LocalDate day) {
+            return this == WEEK
+                    ? day.with(TemporalAdjusters.previousOrSame(DayOfWeek.MONDAY))
+                    : day.withDayOfMonth(1);
+        }
+
+        public LocalDate plus(LocalDate periodStart, long amount) {
+            return this == WEEK ? periodStart.plusWeeks(amount) : periodStart.plusMonths(amount);
+        }
+    }
+}
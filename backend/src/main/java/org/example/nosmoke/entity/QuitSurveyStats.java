@@ -0,0 +1,67 @@
+package org.example.nosmoke.entity;
+
+import jakarta.persistence.*;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 사용자별 설문 통계 누적값 (설문 저장 / 수정 시 차이만큼 갱신)
+// 통계 조회는 설문 기록 대신 이 한 행만 읽는다
+// 평균은 값이 입력된 설문만 대상으로 (합계 / 개수) 계산
+@Getter
+@NoArgsConstructor
+@Entity
+@Table(name="quit_survey_stats")
+public class QuitSurveyStats extends BaseEntity {
+    @Id
+    @Column(name="user_id")
+    private Long userId;
+
+    @Column(name="total_surveys", nullable=false)
+    private long totalSurveys; // 설문 전체 수
+
+    @Column(name="success_count", nullable=false)
+    private long successCount; // 금연 성공 설문 수
+
+    @Column(name="stress_sum", nullable=false)
+    private long stressSum; // 스트레스 수준 합계
+
+    @Column(name="stress_count", nullable=false)
+    private long stressCount; // 스트레스 수준이 입력된 설문 수
+
+    @Column(name="craving_sum", nullable=false)
+    private long cravingSum; // 흡연 충동 수준 합계
+
+    @Column(name="craving_count", nullable=false)
+    private long cravingCount; // 흡연 충동 수준이 입력된 설문 수
+
+    public QuitSurveyStats(Long userId, long totalSurveys, long successCount,
+                           long stressSum, long stressCount, long cravingSum, long cravingCount) {
+        this.userId = userId;
+        this.totalSurveys = totalSurveys;
+        this.successCount = successCount;
+        this.stressSum = stressSum;
+        this.stressCount = stressCount;
+        this.cravingSum = cravingSum;
+        this.cravingCount = cravingCount;
+    }
+
+    // 다시 계산한 값과 같은지 (보정 작업의 오차 확인용)
+    public boolean sameAs(QuitSurveyStats other) {
+        return totalSurveys == other.totalSurveys
+                && successCount == other.successCount
+                && stressSum == other.stressSum
+                && stressCount == other.stressCount
+                && cravingSum == other.cravingSum
+                && cravingCount == other.cravingCount;
+    }
+
+    // 전체 기록으로 다시 계산한 값으로 덮어쓰기 (보정용)
+    public void overwrite(QuitSurveyStats calculated) {
+        this.totalSurveys = calculated.totalSurveys;
+        this.successCount = calculated.successCount;
+        this.stressSum = calculated.stressSum;
+        this.stressCount = calculated.stressCount;
+        this.cravingSum = calculated.cravingSum;
+        this.cravingCount = calculated.cravingCount;
+    }
+}
@@ -0,0 +1,29 @@
+package org.example.nosmoke.entity;
+
+import jakarta.persistence.*;
+import lombok.AccessLevel;
+import lombok.Getter;
+import lombok.NoArgsConstructor;
+
+// 집계 작업이 어디까지 읽었는지 (원본 테이블 id 기준) - 다음 실행은 last_id 이후만 읽는다
+@Getter
+@NoArgsConstructor(access = AccessLevel.PROTECTED)
+@Entity
+@Table(name="rollup_watermark")
+public class RollupWatermark extends BaseEntity {
+    @Id
+    @Column(length=50)
+    private String name;
+
+    @Column(name="last_id", nullable=false)
+    private long lastId;
+
+    public RollupWatermark(String name, long lastId) {
+        this.name = name;
+        this.lastId = lastId;
+    }
+
+    public void advance(long lastId) {
+        this.lastId = lastId;
+    }
+}
@@ -3,6 +3,10 @@ package org.example.nosmoke.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 
 import java.time.LocalDate;
 import java.time.LocalDateTime;
@@ -12,13 +16,17 @@ import java.time.temporal.ChronoUnit;
 @Getter
 @NoArgsConstructor
 @Entity
-
+// 대시보드 / 채팅 문맥에서 매번 읽고 변경은 드묾 - 2차 캐시 (user_id 조회는 자연 키 캐시, uk_smoking_info_user)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "smoking-info")
+@NaturalIdCache(region = "smoking-info-natural-id")
 @Table(name="smoking_info")
 public class SmokingInfo extends BaseEntity{
     @Id
     @GeneratedValue(strategy = GenerationType.IDENTITY)
     public Long id;
 
+    @NaturalId
     @Column(name="user_id", nullable = false)
     public Long userId;
 
@@ -3,6 +3,10 @@ package org.example.nosmoke.entity;
 import jakarta.persistence.*;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
+import org.hibernate.annotations.Cache;
+import org.hibernate.annotations.CacheConcurrencyStrategy;
+import org.hibernate.annotations.NaturalId;
+import org.hibernate.annotations.NaturalIdCache;
 import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 
 @Entity
@@ -10,14 +14,23 @@ import org.springframework.data.jpa.domain.support.AuditingEntityListener;
 @Getter
 @NoArgsConstructor
 // NoArgsConstructor = 기본 생성자를 자동으로 만들어 주는 어노테이션
+// 거의 모든 요청(인증, 대시보드, 채팅 문맥)에서 읽고 변경은 드묾 - 2차 캐시 (이메일 조회는 자연 키 캐시)
+@Cacheable
+@Cache(usage = CacheConcurrencyStrategy.READ_WRITE, region = "user")
+@NaturalIdCache(region = "user-natural-id")
 public class User extends BaseEntity {
+    // 시퀀스 대용 테이블(id_sequence)에서 50개씩 구간을 받아 ID 배정 - IDENTITY 와 달리 INSERT 를 JDBC 배치로 묶을 수 있음
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @GeneratedValue(strategy = GenerationType.TABLE, generator = "user_id_generator")
+    @TableGenerator(name = "user_id_generator", table = "id_sequence",
+            pkColumnName = "sequence_name", valueColumnName = "next_val",
+            pkColumnValue = "users", allocationSize = 50)
     private Long id;
 
     @Column(nullable=false, length=100)
     private String name;
 
+    @NaturalId // 가입 후 바뀌지 않음
     @Column(nullable=false, unique=true)
     private String email;
 
@@ -27,6 +40,10 @@ public class User extends BaseEntity {
     @Column(nullable=false)
     private int point = 0;
 
+    // 보안 버전 - 올리면 그 전에 발급된 토큰이 모두 무효 (SecurityVersionService, Redis 는 앞단 캐시)
+    @Column(nullable=false)
+    private long securityVersion = 0;
+
     public User(String name, String email, String password, int point) {
         this.name = name;
         this.email = email;
@@ -46,4 +63,8 @@ public class User extends BaseEntity {
     public void updatePassword(String encodedPassword) {
         this.password = encodedPassword;
     }
+
+    public long increaseSecurityVersion() {
+        return ++this.securityVersion;
+    }
 }
@@ -0,0 +1,16 @@
+package org.example.nosmoke.exception;
+
+import lombok.Getter;
+
+// 서버가 감당할 수 있는 양을 넘는 요청 --> 429 Too Many Requests + Retry-After 로 응답
+@Getter
+public class TooManyRequestsException extends RuntimeException {
+
+    // 클라이언트가 다시 시도하기까지 기다려야 하는 시간(초)
+    private final long retryAfterSeconds;
+
+    public TooManyRequestsException(String message, long retryAfterSeconds) {
+        super(message);
+        this.retryAfterSeconds = retryAfterSeconds;
+    }
+}
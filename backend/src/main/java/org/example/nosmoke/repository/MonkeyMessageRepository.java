@@ -1,11 +1,19 @@
 package org.example.nosmoke.repository;
 
+import jakarta.persistence.QueryHint;
+import org.example.nosmoke.dto.monkey.MonkeyMessageExportDto;
 import org.example.nosmoke.entity.MonkeyMessage;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.domain.Pageable;
 import org.springframework.data.domain.Slice;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.stream.Stream;
+
 
 @Repository
 public interface MonkeyMessageRepository extends JpaRepository<MonkeyMessage, Long> {
@@ -13,4 +21,12 @@ public interface MonkeyMessageRepository extends JpaRepository<MonkeyMessage, Lo
     // 쿼리 실행 시 limit + 1개를 가져와서 다음 페이지 존재 여부만 체크한다(Count 쿼리가 안나간다)
     Slice<MonkeyMessage> findByUser_IdOrderByCreatedAtDesc(Long userId, Pageable pageable) ;
 
+    // 계정 데이터 내보내기 - 한 건씩 읽어 바로 내보냄 ((user_id, created_at) 인덱스 순서, 행 단위 스트리밍은 QuitSurveyRepository 와 같음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new org.example.nosmoke.dto.monkey.MonkeyMessageExportDto(m.id, m.messageType, m.content, m.createdAt) " +
+            "FROM MonkeyMessage m " +
+            "WHERE m.user.id = :userId " +
+            "ORDER BY m.createdAt, m.id")
+    Stream<MonkeyMessageExportDto> streamExportByUserId(@Param("userId") Long userId);
+
 }
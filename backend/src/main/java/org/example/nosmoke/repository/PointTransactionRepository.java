@@ -0,0 +1,15 @@
+package org.example.nosmoke.repository;
+
+import org.example.nosmoke.entity.PointTransaction;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+@Repository
+public interface PointTransactionRepository extends JpaRepository<PointTransaction, Long> {
+
+    // 원장 기준 잔액 - (user_id, id) 인덱스 범위만 읽음
+    @Query("SELECT COALESCE(SUM(t.amount), 0) FROM PointTransaction t WHERE t.userId = :userId")
+    long sumAmountByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,20 @@
+package org.example.nosmoke.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.nosmoke.entity.QuitStreak;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QuitStreakRepository extends JpaRepository<QuitStreak, Long> {
+
+    // 같은 사용자의 설문이 동시에 저장될 때 갱신이 유실되지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuitStreak s WHERE s.userId = :userId")
+    Optional<QuitStreak> findByUserIdForUpdate(@Param("userId") Long userId);
+}
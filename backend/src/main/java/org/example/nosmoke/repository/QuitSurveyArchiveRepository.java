@@ -0,0 +1,50 @@
+package org.example.nosmoke.repository;
+
+import jakarta.persistence.QueryHint;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyExportDto;
+import org.example.nosmoke.entity.QuitSurveyArchive;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Pageable;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.stream.Stream;
+
+// 보관된 설문 조회 - QuitSurveyRepository 의 기록 / 내보내기 쿼리와 같은 조건, 같은 정렬
+@Repository
+public interface QuitSurveyArchiveRepository extends JpaRepository<QuitSurveyArchive, Long> {
+
+    // 설문 기록 첫 페이지 (최신 순, (user_id, created_at, id) 인덱스 사용)
+    @Query("SELECT q FROM QuitSurveyArchive q " +
+            "WHERE q.userId = :userId " +
+            "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuitSurveyArchive> findFirstPageByUserId(@Param("userId") Long userId, Pageable pageable);
+
+    // 설문 기록 다음 페이지 - 커서(createdAt, id) 보다 오래된 것만
+    @Query("SELECT q FROM QuitSurveyArchive q " +
+            "WHERE q.userId = :userId " +
+            "AND (q.createdAt < :createdAt OR (q.createdAt = :createdAt AND q.id < :id)) " +
+            "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuitSurveyArchive> findPageByUserIdBefore(@Param("userId") Long userId,
+                                                   @Param("createdAt") LocalDateTime createdAt,
+                                                   @Param("id") Long id,
+                                                   Pageable pageable);
+
+    // 마지막 설문 시각 (quit_survey 에 기록이 하나도 남지 않은 사용자용)
+    @Query("SELECT MAX(q.createdAt) FROM QuitSurveyArchive q WHERE q.userId = :userId")
+    LocalDateTime findLastCreatedAtByUserId(@Param("userId") Long userId);
+
+    // 계정 데이터 내보내기 - 한 건씩 읽어 바로 내보냄 (트랜잭션 안에서 닫아야 함, 행 단위 스트리밍은 QuitSurveyRepository 와 같음)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new org.example.nosmoke.dto.quitsurvey.QuitSurveyExportDto(" +
+            "q.id, q.surveyDate, q.isSuccess, q.stressLevel, q.stressCause, q.cravingLevel, q.additionalNotes, q.createdAt, q.modifiedAt) " +
+            "FROM QuitSurveyArchive q " +
+            "WHERE q.userId = :userId " +
+            "ORDER BY q.createdAt, q.id")
+    Stream<QuitSurveyExportDto> streamExportByUserId(@Param("userId") Long userId);
+}
@@ -0,0 +1,54 @@
+package org.example.nosmoke.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Date;
+import java.sql.PreparedStatement;
+import java.sql.SQLException;
+import java.sql.Timestamp;
+import java.sql.Types;
+import java.time.LocalDateTime;
+import java.util.List;
+
+// 설문 대량 저장 - quit_survey 는 AUTO_INCREMENT(IDENTITY)라 Hibernate 배치가 꺼지므로 JdbcTemplate 배치 INSERT 로 저장
+// 현재 트랜잭션의 커넥션을 그대로 사용 (JPA 트랜잭션과 함께 커밋 / 롤백)
+@Repository
+@RequiredArgsConstructor
+public class QuitSurveyBatchRepository {
+
+    private static final int BATCH_SIZE = 100;
+
+    private static final String INSERT_SQL = "INSERT INTO quit_survey " +
+            "(user_id, survey_date, is_success, stress_level, stress_cause, craving_level, additional_notes, created_at, modified_at) " +
+            "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // surveyDate 가 있는 설문만 저장 - 작성일(created_at)은 그날 0시 (기록 순서 / 달력이 날짜 기준으로 맞도록)
+    // (user_id, survey_date) 가 이미 있으면 DuplicateKeyException
+    public void insertAll(List<QuitSurvey> surveys) {
+        Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+        jdbcTemplate.batchUpdate(INSERT_SQL, surveys, BATCH_SIZE, (ps, survey) -> {
+            ps.setLong(1, survey.getUserId());
+            ps.setDate(2, Date.valueOf(survey.getSurveyDate()));
+            ps.setBoolean(3, survey.isSuccess());
+            setNullableInt(ps, 4, survey.getStressLevel());
+            ps.setString(5, survey.getStressCause());
+            setNullableInt(ps, 6, survey.getCravingLevel());
+            ps.setString(7, survey.getAdditionalNotes());
+            ps.setTimestamp(8, Timestamp.valueOf(survey.getSurveyDate().atStartOfDay()));
+            ps.setTimestamp(9, now);
+        });
+    }
+
+    private static void setNullableInt(PreparedStatement ps, int index, Integer value) throws SQLException {
+        if (value == null) {
+            ps.setNull(index, Types.INTEGER);
+        } else {
+            ps.setInt(index, value);
+        }
+    }
+}
@@ -0,0 +1,126 @@
+package org.example.nosmoke.repository;
+
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyPartitionDto;
+import org.springframework.jdbc.core.ConnectionCallback;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.stereotype.Repository;
+
+import java.sql.Statement;
+import java.time.LocalDate;
+import java.util.Arrays;
+import java.util.List;
+import java.util.regex.Pattern;
+import java.util.stream.Collectors;
+
+// quit_survey 월별 파티션 관리 (MySQL 전용 DDL - V11 마이그레이션 참고)
+// 파티션 이름은 SQL 에 그대로 들어가므로 정해진 형식(p_history, pYYYYMM, pmax)만 허용
+@Repository
+@RequiredArgsConstructor
+public class QuitSurveyPartitionRepository {
+
+    public static final String MAX_PARTITION = "pmax";
+
+    private static final Pattern PARTITION_NAME = Pattern.compile("p_history|p\\d{6}|pmax");
+
+    private static final String COLUMNS = "id, user_id, survey_date, is_success, stress_level, stress_cause, " +
+            "craving_level, additional_notes, created_at, modified_at";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    // 파티션 순서대로 - V11 적용 전(파티션 없는 테이블)이면 빈 목록
+    public List<QuitSurveyPartitionDto> findPartitions() {
+        return jdbcTemplate.query(
+                "SELECT PARTITION_NAME, PARTITION_DESCRIPTION FROM information_schema.PARTITIONS " +
+                        "WHERE TABLE_SCHEMA = DATABASE() AND TABLE_NAME = 'quit_survey' AND PARTITION_NAME IS NOT NULL " +
+                        "ORDER BY PARTITION_ORDINAL_POSITION",
+                (rs, rowNum) -> new QuitSurveyPartitionDto(rs.getString(1), parseLessThan(rs.getString(2))));
+    }
+
+    // 비어 있는 pmax 를 잘라 새 월 파티션을 만듦 (pmax 에 행이 없으면 데이터 이동 없음)
+    public void splitMaxPartition(String name, LocalDate lessThan) {
+        jdbcTemplate.execute("ALTER TABLE quit_survey REORGANIZE PARTITION " + MAX_PARTITION + " INTO (" +
+                "PARTITION " + checkName(name) + " VALUES LESS THAN ('" + lessThan + "'), " +
+                "PARTITION " + MAX_PARTITION + " VALUES LESS THAN (MAXVALUE))");
+    }
+
+    public Long findMaxId(String partition) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM quit_survey PARTITION (" + checkName(partition) + ")", Long.class);
+    }
+
+    // afterId 다음부터 limit 건째의 id (남은 행이 없으면 null) - 보관 테이블로 나눠 옮길 구간의 끝
+    public Long findBatchEndId(String partition, long afterId, int limit) {
+        return jdbcTemplate.queryForObject(
+                "SELECT MAX(id) FROM (SELECT id FROM quit_survey PARTITION (" + checkName(partition) + ") " +
+                        "WHERE id > ? ORDER BY id LIMIT ?) batch",
+                Long.class, afterId, limit);
+    }
+
+    // (afterId, upToId] 구간을 보관 테이블로 복사 - 이미 복사된 행은 건너뛰므로 중간에 실패해도 다시 실행하면 됨
+    public int copyToArchive(String partition, long afterId, long upToId) {
+        return jdbcTemplate.update(
+                "INSERT IGNORE INTO quit_survey_archive (" + COLUMNS + ") " +
+                        "SELECT " + COLUMNS + " FROM quit_survey PARTITION (" + checkName(partition) + ") " +
+                        "WHERE id > ? AND id <= ?",
+                afterId, upToId);
+    }
+
+    // 마지막 복사 + 파티션 삭제를 테이블 잠금 안에서 한 번에 - 다시 복사한 설문 수 반환
+    // 나눠 복사하는 동안 마지막 구간 뒤에 들어온 설문, 이미 복사된 구간에서 수정된 설문을 옮긴 뒤 지우므로 잃는 행이 없음
+    // (id 는 AUTO_INCREMENT 라도 커밋 순서가 아니라 먼저 받은 작은 id 가 복사된 구간 안에 늦게 보일 수 있음)
+    // 잠금 동안 quit_survey 쓰기가 막히므로 나눠 복사를 끝낸 뒤(남은 차이가 작을 때)에만 호출
+    // LOCK TABLES 는 커넥션 단위라 한 커넥션에서 잠금 ~ 해제까지 처리 (풀에 돌려주기 전에 반드시 해제)
+    public int copyChangedAndDropPartition(String partition) {
+        String name = checkName(partition);
+        Integer copied = jdbcTemplate.execute((ConnectionCallback<Integer>) connection -> {
+            try (Statement statement = connection.createStatement()) {
+                // 별칭으로 읽는 테이블은 별칭마다 잠가야 함
+                statement.execute("LOCK TABLES quit_survey WRITE, quit_survey AS q READ, " +
+                        "quit_survey_archive WRITE, quit_survey_archive AS a READ");
+                try {
+                    int changed = statement.executeUpdate(
+                            "INSERT INTO quit_survey_archive (" + COLUMNS + ") " +
+                                    "SELECT " + prefixed("q") + " FROM quit_survey PARTITION (" + name + ") q " +
+                                    "WHERE NOT EXISTS (SELECT 1 FROM quit_survey_archive a " +
+                                    "WHERE a.id = q.id AND a.modified_at <=> q.modified_at) " +
+                                    "ON DUPLICATE KEY UPDATE " + updateFrom("q"));
+                    statement.execute("ALTER TABLE quit_survey DROP PARTITION " + name);
+                    return changed;
+                } finally {
+                    statement.execute("UNLOCK TABLES");
+                }
+            }
+        });
+        return copied == null ? 0 : copied;
+    }
+
+    private static String prefixed(String alias) {
+        return Arrays.stream(COLUMNS.split(", "))
+                .map(column -> alias + "." + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    // id 를 뺀 나머지 컬럼을 보관 테이블에 덮어씀 (복사 후 수정된 설문)
+    private static String updateFrom(String alias) {
+        return Arrays.stream(COLUMNS.split(", "))
+                .filter(column -> !column.equals("id"))
+                .map(column -> column + " = " + alias + "." + column)
+                .collect(Collectors.joining(", "));
+    }
+
+    private static String checkName(String name) {
+        if (!PARTITION_NAME.matcher(name).matches()) {
+            throw new IllegalArgumentException("잘못된 파티션 이름입니다. name = " + name);
+        }
+        return name;
+    }
+
+    // RANGE COLUMNS 파티션의 경계값은 '2026-02-01' 처럼 따옴표로 감싸져 있음
+    private static LocalDate parseLessThan(String description) {
+        if (description == null || "MAXVALUE".equalsIgnoreCase(description)) {
+            return null;
+        }
+        return LocalDate.parse(description.replace("'", ""));
+    }
+}
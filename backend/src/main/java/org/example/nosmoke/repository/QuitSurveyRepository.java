@@ -1,24 +1,207 @@
 package org.example.nosmoke.repository;
 
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.nosmoke.dto.quitsurvey.CheckInDayDto;
+import org.example.nosmoke.dto.quitsurvey.QuitStreakSummaryDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyExportDto;
 import org.example.nosmoke.dto.quitsurvey.QuitSurveyLightDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyRollupRowDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTotalsDto;
 import org.example.nosmoke.entity.QuitSurvey;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
 import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
 import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
 import org.springframework.data.domain.Pageable;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
 @Repository
 public interface QuitSurveyRepository extends JpaRepository<QuitSurvey, Long> {
     List<QuitSurvey> findByUserId(Long userId);
 
-    List<QuitSurvey> findTop5ByUserIdOrderByCreatedAtDesc(Long userId);
+    // 최근 5개 - created_at 순이지만 survey_date 하한(from)을 함께 걸어 그 이후 월 파티션만 읽음
+    List<QuitSurvey> findTop5ByUserIdAndSurveyDateGreaterThanEqualOrderByCreatedAtDesc(Long userId, LocalDate from);
+
+    // 하루 한 번 설문 저장 - (user_id, survey_date) 가 이미 있으면 기존 행을 바꾸지 않음 (유니크 키가 마지막 방어선)
+    // INSERT IGNORE 는 중복 키 외의 오류(문자열 길이 초과 등)까지 경고로 바꿔 저장해버리므로 ON DUPLICATE KEY UPDATE id = id 사용
+    // 반환값은 드라이버 설정(CLIENT_FOUND_ROWS)상 새로 저장해도 / 중복이어도 1 이라 중복 확인에 쓰지 않음
+    // --> 호출하는 쪽이 사용자 행 잠금 후 findByUserIdAndSurveyDateForShare 로 먼저 확인
+    // (quit_survey 로 한정하지 않으면 네이티브 쿼리마다 2차 캐시 전체가 비워짐)
+    @Modifying
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quit_survey"))
+    @Query(value = "INSERT INTO quit_survey " +
+            "(user_id, survey_date, is_success, stress_level, stress_cause, craving_level, additional_notes, created_at, modified_at) " +
+            "VALUES (:userId, :surveyDate, :isSuccess, :stressLevel, :stressCause, :cravingLevel, :additionalNotes, :now, :now) " +
+            "ON DUPLICATE KEY UPDATE id = id",
+            nativeQuery = true)
+    int insertIfAbsent(@Param("userId") Long userId,
+                       @Param("surveyDate") LocalDate surveyDate,
+                       @Param("isSuccess") boolean isSuccess,
+                       @Param("stressLevel") Integer stressLevel,
+                       @Param("stressCause") String stressCause,
+                       @Param("cravingLevel") Integer cravingLevel,
+                       @Param("additionalNotes") String additionalNotes,
+                       @Param("now") LocalDateTime now);
+
+    // 유니크 키 (user_id, survey_date) 로 한 건 조회
+    Optional<QuitSurvey> findByUserIdAndSurveyDate(Long userId, LocalDate surveyDate);
+
+    // 유니크 키 (user_id, survey_date) 로 한 건 잠금 읽기 (FOR SHARE)
+    // 일반 조회는 REPEATABLE READ 스냅샷을 읽어 그 뒤에 다른 트랜잭션이 커밋한 설문이 보이지 않지만, 잠금 읽기는 최신 커밋 값을 읽음
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT q FROM QuitSurvey q WHERE q.userId = :userId AND q.surveyDate = :surveyDate")
+    Optional<QuitSurvey> findByUserIdAndSurveyDateForShare(@Param("userId") Long userId,
+                                                          @Param("surveyDate") LocalDate surveyDate);
+
+    // 일괄 등록 시 이미 설문이 있는 날짜 (유니크 키 (user_id, survey_date) 범위 조회)
+    // quit_survey 만 봄 - 일괄 등록은 보관 기준일 전 날짜를 받지 않으므로 quit_survey_archive 에 있는 날짜와 겹치지 않음
+    @Query("SELECT q.surveyDate FROM QuitSurvey q " +
+            "WHERE q.userId = :userId AND q.surveyDate BETWEEN :from AND :to")
+    List<LocalDate> findSurveyDatesBetween(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           @Param("to") LocalDate to);
+
+    // 설문 기록 첫 페이지 (최신 순, (user_id, created_at, id) 인덱스 사용)
+    // 파티션 키가 survey_date 라 created_at 조건만으로는 모든 월 파티션을 읽음 --> survey_date >= :from 으로 최근 파티션만
+    // (EXPLAIN 의 partitions 컬럼에 from 이후 파티션만 나옴 - 범위를 정하는 방법은 QuitSurveyService.findRecentPage)
+    @Query("SELECT q FROM QuitSurvey q " +
+            "WHERE q.userId = :userId AND q.surveyDate >= :from " +
+            "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuitSurvey> findFirstPageByUserId(@Param("userId") Long userId,
+                                           @Param("from") LocalDate from,
+                                           Pageable pageable);
+
+    // 설문 기록 다음 페이지 - 이전 페이지 마지막 설문(createdAt, id) 보다 오래된 것만 (OFFSET 없이 인덱스에서 바로 이어 읽음)
+    // 설문 날짜는 작성일보다 늦을 수 없으므로 survey_date <= :to (커서의 작성일) 로 위쪽 파티션도 건너뜀
+    @Query("SELECT q FROM QuitSurvey q " +
+            "WHERE q.userId = :userId AND q.surveyDate >= :from AND q.surveyDate <= :to " +
+            "AND (q.createdAt < :createdAt OR (q.createdAt = :createdAt AND q.id < :id)) " +
+            "ORDER BY q.createdAt DESC, q.id DESC")
+    List<QuitSurvey> findPageByUserIdBefore(@Param("userId") Long userId,
+                                            @Param("from") LocalDate from,
+                                            @Param("to") LocalDate to,
+                                            @Param("createdAt") LocalDateTime createdAt,
+                                            @Param("id") Long id,
+                                            Pageable pageable);
+
+    // 설문 통계 누적값을 전체 기록으로 다시 계산 (보정 작업 / 누적값이 없는 사용자용)
+    // 평균은 값이 입력된 설문만 대상 - COUNT(컬럼)은 NULL 을 세지 않음
+    // 전체 기록을 읽는 집계는 보관 테이블(quit_survey_archive)까지 합쳐서 계산
+    @Query(value = "SELECT COUNT(*) AS `totalSurveys`, " +
+            "       COALESCE(SUM(CASE WHEN is_success = TRUE THEN 1 ELSE 0 END), 0) AS `successCount`, " +
+            "       COALESCE(SUM(stress_level), 0) AS `stressSum`, " +
+            "       COUNT(stress_level) AS `stressCount`, " +
+            "       COALESCE(SUM(craving_level), 0) AS `cravingSum`, " +
+            "       COUNT(craving_level) AS `cravingCount` " +
+            "FROM (SELECT is_success, stress_level, craving_level FROM quit_survey WHERE user_id = :userId " +
+            "      UNION ALL " +
+            "      SELECT is_success, stress_level, craving_level FROM quit_survey_archive WHERE user_id = :userId) s",
+            nativeQuery = true)
+    QuitSurveyTotalsDto calculateTotalsByUserId(@Param("userId") Long userId);
+
+    // 그날 성공한 설문이 있는지 (설문 수정 후 체크인 달력 보정용)
+    // survey_date 조건이라 유니크 키 (user_id, survey_date) 로 그 달 파티션만 읽음
+    @Query("SELECT COUNT(q) > 0 FROM QuitSurvey q " +
+            "WHERE q.userId = :userId AND q.surveyDate = :surveyDate AND q.isSuccess = true")
+    boolean existsSuccessOnDate(@Param("userId") Long userId, @Param("surveyDate") LocalDate surveyDate);
 
     // pageable 추가 : 원하는 LIMIT 만큼 잘라보기
+    // survey_date >= :from 으로 최근 파티션만 읽음 (survey_date 는 PK 라 보조 인덱스에도 들어 있어 인덱스만으로 처리)
     @Query("SELECT new org.example.nosmoke.dto.quitsurvey.QuitSurveyLightDto(q.isSuccess, q.createdAt) " +
             "FROM QuitSurvey q " +
-            "WHERE q.userId = :userId " +
+            "WHERE q.userId = :userId AND q.surveyDate >= :from " +
             "ORDER BY q.createdAt DESC") // 최신 순으로, 금연 몇일 했는지
-    List<QuitSurveyLightDto> findAllLightByUserId(@Param("userId") Long userId, Pageable pageable);
+    List<QuitSurveyLightDto> findAllLightByUserId(@Param("userId") Long userId,
+                                                  @Param("from") LocalDate from,
+                                                  Pageable pageable);
+
+    // 스트릭 재계산용 - 전체 기록을 애플리케이션으로 읽지 않고 DB 에서 집계 (gaps-and-islands)
+    // 작성 순서 번호에서 성공/실패별 순서 번호를 빼면 같은 연속 구간(island)끼리 같은 값(grp)이 된다
+    // 성공 구간의 길이 중 최대값 = 최장 스트릭, 마지막 설문으로 끝나는 성공 구간의 길이 = 현재 스트릭
+    // (별칭은 H2 가 대문자로 바꾸지 않도록 백틱으로 감쌈 - 프로젝션 매핑용)
+    @Query(value = "WITH all_surveys AS ( " +
+            "  SELECT id, is_success, created_at FROM quit_survey WHERE user_id = :userId " +
+            "  UNION ALL " +
+            "  SELECT id, is_success, created_at FROM quit_survey_archive WHERE user_id = :userId " +
+            "), ordered AS ( " +
+            "  SELECT is_success, " +
+            "         ROW_NUMBER() OVER (ORDER BY created_at, id) AS rn, " +
+            "         ROW_NUMBER() OVER (ORDER BY created_at, id) " +
+            "           - ROW_NUMBER() OVER (PARTITION BY is_success ORDER BY created_at, id) AS grp " +
+            "  FROM all_surveys " +
+            "), islands AS ( " +
+            "  SELECT COUNT(*) AS len, MAX(rn) AS last_rn " +
+            "  FROM ordered " +
+            "  WHERE is_success = TRUE " +
+            "  GROUP BY grp " +
+            ") " +
+            "SELECT COALESCE((SELECT SUM(len) FROM islands), 0) AS `totalSuccesses`, " +
+            "       COALESCE((SELECT MAX(len) FROM islands), 0) AS `longestStreak`, " +
+            "       COALESCE((SELECT len FROM islands WHERE last_rn = (SELECT MAX(rn) FROM ordered)), 0) AS `currentStreak`",
+            nativeQuery = true)
+    QuitStreakSummaryDto summarizeStreakByUserId(@Param("userId") Long userId);
+
+    // 마지막 설문 시각 (설문이 없으면 null)
+    @Query("SELECT MAX(q.createdAt) FROM QuitSurvey q WHERE q.userId = :userId")
+    LocalDateTime findLastCreatedAtByUserId(@Param("userId") Long userId);
+
+    // 설문 기록은 있지만 스트릭 요약이 아직 없는 사용자 (백필 대상)
+    @Query("SELECT DISTINCT q.userId FROM QuitSurvey q " +
+            "WHERE NOT EXISTS (SELECT 1 FROM QuitStreak s WHERE s.userId = q.userId) " +
+            "ORDER BY q.userId")
+    List<Long> findUserIdsWithoutStreak(Pageable pageable);
+
+    // 체크인 달력 재구성용 - 날짜별로 묶어 설문한 날 / 성공한 날만 조회
+    @Query(value = "SELECT CAST(created_at AS DATE) AS `day`, " +
+            "       MAX(CASE WHEN is_success = TRUE THEN 1 ELSE 0 END) AS `success` " +
+            "FROM (SELECT is_success, created_at FROM quit_survey WHERE user_id = :userId " +
+            "      UNION ALL " +
+            "      SELECT is_success, created_at FROM quit_survey_archive WHERE user_id = :userId) s " +
+            "GROUP BY CAST(created_at AS DATE)",
+            nativeQuery = true)
+    List<CheckInDayDto> findCheckInDaysByUserId(@Param("userId") Long userId);
+
+    // 설문 기록이 있는 사용자 (userId 순 키셋 페이징)
+    @Query("SELECT DISTINCT q.userId FROM QuitSurvey q WHERE q.userId > :afterUserId ORDER BY q.userId")
+    List<Long> findUserIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+
+    // 집계 작업 - 워터마크 이후 설문 중 마지막 수정이 cutoff 이전인 것의 최대 id
+    // 방금 저장된(아직 커밋 전일 수 있는) 설문 앞에서 멈춰, 늦게 커밋된 작은 id 를 건너뛰지 않도록
+    @Query("SELECT MAX(q.id) FROM QuitSurvey q WHERE q.id > :afterId AND q.modifiedAt <= :settledBefore")
+    Long findMaxIdSettledBefore(@Param("afterId") Long afterId, @Param("settledBefore") LocalDateTime settledBefore);
+
+    // 집계 작업 - (afterId, upToId] 구간 설문을 id 순으로 (PK 범위 조회)
+    // 보관 테이블도 함께 읽음 - 집계 전에 옮겨진 설문(V11 에서 옮긴 유니크 키 도입 전 중복 설문)도 빠지지 않도록
+    // (파티션 관리 작업은 워터마크를 지난 파티션만 옮기므로 같은 설문이 두 번 집계되지 않음)
+    @Query(value = "SELECT id AS `id`, user_id AS `userId`, survey_date AS `surveyDate`, created_at AS `createdAt`, " +
+            "       is_success AS `success`, stress_level AS `stressLevel`, craving_level AS `cravingLevel` " +
+            "FROM (SELECT id, user_id, survey_date, created_at, is_success, stress_level, craving_level " +
+            "      FROM quit_survey WHERE id > :afterId AND id <= :upToId " +
+            "      UNION ALL " +
+            "      SELECT id, user_id, survey_date, created_at, is_success, stress_level, craving_level " +
+            "      FROM quit_survey_archive WHERE id > :afterId AND id <= :upToId) s " +
+            "ORDER BY id",
+            nativeQuery = true)
+    List<QuitSurveyRollupRowDto> findRollupRows(@Param("afterId") Long afterId,
+                                                @Param("upToId") Long upToId,
+                                                Pageable pageable);
+
+    // 계정 데이터 내보내기 - 한 건씩 읽어 바로 내보냄 (트랜잭션 안에서 닫아야 함)
+    // fetch size Integer.MIN_VALUE : MySQL Connector/J 가 이 쿼리만 행 단위로 흘려받음 - 다 읽고 닫기 전까지 같은 커넥션에서 다른 쿼리 불가
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE))
+    @Query("SELECT new org.example.nosmoke.dto.quitsurvey.QuitSurveyExportDto(" +
+            "q.id, q.surveyDate, q.isSuccess, q.stressLevel, q.stressCause, q.cravingLevel, q.additionalNotes, q.createdAt, q.modifiedAt) " +
+            "FROM QuitSurvey q " +
+            "WHERE q.userId = :userId " +
+            "ORDER BY q.createdAt, q.id")
+    Stream<QuitSurveyExportDto> streamExportByUserId(@Param("userId") Long userId);
 }
@@ -0,0 +1,40 @@
+package org.example.nosmoke.repository;
+
+import org.example.nosmoke.entity.QuitSurveyRollup;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.time.LocalDate;
+import java.util.List;
+
+@Repository
+public interface QuitSurveyRollupRepository extends JpaRepository<QuitSurveyRollup, Long> {
+
+    // 차이만큼 한 문장으로 더함 (해당 기간 행이 없으면 0 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE QuitSurveyRollup r SET " +
+            "r.totalSurveys = r.totalSurveys + :total, " +
+            "r.successCount = r.successCount + :success, " +
+            "r.stressSum = r.stressSum + :stressSum, " +
+            "r.stressCount = r.stressCount + :stressCount, " +
+            "r.cravingSum = r.cravingSum + :cravingSum, " +
+            "r.cravingCount = r.cravingCount + :cravingCount, " +
+            "r.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE r.userId = :userId AND r.periodType = :periodType AND r.periodStart = :periodStart")
+    int addDelta(@Param("userId") Long userId,
+                 @Param("periodType") QuitSurveyRollup.Period periodType,
+                 @Param("periodStart") LocalDate periodStart,
+                 @Param("total") long total,
+                 @Param("success") long success,
+                 @Param("stressSum") long stressSum,
+                 @Param("stressCount") long stressCount,
+                 @Param("cravingSum") long cravingSum,
+                 @Param("cravingCount") long cravingCount);
+
+    // 추이 조회 - 유니크 키 (user_id, period_type, period_start) 범위만 읽음
+    List<QuitSurveyRollup> findByUserIdAndPeriodTypeAndPeriodStartGreaterThanEqualOrderByPeriodStartAsc(
+            Long userId, QuitSurveyRollup.Period periodType, LocalDate from);
+}
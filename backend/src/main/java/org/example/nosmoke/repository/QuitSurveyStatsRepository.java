@@ -0,0 +1,70 @@
+package org.example.nosmoke.repository;
+
+import jakarta.persistence.LockModeType;
+import jakarta.persistence.QueryHint;
+import org.example.nosmoke.entity.QuitSurveyStats;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface QuitSurveyStatsRepository extends JpaRepository<QuitSurveyStats, Long> {
+
+    // 차이만큼 한 문장으로 더함 - 읽고 쓰는 사이에 다른 설문이 끼어들어도 유실 없음 (행이 없으면 0 반환)
+    @Modifying(flushAutomatically = true)
+    @Query("UPDATE QuitSurveyStats s SET " +
+            "s.totalSurveys = s.totalSurveys + :total, " +
+            "s.successCount = s.successCount + :success, " +
+            "s.stressSum = s.stressSum + :stressSum, " +
+            "s.stressCount = s.stressCount + :stressCount, " +
+            "s.cravingSum = s.cravingSum + :cravingSum, " +
+            "s.cravingCount = s.cravingCount + :cravingCount, " +
+            "s.modifiedAt = CURRENT_TIMESTAMP " +
+            "WHERE s.userId = :userId")
+    int addDelta(@Param("userId") Long userId,
+                 @Param("total") long total,
+                 @Param("success") long success,
+                 @Param("stressSum") long stressSum,
+                 @Param("stressCount") long stressCount,
+                 @Param("cravingSum") long cravingSum,
+                 @Param("cravingCount") long cravingCount);
+
+    // 누적값 첫 행 생성 (한 문장) - 행이 없으면 전체 기록으로 계산한 값(calculated)으로 INSERT
+    // 그 사이 다른 트랜잭션이 먼저 만들었으면 (PK 중복) 그 행에 이번 차이만 더함 --> 동시에 첫 설문이 저장돼도 PK 충돌 없음
+    // (quit_survey_stats 로 한정하지 않으면 네이티브 쿼리마다 2차 캐시 전체가 비워짐)
+    @Modifying(flushAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "quit_survey_stats"))
+    @Query(value = "INSERT INTO quit_survey_stats " +
+            "(user_id, total_surveys, success_count, stress_sum, stress_count, craving_sum, craving_count, created_at, modified_at) " +
+            "VALUES (:#{#calculated.userId}, :#{#calculated.totalSurveys}, :#{#calculated.successCount}, " +
+            ":#{#calculated.stressSum}, :#{#calculated.stressCount}, :#{#calculated.cravingSum}, :#{#calculated.cravingCount}, " +
+            "CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)) " +
+            "ON DUPLICATE KEY UPDATE " +
+            "total_surveys = total_surveys + :total, " +
+            "success_count = success_count + :success, " +
+            "stress_sum = stress_sum + :stressSum, " +
+            "stress_count = stress_count + :stressCount, " +
+            "craving_sum = craving_sum + :cravingSum, " +
+            "craving_count = craving_count + :cravingCount, " +
+            "modified_at = CURRENT_TIMESTAMP(6)",
+            nativeQuery = true)
+    int insertOrAddDelta(@Param("calculated") QuitSurveyStats calculated,
+                         @Param("total") long total,
+                         @Param("success") long success,
+                         @Param("stressSum") long stressSum,
+                         @Param("stressCount") long stressCount,
+                         @Param("cravingSum") long cravingSum,
+                         @Param("cravingCount") long cravingCount);
+
+    // 보정 작업 중 설문 저장과 겹치지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT s FROM QuitSurveyStats s WHERE s.userId = :userId")
+    Optional<QuitSurveyStats> findByUserIdForUpdate(@Param("userId") Long userId);
+}
@@ -0,0 +1,25 @@
+package org.example.nosmoke.repository;
+
+import jakarta.persistence.LockModeType;
+import org.example.nosmoke.entity.RollupWatermark;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+import org.springframework.stereotype.Repository;
+
+import java.util.Optional;
+
+@Repository
+public interface RollupWatermarkRepository extends JpaRepository<RollupWatermark, String> {
+
+    // 집계 작업 - 워터마크를 옮기는 동안 설문 수정이 끼어들지 못하도록 배타 잠금 (FOR UPDATE)
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT w FROM RollupWatermark w WHERE w.name = :name")
+    Optional<RollupWatermark> findByNameForUpdate(@Param("name") String name);
+
+    // 설문 수정 - 공유 잠금 (FOR SHARE) : 수정끼리는 서로 기다리지 않고, 집계 배치와만 차례로 처리
+    @Lock(LockModeType.PESSIMISTIC_READ)
+    @Query("SELECT w FROM RollupWatermark w WHERE w.name = :name")
+    Optional<RollupWatermark> findByNameForShare(@Param("name") String name);
+}
@@ -1,18 +1,47 @@
 package org.example.nosmoke.repository;
 
+import jakarta.persistence.QueryHint;
 import org.example.nosmoke.entity.SmokingInfo;
+import org.hibernate.jpa.HibernateHints;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
-import java.util.Optional;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 
 @Repository
-public interface SmokingInfoRepository extends JpaRepository<SmokingInfo, Long> {
-    Optional<SmokingInfo> findByUserId(Long userId);
+public interface SmokingInfoRepository extends JpaRepository<SmokingInfo, Long>, SmokingInfoRepositoryCustom {
 
     // 정보가 없으면 null을 반환하는 편의 메서드
     default SmokingInfo getByUserIdOrNull(Long userId) {
         return findByUserId(userId).orElse(null);
     }
 
+    // 흡연 정보 저장 (한 문장) - 없으면 INSERT, 유니크 키 (user_id) 가 이미 있으면 수정 가능한 값만 UPDATE
+    // 금연 시작일 / 작성일은 처음 저장한 값 유지 (updateInfo 와 같은 규칙)
+    // users 에서 SELECT 하므로 없는 사용자면 아무것도 하지 않고 0 반환
+    // (값이 그대로여도 드라이버 기본 설정(CLIENT_FOUND_ROWS)상 찾은 행으로 세므로 0 은 없는 사용자뿐)
+    // 네이티브 쿼리는 바뀐 테이블을 알려주지 않으면 2차 캐시 전체를 비우므로 smoking_info 로 한정
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @QueryHints(@QueryHint(name = HibernateHints.HINT_NATIVE_SPACES, value = "smoking_info"))
+    @Query(value = "INSERT INTO smoking_info " +
+            "(user_id, cigarette_type, daily_consumption, quit_start_date, target_date, quit_goal, created_at, modified_at) " +
+            "SELECT u.id, :cigaretteType, :dailyConsumption, :quitStartDate, :targetDate, :quitGoal, :now, :now " +
+            "FROM users u WHERE u.id = :userId " +
+            "ON DUPLICATE KEY UPDATE " +
+            "cigarette_type = :cigaretteType, daily_consumption = :dailyConsumption, " +
+            "target_date = :targetDate, quit_goal = :quitGoal, modified_at = :now",
+            nativeQuery = true)
+    int upsert(@Param("userId") Long userId,
+               @Param("cigaretteType") String cigaretteType,
+               @Param("dailyConsumption") int dailyConsumption,
+               @Param("quitStartDate") LocalDate quitStartDate,
+               @Param("targetDate") LocalDate targetDate,
+               @Param("quitGoal") String quitGoal,
+               @Param("now") LocalDateTime now);
+
 }
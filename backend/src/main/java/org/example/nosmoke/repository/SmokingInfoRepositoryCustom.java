@@ -0,0 +1,11 @@
+package org.example.nosmoke.repository;
+
+import org.example.nosmoke.entity.SmokingInfo;
+
+import java.util.Optional;
+
+// 2차 캐시를 타도록 직접 구현한 SmokingInfoRepository 메서드 (SmokingInfoRepositoryCustomImpl)
+public interface SmokingInfoRepositoryCustom {
+
+    Optional<SmokingInfo> findByUserId(Long userId);
+}
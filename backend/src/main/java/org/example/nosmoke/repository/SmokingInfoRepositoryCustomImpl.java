@@ -0,0 +1,22 @@
+package org.example.nosmoke.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.entity.SmokingInfo;
+import org.hibernate.Session;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class SmokingInfoRepositoryCustomImpl implements SmokingInfoRepositoryCustom {
+
+    private final EntityManager entityManager;
+
+    // user_id(자연 키)로 조회 - 자연 키 캐시(user_id -> id) + 엔티티 캐시를 거쳐 DB 조회 없이 찾음
+    @Override
+    public Optional<SmokingInfo> findByUserId(Long userId) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(SmokingInfo.class)
+                .loadOptional(userId);
+    }
+}
@@ -1,13 +1,20 @@
 package org.example.nosmoke.repository;
 
+import org.example.nosmoke.dto.user.UserLoginInfoDto;
+import jakarta.persistence.LockModeType;
 import org.example.nosmoke.entity.User;
+import org.springframework.data.domain.Pageable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Lock;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 import org.springframework.stereotype.Repository;
 
+import java.util.List;
 import java.util.Optional;
 
 @Repository
-public interface UserRepository extends JpaRepository<User, Long> {
+public interface UserRepository extends JpaRepository<User, Long>, UserRepositoryCustom {
 
     // Service에서 매번 예외처리 하지 않도록 만든 편의 메서드
     default User getByIdOrThrow(Long userId){
@@ -15,9 +22,32 @@ public interface UserRepository extends JpaRepository<User, Long> {
                 .orElseThrow(() -> new RuntimeException("존재하지 않는 사용자입니다. ID : " + userId));
     }
 
-    Optional<User> findByEmail(String email);
     boolean existsByEmail(String email);
     Optional<User> findByName(String name);
     boolean existsByName(String name);
-}
 
+    // 로그인용 - 사용자 + 흡연 정보 등록 여부(EXISTS)를 한 번에 조회 (smoking_info 행 자체는 읽지 않음)
+    // 쿼리 한 번이라 2차 캐시를 거치지 않음 (로그인 시간은 BCrypt 비교가 대부분)
+    @Query("SELECT new org.example.nosmoke.dto.user.UserLoginInfoDto(u, " +
+            "CASE WHEN EXISTS (SELECT 1 FROM SmokingInfo s WHERE s.userId = u.id) THEN true ELSE false END) " +
+            "FROM User u " +
+            "WHERE u.email = :email")
+    Optional<UserLoginInfoDto> findLoginInfoByEmail(@Param("email") String email);
+
+    // 현재 잔액만 조회 (addPoint 직후에는 같은 트랜잭션이 행 잠금을 쥐고 있어 방금 반영된 값)
+    @Query("SELECT u.point FROM User u WHERE u.id = :userId")
+    Optional<Integer> findPointById(@Param("userId") Long userId);
+
+    // 포인트 직접 수정 / 원장 보정 시 변동량 계산 중 다른 지급이 끼어들지 않도록 행 잠금
+    @Lock(LockModeType.PESSIMISTIC_WRITE)
+    @Query("SELECT u FROM User u WHERE u.id = :userId")
+    Optional<User> findByIdForUpdate(@Param("userId") Long userId);
+
+    // 보안 버전 원본 조회 (Redis 에 없을 때)
+    @Query("SELECT u.securityVersion FROM User u WHERE u.id = :userId")
+    Optional<Long> findSecurityVersionById(@Param("userId") Long userId);
+
+    // 포인트 감사 작업용 - 사용자 id 순 키셋 페이징
+    @Query("SELECT u.id FROM User u WHERE u.id > :afterUserId ORDER BY u.id")
+    List<Long> findIdsAfter(@Param("afterUserId") Long afterUserId, Pageable pageable);
+}
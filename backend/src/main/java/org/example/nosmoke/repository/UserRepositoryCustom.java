@@ -0,0 +1,13 @@
+package org.example.nosmoke.repository;
+
+import org.example.nosmoke.entity.User;
+
+import java.util.Optional;
+
+// 2차 캐시를 타도록 직접 구현한 UserRepository 메서드 (UserRepositoryCustomImpl)
+public interface UserRepositoryCustom {
+
+    Optional<User> findByEmail(String email);
+
+    int addPoint(Long userId, int points);
+}
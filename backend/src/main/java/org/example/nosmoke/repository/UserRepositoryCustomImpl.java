@@ -0,0 +1,36 @@
+package org.example.nosmoke.repository;
+
+import jakarta.persistence.EntityManager;
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.entity.User;
+import org.hibernate.Session;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.util.Optional;
+
+@RequiredArgsConstructor
+public class UserRepositoryCustomImpl implements UserRepositoryCustom {
+
+    private final EntityManager entityManager;
+    private final JdbcTemplate jdbcTemplate;
+
+    // 이메일(자연 키)로 조회 - 자연 키 캐시(email -> id) + 엔티티 캐시를 거쳐 DB 조회 없이 찾음
+    @Override
+    public Optional<User> findByEmail(String email) {
+        return entityManager.unwrap(Session.class)
+                .bySimpleNaturalId(User.class)
+                .loadOptional(email);
+    }
+
+    // 포인트 누적 - 읽지 않고 한 문장으로 더함 (동시에 지급돼도 유실 없음, 사용자가 없으면 0 반환)
+    // JPQL 벌크 UPDATE 는 User 캐시 리전 전체를 비우므로 JDBC 로 실행하고, 호출한 쪽에서 이 사용자 캐시만 지운다
+    // (EntityCacheInvalidator.evictAfterCommit)
+    @Override
+    public int addPoint(Long userId, int points) {
+        // 같은 트랜잭션에서 바꾼 엔티티를 먼저 반영
+        entityManager.flush();
+        return jdbcTemplate.update(
+                "UPDATE users SET point = point + ?, modified_at = CURRENT_TIMESTAMP(6) WHERE id = ?",
+                points, userId);
+    }
+}
@@ -0,0 +1,144 @@
+package org.example.nosmoke.service.cache;
+
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.entity.SmokingInfo;
+import org.example.nosmoke.entity.User;
+import org.hibernate.engine.spi.SessionFactoryImplementor;
+import org.hibernate.event.service.spi.EventListenerRegistry;
+import org.hibernate.event.spi.EventType;
+import org.hibernate.event.spi.PostCommitDeleteEventListener;
+import org.hibernate.event.spi.PostCommitUpdateEventListener;
+import org.hibernate.event.spi.PostDeleteEvent;
+import org.hibernate.event.spi.PostUpdateEvent;
+import org.hibernate.persister.entity.EntityPersister;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.UUID;
+
+// Hibernate 2차 캐시(서버마다 로컬 Caffeine) 서버 간 무효화
+// 한 서버에서 User / SmokingInfo 가 바뀌면 커밋 후 Redis Pub/Sub 으로 알리고, 다른 서버는 그 항목만 지운다
+// - 엔티티 수정 / 삭제(더티 체킹, delete) : Hibernate 커밋 후 이벤트에서 자동으로 알림 (이 서버 캐시는 Hibernate 가 갱신)
+// - Hibernate 를 거치지 않고 바꾼 행(포인트 UPDATE 등) : evictAfterCommit 으로 직접 지우고 알림
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class EntityCacheInvalidator implements PostCommitUpdateEventListener, PostCommitDeleteEventListener {
+
+    public static final String INVALIDATION_CHANNEL = "hibernate:l2-invalidation";
+
+    // 메시지에는 엔티티 단순 이름만 실음
+    private static final Map<String, Class<?>> CACHED_ENTITIES = Map.of(
+            User.class.getSimpleName(), User.class,
+            SmokingInfo.class.getSimpleName(), SmokingInfo.class
+    );
+
+    private static final String UPDATED = "U";
+    private static final String DELETED = "D";
+
+    // 자기가 보낸 메시지는 무시 (이미 반영됨)
+    private final String nodeId = UUID.randomUUID().toString();
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+
+    @PostConstruct
+    public void init() {
+        redisMessageListenerContainer.addMessageListener(this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+
+        EventListenerRegistry registry = entityManagerFactory.unwrap(SessionFactoryImplementor.class)
+                .getServiceRegistry()
+                .getService(EventListenerRegistry.class);
+        registry.appendListeners(EventType.POST_COMMIT_UPDATE, this);
+        registry.appendListeners(EventType.POST_COMMIT_DELETE, this);
+    }
+
+    // JDBC / 네이티브 쿼리로 직접 바꾼 행 - 이 서버 캐시는 바로 지우고 (같은 트랜잭션의 이후 조회가 옛 값을 읽지 않도록)
+    // 커밋 후 한 번 더 지운 뒤 다른 서버에 알림 (커밋 전에 다른 트랜잭션이 옛 값을 다시 올려둘 수 있으므로)
+    public void evictAfterCommit(Class<?> entityClass, Long id) {
+        evictLocal(entityClass, id, UPDATED);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            publish(entityClass, id, UPDATED);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evictLocal(entityClass, id, UPDATED);
+                publish(entityClass, id, UPDATED);
+            }
+        });
+    }
+
+    @Override
+    public void onPostUpdate(PostUpdateEvent event) {
+        publish(event.getPersister().getMappedClass(), (Long) event.getId(), UPDATED);
+    }
+
+    @Override
+    public void onPostDelete(PostDeleteEvent event) {
+        publish(event.getPersister().getMappedClass(), (Long) event.getId(), DELETED);
+    }
+
+    @Override
+    public void onPostUpdateCommitFailed(PostUpdateEvent event) {
+        // 롤백되면 바뀐 것이 없으므로 알리지 않음
+    }
+
+    @Override
+    public void onPostDeleteCommitFailed(PostDeleteEvent event) {
+    }
+
+    @Override
+    public boolean requiresPostCommitHandling(EntityPersister persister) {
+        return CACHED_ENTITIES.containsValue(persister.getMappedClass());
+    }
+
+    // 메시지 형식 : nodeId|U(수정) 또는 D(삭제)|엔티티 이름|id
+    void onInvalidation(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        String[] parts = body.split("\\|");
+        Class<?> entityClass = parts.length == 4 ? CACHED_ENTITIES.get(parts[2]) : null;
+        if (entityClass == null) {
+            log.warn(">>> [Cache] 잘못된 2차 캐시 무효화 메시지: {}", body);
+            return;
+        }
+        if (nodeId.equals(parts[0])) {
+            return;
+        }
+        try {
+            evictLocal(entityClass, Long.parseLong(parts[3]), parts[1]);
+        } catch (NumberFormatException e) {
+            log.warn(">>> [Cache] 잘못된 2차 캐시 무효화 메시지: {}", body);
+        }
+    }
+
+    private void evictLocal(Class<?> entityClass, Long id, String change) {
+        entityManagerFactory.getCache().evict(entityClass, id);
+        if (DELETED.equals(change)) {
+            // 삭제된 행의 자연 키(email 등)가 같은 값으로 다시 쓰일 수 있으므로 자연 키 캐시도 비움 (탈퇴는 드묾)
+            entityManagerFactory.getCache().unwrap(org.hibernate.Cache.class).evictNaturalIdData(entityClass);
+        }
+    }
+
+    private void publish(Class<?> entityClass, Long id, String change) {
+        try {
+            redisTemplate.convertAndSend(INVALIDATION_CHANNEL,
+                    nodeId + "|" + change + "|" + entityClass.getSimpleName() + "|" + id);
+        } catch (Exception e) {
+            // 알림이 유실되면 다른 서버는 만료 시간(application.conf)까지 옛 값을 볼 수 있음
+            log.warn(">>> [Cache] 2차 캐시 무효화 알림 실패 ({}: {}) : {}", entityClass.getSimpleName(), id, e.getMessage());
+        }
+    }
+}
@@ -0,0 +1,65 @@
+package org.example.nosmoke.service.cache;
+
+import io.micrometer.core.instrument.FunctionCounter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.persistence.EntityManagerFactory;
+import lombok.RequiredArgsConstructor;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.CacheRegionStatistics;
+import org.hibernate.stat.Statistics;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+import java.util.function.ToLongFunction;
+
+// Hibernate 2차 캐시 리전별 적중 / 실패 횟수와 적중률 (hibernate.generate_statistics 필요)
+// Prometheus 에서는 rate(hibernate_l2_requests_total{result="hit"}) / rate(hibernate_l2_requests_total) 로 구간 적중률을 본다
+@Component
+@RequiredArgsConstructor
+public class SecondLevelCacheMetrics {
+
+    // User / SmokingInfo 의 @Cache, @NaturalIdCache 리전
+    static final List<String> REGIONS = List.of("user", "user-natural-id", "smoking-info", "smoking-info-natural-id");
+
+    private final EntityManagerFactory entityManagerFactory;
+    private final MeterRegistry meterRegistry;
+
+    @PostConstruct
+    public void register() {
+        Statistics statistics = entityManagerFactory.unwrap(SessionFactory.class).getStatistics();
+        for (String region : REGIONS) {
+            FunctionCounter.builder("hibernate.l2.requests", statistics, s -> count(s, region, CacheRegionStatistics::getHitCount))
+                    .tag("region", region).tag("result", "hit")
+                    .description("2차 캐시 적중 횟수")
+                    .register(meterRegistry);
+            FunctionCounter.builder("hibernate.l2.requests", statistics, s -> count(s, region, CacheRegionStatistics::getMissCount))
+                    .tag("region", region).tag("result", "miss")
+                    .description("2차 캐시 실패 횟수 (DB 조회)")
+                    .register(meterRegistry);
+            Gauge.builder("hibernate.l2.hit.ratio", statistics, s -> hitRatio(s, region))
+                    .tag("region", region)
+                    .description("시작 후 누적 2차 캐시 적중률")
+                    .register(meterRegistry);
+        }
+    }
+
+    static double hitRatio(Statistics statistics, String region) {
+        double hits = count(statistics, region, CacheRegionStatistics::getHitCount);
+        double total = hits + count(statistics, region, CacheRegionStatistics::getMissCount);
+        return total == 0 ? Double.NaN : hits / total;
+    }
+
+    private static double count(Statistics statistics, String region, ToLongFunction<CacheRegionStatistics> counter) {
+        if (!statistics.isStatisticsEnabled()) {
+            return 0;
+        }
+        try {
+            return counter.applyAsLong(statistics.getDomainDataRegionStatistics(region));
+        } catch (IllegalArgumentException e) {
+            // 2차 캐시를 끈 환경(테스트)에는 리전이 없음
+            return 0;
+        }
+    }
+}
@@ -4,20 +4,19 @@ import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
 import org.example.nosmoke.dto.dashboard.DashboardResponseDto;
-import org.example.nosmoke.dto.quitsurvey.QuitSurveyLightDto;
+import org.example.nosmoke.dto.dashboard.DashboardViewDto;
+import org.example.nosmoke.entity.QuitStreak;
 import org.example.nosmoke.entity.SmokingInfo;
 import org.example.nosmoke.entity.User;
-import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.QuitStreakRepository;
 import org.example.nosmoke.repository.SmokingInfoRepository;
 import org.example.nosmoke.repository.UserRepository;
-import org.springframework.data.domain.PageRequest;
+import org.example.nosmoke.service.quitsurvey.QuitStreakService;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.time.LocalTime;
 import java.time.temporal.ChronoUnit;
 import java.util.ArrayList;
 import java.util.List;
@@ -29,74 +28,38 @@ import java.util.List;
 public class DashboardService {
     public final UserRepository userRepository;
     private final SmokingInfoRepository smokingInfoRepository;
-    private final QuitSurveyRepository quitSurveyRepository;
+    private final QuitStreakRepository quitStreakRepository;
+    private final QuitStreakService quitStreakService;
+    private final DashboardViewStore dashboardViewStore;
 
     private static final int CIGARETTES_PER_PACK = 20;
     private static final int PRICE_PER_PACK = 4500;
 
-    private static final int MAX_TRACKING_DAYS = 365;
-
     public DashboardResponseDto getDashboardInfo(Long userId){
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
-
-        SmokingInfo smokingInfo = smokingInfoRepository.findByUserId(userId)
-                .orElse(null); // 흡연 정보 기 미등록 시 null 허용해야
-
-        // DTO 조회로 변경
-        // 최신 365개 치만 DB에서 가져온다(금연 유무)
-        List<QuitSurveyLightDto> surveys = quitSurveyRepository.findAllLightByUserId(
-                userId,
-                PageRequest.of(0, MAX_TRACKING_DAYS)
-        );
+        // Redis 조회 모델이 있으면 DB 를 읽지 않음
+        DashboardViewDto view = dashboardViewStore.find(userId);
+        if (view == null) {
+            view = loadView(userId);
+            dashboardViewStore.save(userId, view);
+        }
 
-        // 기본 정보 계산
+        // 기본 정보 계산 - 날짜에 따라 바뀌는 값은 저장하지 않고 매번 오늘 기준으로 계산 (자정이 지나도 정확)
+        LocalDate today = LocalDate.now();
         long quitDays = 0;
         long cigarettesNotSmoked = 0;
-        if (smokingInfo != null && smokingInfo.getQuitStartDate() != null) {
+        if (view.getQuitStartDate() != null) {
             // 오늘 일자 까지의 LocalDate 날짜 수 센다
-            quitDays = ChronoUnit.DAYS.between(smokingInfo.getQuitStartDate(), LocalDate.now());
-            cigarettesNotSmoked = quitDays * smokingInfo.getDailyConsumption();
+            quitDays = ChronoUnit.DAYS.between(view.getQuitStartDate(), today);
+            cigarettesNotSmoked = quitDays * view.getDailyConsumption();
         }
 
-        log.info("=====================================");
-        log.info(">>> [INFO] 금연 시작일: " + (smokingInfo != null? smokingInfo.getQuitStartDate() : "없음"));
-        log.info(">>> [INFO] 오늘 날짜: " + LocalDate.now());
-        log.info(">>> [INFO] 금연 일수: " + quitDays);
-        log.info("=====================================");
-        log.info(">>> [INFO] 참지 않은 담배 개수: " + cigarettesNotSmoked);
-        log.info(">>> [INFO] 한 갑당 가격: " + PRICE_PER_PACK);
-        log.info(">>> [INFO] 한 갑당 개비 수: " + CIGARETTES_PER_PACK);
+        log.debug(">>> [INFO] 금연 시작일: {}, 금연 일수: {}, 참지 않은 담배 개수: {}",
+                view.getQuitStartDate() != null ? view.getQuitStartDate() : "없음", quitDays, cigarettesNotSmoked);
         // 절약금액 계산
         long savedMoney = (cigarettesNotSmoked * PRICE_PER_PACK) / CIGARETTES_PER_PACK;
-        log.info(">>> [INFO] 계산된 절약 금액: " + savedMoney);
-        // 연속 성공일자 계산
-        int currentStreak = 0;
-        int longestStreak = 0;
-
-        // 이미 정렬되어 받아오기에 주석 처리
-//        surveys.sort((s1, s2) -> s1.getCreatedAt().compareTo(s2.getCreatedAt()));
-
-
-        // 스트릭 계산 로직 변경
-        // 최신 데이터 부터 역순으로 검사하다가 실패가 나오면 즉시 중단 --> 성공, 성공, 실패 면 2일 금연한거
-        for (QuitSurveyLightDto survey : surveys) {
-            if(survey.isSuccess()){
-                currentStreak++;
-            } else {
-                break;
-            }
-        }
-        if (currentStreak > longestStreak) {
-            longestStreak = currentStreak;
-        }
 
         // 오늘 설문 했는지 확인하는 로직 --> UI 업데이트 위함
-        LocalDateTime todayStart = LocalDate.now().atStartOfDay(); // 오늘 시작 : 00:00:00
-        LocalDateTime todayEnd = LocalDate.now().atTime(LocalTime.MAX); // 오늘 끝 : 23:59:59
-
-        boolean hasSurveyedToday = surveys.stream()
-                .anyMatch(s -> s.getCreatedAt().isAfter(todayStart) && s.getCreatedAt().isBefore(todayEnd));
+        boolean hasSurveyedToday = today.equals(view.getLastSurveyDate());
 
         // 건강 개선 효과 - 미완
         List<String> healthImprovements = calculateHealthImprovements(quitDays);
@@ -105,13 +68,36 @@ public class DashboardService {
                 .quitDays(quitDays)
                 .savedMoney(savedMoney)
                 .cigarettesNotSmoked(cigarettesNotSmoked)
-                .currentStreak(currentStreak)
-                .longestStreak(longestStreak)
-                .points(user.getPoint())
+                .currentStreak(view.getCurrentStreak())
+                .longestStreak(view.getLongestStreak())
+                .points(view.getPoints())
                 .hasSurveyedToday(hasSurveyedToday)
                 .build();
     }
 
+    // 조회 모델이 없을 때 DB 에서 원본 값 조회
+    private DashboardViewDto loadView(Long userId) {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        SmokingInfo smokingInfo = smokingInfoRepository.findByUserId(userId)
+                .orElse(null); // 흡연 정보 기 미등록 시 null 허용해야
+
+        // 스트릭 요약 한 행만 조회 (설문 기록이 아무리 길어도 동일)
+        // 백필 전이라 요약이 없는 사용자만 별도 트랜잭션에서 한 번 계산해 저장
+        QuitStreak streak = quitStreakRepository.findById(userId)
+                .orElseGet(() -> quitStreakService.getOrRebuild(userId));
+
+        return DashboardViewDto.builder()
+                .points(user.getPoint())
+                .quitStartDate(smokingInfo != null ? smokingInfo.getQuitStartDate() : null)
+                .dailyConsumption(smokingInfo != null ? smokingInfo.getDailyConsumption() : 0)
+                .currentStreak(streak.getCurrentStreak())
+                .longestStreak(streak.getLongestStreak())
+                .lastSurveyDate(streak.getLastSurveyDate())
+                .build();
+    }
+
     // 아직까진 간단하게
     private List<String> calculateHealthImprovements(long quitDays) {
         List<String> improvements = new ArrayList<>();
@@ -0,0 +1,157 @@
+package org.example.nosmoke.service.dashboard;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.dto.dashboard.DashboardViewDto;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.TimeUnit;
+
+// 사용자별 대시보드 조회 모델 (Redis 해시 dashboard:{userId})
+// 조회 시 해시 하나만 읽고, 포인트 / 흡연 정보 / 설문이 바뀌면 커밋 후 삭제 -> 다음 조회에서 DB 로 다시 채움
+// 삭제 직전에 시작된 조회가 이전 값을 다시 써 넣을 수 있으므로 TTL 을 짧게 두어 그 경우에도 오래 남지 않게 한다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class DashboardViewStore {
+
+    private static final String KEY_PREFIX = "dashboard:";
+
+    private static final String POINTS = "points";
+    private static final String QUIT_START_DATE = "quitStartDate";
+    private static final String DAILY_CONSUMPTION = "dailyConsumption";
+    private static final String CURRENT_STREAK = "currentStreak";
+    private static final String LONGEST_STREAK = "longestStreak";
+    private static final String LAST_SURVEY_DATE = "lastSurveyDate";
+
+    // KEYS[1] : 조회 모델 해시, ARGV[1] : TTL(ms), ARGV[2..] : 필드 / 값 쌍
+    // HSET 과 PEXPIRE 를 한 번에 - 저장 도중 끊겨도 TTL 없는 해시가 남지 않음 (왕복 한 번)
+    private static final RedisScript<Long> SAVE_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('HSET', KEYS[1], unpack(ARGV, 2)) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${dashboard.view.enabled:true}")
+    private boolean enabled;
+
+    @Value("${dashboard.view.ttl-seconds:600}")
+    private long ttlSeconds;
+
+    private Counter hitCounter;
+    private Counter missCounter;
+
+    @PostConstruct
+    public void init() {
+        hitCounter = Counter.builder("dashboard.view")
+                .description("대시보드 조회 모델 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        missCounter = Counter.builder("dashboard.view")
+                .description("대시보드 조회 모델 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+    }
+
+    // 저장된 조회 모델 (없거나 Redis 장애 시 null -> DB 에서 계산)
+    public DashboardViewDto find(Long userId) {
+        if (!enabled) {
+            return null;
+        }
+
+        Map<Object, Object> entries;
+        try {
+            entries = redisTemplate.opsForHash().entries(key(userId));
+        } catch (Exception e) {
+            log.warn(">>> [Dashboard] 조회 모델 읽기 실패, DB 에서 계산 : {}", e.getMessage());
+            return null;
+        }
+
+        if (entries == null || entries.isEmpty()) {
+            missCounter.increment();
+            return null;
+        }
+        hitCounter.increment();
+
+        return DashboardViewDto.builder()
+                .points(toInt(entries.get(POINTS)))
+                .quitStartDate(toDate(entries.get(QUIT_START_DATE)))
+                .dailyConsumption(toInt(entries.get(DAILY_CONSUMPTION)))
+                .currentStreak(toInt(entries.get(CURRENT_STREAK)))
+                .longestStreak(toInt(entries.get(LONGEST_STREAK)))
+                .lastSurveyDate(toDate(entries.get(LAST_SURVEY_DATE)))
+                .build();
+    }
+
+    // DB 에서 계산한 값을 저장 (실패해도 조회 응답에는 영향 없음)
+    public void save(Long userId, DashboardViewDto view) {
+        if (!enabled) {
+            return;
+        }
+
+        Object[] args = {
+                String.valueOf(TimeUnit.SECONDS.toMillis(ttlSeconds)),
+                POINTS, String.valueOf(view.getPoints()),
+                QUIT_START_DATE, view.getQuitStartDate() != null ? view.getQuitStartDate().toString() : "",
+                DAILY_CONSUMPTION, String.valueOf(view.getDailyConsumption()),
+                CURRENT_STREAK, String.valueOf(view.getCurrentStreak()),
+                LONGEST_STREAK, String.valueOf(view.getLongestStreak()),
+                LAST_SURVEY_DATE, view.getLastSurveyDate() != null ? view.getLastSurveyDate().toString() : ""
+        };
+
+        try {
+            redisTemplate.execute(SAVE_SCRIPT, List.of(key(userId)), args);
+        } catch (Exception e) {
+            log.warn(">>> [Dashboard] 조회 모델 저장 실패 (User: {}) : {}", userId, e.getMessage());
+        }
+    }
+
+    // 쓰기 트랜잭션이 커밋된 뒤에 삭제 (롤백되면 그대로 둠, 트랜잭션 밖이면 바로 삭제)
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                evict(userId);
+            }
+        });
+    }
+
+    public void evict(Long userId) {
+        try {
+            redisTemplate.delete(key(userId));
+        } catch (Exception e) {
+            log.warn(">>> [Dashboard] 조회 모델 삭제 실패 (User: {}) : {}", userId, e.getMessage());
+        }
+    }
+
+    private static String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+
+    private static int toInt(Object value) {
+        return value == null ? 0 : Integer.parseInt(value.toString());
+    }
+
+    private static LocalDate toDate(Object value) {
+        return value == null || value.toString().isEmpty() ? null : LocalDate.parse(value.toString());
+    }
+}
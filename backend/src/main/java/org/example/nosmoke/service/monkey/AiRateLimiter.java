@@ -0,0 +1,119 @@
+package org.example.nosmoke.service.monkey;
+
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// Gemini 호출 한도 (Redis 토큰 버킷, 모든 서버가 하나의 버킷을 나눠 씀)
+// 초당 rate 개씩 토큰이 차고 최대 burst 개까지 쌓임 - 토큰이 없으면 다음 토큰이 찰 때까지 대기
+// 한도는 운영 중에 Redis 해시(ai:rl:config 의 rate / burst)로 바꿀 수 있고, 값이 없으면 설정 파일의 기본값 사용
+// (rate 를 0 으로 두면 호출을 멈추고 메시지는 큐에 쌓임)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AiRateLimiter {
+
+    public static final String BUCKET_KEY = "ai:rl:bucket";
+    public static final String CONFIG_KEY = "ai:rl:config";
+
+    // 한 번에 최대 대기 시간 (한도가 바뀌면 다음 확인 때 반영)
+    private static final long MAX_SLEEP_MS = 1000;
+
+    // KEYS[1] : 버킷 해시(tokens, ts), KEYS[2] : 한도 해시(rate, burst)
+    // ARGV : 기본 rate(초당), 기본 burst
+    // 반환 : 0 허용(토큰 1개 사용) / 양수 다음 토큰까지 대기 ms
+    private static final RedisScript<Long> TOKEN_BUCKET_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "local rate = tonumber(redis.call('HGET', KEYS[2], 'rate') or ARGV[1]) " +
+            "local burst = tonumber(redis.call('HGET', KEYS[2], 'burst') or ARGV[2]) " +
+            "if rate <= 0 then return " + MAX_SLEEP_MS + " end " +
+            "local bucket = redis.call('HMGET', KEYS[1], 'tokens', 'ts') " +
+            "local tokens = tonumber(bucket[1]) or burst " +
+            "local ts = tonumber(bucket[2]) or now " +
+            "tokens = math.min(burst, tokens + math.max(0, now - ts) * rate / 1000) " +
+            "local wait = 0 " +
+            "if tokens >= 1 then tokens = tokens - 1 " +
+            "else wait = math.ceil((1 - tokens) * 1000 / rate) end " +
+            "redis.call('HSET', KEYS[1], 'tokens', tostring(tokens), 'ts', now) " +
+            "redis.call('PEXPIRE', KEYS[1], math.ceil(burst * 1000 / rate) + 1000) " +
+            "return wait",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${ai.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${ai.rate-limit.rate-per-second:10}")
+    private double ratePerSecond;
+
+    @Value("${ai.rate-limit.burst:20}")
+    private int burst;
+
+    // Redis 장애 시 이 서버 혼자 기본 rate 간격으로 호출 (다음 호출 가능 시각, nanoTime)
+    private long localNextAt;
+
+    private Timer waitTimer;
+
+    @PostConstruct
+    public void init() {
+        waitTimer = Timer.builder("ai.limiter.wait")
+                .description("Gemini 호출 한도 토큰을 얻기까지 기다린 시간")
+                .register(meterRegistry);
+        localNextAt = System.nanoTime();
+    }
+
+    // 토큰을 얻을 때까지 대기 - 가상 스레드에서 호출하므로 sleep 해도 OS 스레드를 잡지 않음
+    public void acquire() throws InterruptedException {
+        long start = System.nanoTime();
+        try {
+            while (enabled) {
+                Long waitMs = tryAcquire();
+                if (waitMs == null) {
+                    TimeUnit.NANOSECONDS.sleep(reserveLocal());
+                    return;
+                }
+                if (waitMs <= 0) {
+                    return;
+                }
+                Thread.sleep(Math.min(waitMs, MAX_SLEEP_MS));
+            }
+        } finally {
+            waitTimer.record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
+        }
+    }
+
+    // 대기 ms (0 이면 허용), Redis 장애면 null
+    private Long tryAcquire() {
+        try {
+            Long waitMs = redisTemplate.execute(TOKEN_BUCKET_SCRIPT,
+                    List.of(BUCKET_KEY, CONFIG_KEY),
+                    String.valueOf(ratePerSecond), String.valueOf(burst));
+            return waitMs != null ? waitMs : 0L;
+        } catch (Exception e) {
+            log.warn(">>> [AI] 호출 한도 확인 실패, 이 서버 기본 한도로 진행 : {}", e.getMessage());
+            return null;
+        }
+    }
+
+    // 다음 호출 시각을 예약하고 그때까지 남은 시간(ns) 반환
+    synchronized long reserveLocal() {
+        long now = System.nanoTime();
+        long interval = (long) (TimeUnit.SECONDS.toNanos(1) / Math.max(ratePerSecond, 0.001));
+        long at = localNextAt - now > 0 ? localNextAt : now;
+        localNextAt = at + interval;
+        return at - now;
+    }
+}
@@ -1,5 +1,9 @@
 package org.example.nosmoke.service.monkey;
 
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
+import jakarta.annotation.PostConstruct;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.example.nosmoke.config.RabbitMqConfig;
@@ -7,10 +11,12 @@ import org.example.nosmoke.dto.monkey.MonkeyAiRequestEvent;
 import org.example.nosmoke.dto.monkey.MonkeyMessageResponseDto;
 import org.example.nosmoke.entity.MonkeyMessage;
 import org.springframework.amqp.rabbit.annotation.RabbitListener;
-import org.springframework.amqp.rabbit.listener.SimpleMessageListenerContainer;
 import org.springframework.messaging.simp.SimpMessagingTemplate;
 import org.springframework.stereotype.Service;
 
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
 @Slf4j
 @Service
 @RequiredArgsConstructor
@@ -19,16 +25,52 @@ public class AiRequestConsumer {
     private final AiService aiService;
     private final MonkeyService monkeyService;
     private final SimpMessagingTemplate messagingTemplate; // 웹 소켓 주입
+    private final AiRateLimiter aiRateLimiter;
+    private final MeterRegistry meterRegistry;
+
+    // Gemini 호출 ~ 저장 / 전송 중인 요청 수 (한도 대기 중인 요청은 제외)
+    private final AtomicInteger inFlight = new AtomicInteger();
+
+    private Timer successTimer;
+    private Timer failureTimer;
+
+    @PostConstruct
+    public void init() {
+        Gauge.builder("ai.requests.in_flight", inFlight, AtomicInteger::get)
+                .description("처리 중인 AI 요청 수")
+                .register(meterRegistry);
+        // 처리량은 rate(ai_requests_seconds_count) 로 확인
+        successTimer = Timer.builder("ai.requests")
+                .description("AI 요청 처리 시간 (Gemini 호출 + 저장 + 전송)")
+                .tag("result", "success")
+                .register(meterRegistry);
+        failureTimer = Timer.builder("ai.requests")
+                .description("AI 요청 처리 시간 (Gemini 호출 + 저장 + 전송)")
+                .tag("result", "failure")
+                .register(meterRegistry);
+    }
 
     // RabbitMQ 리스너
-    // concurrency = "1" : 스레드 1개만 사용하여 순차적인 처리 (Rate Limit 효과)
-    @RabbitListener(queues = RabbitMqConfig.QUEUE_NAME, concurrency = "1")
+    // 가상 스레드 컨슈머 여러 개가 동시에 처리 (RabbitMqConfig.aiListenerContainerFactory)
+    // Gemini 호출 속도는 AiRateLimiter 토큰 버킷으로 제한
+    @RabbitListener(queues = RabbitMqConfig.QUEUE_NAME, containerFactory = RabbitMqConfig.AI_LISTENER_FACTORY)
     public void receiveMessage(MonkeyAiRequestEvent event){
         Long userId = event.getUserId();
         String prompt = event.getPrompt();
 
         log.info(">>> [Worker] 큐에서 작업 꺼냄 (User: {}) ", userId);
 
+        try {
+            aiRateLimiter.acquire();
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            // 서버 종료 중 - 예외를 던져 메시지를 큐로 되돌림
+            throw new IllegalStateException("AI 요청 대기 중 종료되었습니다. (User: " + userId + ")", e);
+        }
+
+        inFlight.incrementAndGet();
+        long start = System.nanoTime();
+        boolean success = false;
         try {
             // AI 호출 (여기서 1 ~ 3초)
             String aiResponse = aiService.generateResponse(prompt);
@@ -45,9 +87,13 @@ public class AiRequestConsumer {
             messagingTemplate.convertAndSend("/sub/channel/" + userId, responseDto);
 
             log.info(">>> [WebSocket] 실시간 응답 전송 완료 (Target: /sub/channel/{}) ", userId);
+            success = true;
 
         } catch (Exception e) {
             log.error(">>> [Worker] AI 처리 중 오류 발생 : {}", e.getMessage());
+        } finally {
+            inFlight.decrementAndGet();
+            (success ? successTimer : failureTimer).record(System.nanoTime() - start, TimeUnit.NANOSECONDS);
         }
     }
 
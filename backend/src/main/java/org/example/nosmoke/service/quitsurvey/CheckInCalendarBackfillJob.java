@@ -0,0 +1,54 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// quit_survey 기록으로 체크인 달력 비트맵을 채우는 작업 (기존 사용자 백필 / Redis 데이터 유실 시 복구)
+// 기존 비트에 OR 로 합치므로 여러 번 실행해도 결과가 같다 - 필요할 때만 켜서 한 번 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class CheckInCalendarBackfillJob {
+    private final QuitSurveyRepository quitSurveyRepository;
+    private final CheckInCalendarService checkInCalendarService;
+
+    @Value("${checkin.backfill.enabled:false}")
+    private boolean enabled;
+
+    @Value("${checkin.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        long processed = 0;
+        long failed = 0;
+        long lastUserId = 0;
+        List<Long> userIds;
+        while (!(userIds = quitSurveyRepository.findUserIdsAfter(lastUserId, PageRequest.of(0, batchSize))).isEmpty()) {
+            for (Long userId : userIds) {
+                try {
+                    checkInCalendarService.rebuild(userId);
+                    processed++;
+                } catch (Exception e) {
+                    failed++;
+                    log.error(">>> [CheckIn] 체크인 달력 재구성 실패 (User: {}) : {}", userId, e.getMessage());
+                }
+            }
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        log.info(">>> [CheckIn] 체크인 달력 재구성 완료 (성공: {}, 실패: {})", processed, failed);
+    }
+}
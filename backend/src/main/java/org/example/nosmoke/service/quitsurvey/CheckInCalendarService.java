@@ -0,0 +1,237 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.dto.dashboard.CheckInCalendarResponseDto;
+import org.example.nosmoke.dto.quitsurvey.CheckInDayDto;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.springframework.data.redis.connection.ReturnType;
+import org.springframework.data.redis.core.RedisCallback;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+// 사용자별 연간 체크인 달력 (Redis 비트맵, 하루 1비트)
+// checkin:{userId}:{year} - 설문한 날, checkin:success:{userId}:{year} - 금연 성공한 날
+// 비트 위치는 그해의 (일자 - 1), 한 해가 46바이트라 달력 전체를 한 번의 MGET 으로 읽는다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CheckInCalendarService {
+
+    private static final String SURVEYED_KEY_PREFIX = "checkin:";
+    private static final String SUCCESS_KEY_PREFIX = "checkin:success:";
+
+    // 1년(최대 366일)을 담는 비트맵 크기
+    static final int BITMAP_BYTES = (366 + 7) / 8;
+
+    // KEYS[1] : 설문 비트맵, KEYS[2] : 성공 비트맵, ARGV[1] : 비트 위치, ARGV[2] : 성공 여부(1/0)
+    private static final RedisScript<Long> RECORD_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('SETBIT', KEYS[1], ARGV[1], 1) " +
+            "if ARGV[2] == '1' then redis.call('SETBIT', KEYS[2], ARGV[1], 1) end " +
+            "return 1",
+            Long.class);
+
+    // 연도별 비트맵을 기존 비트맵에 OR - KEYS[2i-1] : 대상 비트맵, KEYS[2i] : 임시 키, ARGV[i] : 합칠 비트맵
+    // SET / BITOP / DEL 을 한 스크립트로 실행하므로 동시에 같은 달력을 합쳐도 임시 키를 서로 덮어쓰거나 지우지 않고,
+    // 중간에 실패해도 임시 키가 남지 않음
+    private static final String MERGE_SCRIPT =
+            "for i = 1, #ARGV do " +
+            "  local key = KEYS[i * 2 - 1] " +
+            "  local temp = KEYS[i * 2] " +
+            "  redis.call('SET', temp, ARGV[i]) " +
+            "  redis.call('BITOP', 'OR', key, key, temp) " +
+            "  redis.call('DEL', temp) " +
+            "end " +
+            "return #ARGV";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final QuitSurveyRepository quitSurveyRepository;
+
+    // 설문 저장 트랜잭션이 커밋된 뒤에 비트 기록 (롤백되면 기록하지 않음)
+    public void recordAfterCommit(Long userId, LocalDate date, boolean isSuccess) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            record(userId, date, isSuccess);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                record(userId, date, isSuccess);
+            }
+        });
+    }
+
+    public void record(Long userId, LocalDate date, boolean isSuccess) {
+        try {
+            redisTemplate.execute(RECORD_SCRIPT,
+                    List.of(surveyedKey(userId, date.getYear()), successKey(userId, date.getYear())),
+                    String.valueOf(date.getDayOfYear() - 1), isSuccess ? "1" : "0");
+        } catch (Exception e) {
+            // 달력은 보조 데이터이므로 설문 저장은 그대로 두고, 재구성 작업으로 복구
+            log.warn(">>> [CheckIn] 체크인 기록 실패 (User: {}, Date: {}) : {}", userId, date, e.getMessage());
+        }
+    }
+
+    // 설문 일괄 등록 후 여러 날을 한 번에 기록 (커밋 후, 연도별 비트맵을 만들어 기존 비트맵에 OR)
+    public void recordAllAfterCommit(Long userId, List<QuitSurvey> surveys) {
+        Runnable update = () -> {
+            Map<Integer, byte[]> surveyedByYear = new HashMap<>();
+            Map<Integer, byte[]> successByYear = new HashMap<>();
+            for (QuitSurvey survey : surveys) {
+                addDay(surveyedByYear, successByYear, survey.getSurveyDate(), survey.isSuccess());
+            }
+            try {
+                merge(userId, surveyedByYear, successByYear);
+            } catch (Exception e) {
+                log.warn(">>> [CheckIn] 일괄 체크인 기록 실패 (User: {}) : {}", userId, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    // 설문 수정으로 그날 성공 여부가 바뀐 경우 성공 비트만 다시 설정 (커밋 후)
+    public void setSuccessAfterCommit(Long userId, LocalDate date, boolean isSuccess) {
+        Runnable update = () -> {
+            try {
+                redisTemplate.opsForValue().setBit(successKey(userId, date.getYear()), date.getDayOfYear() - 1, isSuccess);
+            } catch (Exception e) {
+                log.warn(">>> [CheckIn] 성공 비트 갱신 실패 (User: {}, Date: {}) : {}", userId, date, e.getMessage());
+            }
+        };
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            update.run();
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                update.run();
+            }
+        });
+    }
+
+    // 연간 달력 조회 (두 비트맵을 한 번에 읽어 날짜로 변환)
+    public CheckInCalendarResponseDto getCalendar(Long userId, int year) {
+        if (year < 2000 || year > LocalDate.now().getYear() + 1) {
+            throw new IllegalArgumentException("조회할 수 없는 연도입니다. year = " + year);
+        }
+
+        byte[] surveyed = null;
+        byte[] success = null;
+        try {
+            List<byte[]> values = redisTemplate.execute((RedisCallback<List<byte[]>>) connection ->
+                    connection.stringCommands().mGet(bytes(surveyedKey(userId, year)), bytes(successKey(userId, year))));
+            if (values != null && values.size() == 2) {
+                surveyed = values.get(0);
+                success = values.get(1);
+            }
+        } catch (Exception e) {
+            log.warn(">>> [CheckIn] 체크인 달력 조회 실패 (User: {}, Year: {}) : {}", userId, year, e.getMessage());
+        }
+
+        List<LocalDate> surveyedDates = toDates(year, surveyed);
+        List<LocalDate> successDates = toDates(year, success);
+        return CheckInCalendarResponseDto.builder()
+                .year(year)
+                .surveyedDays(surveyedDates.size())
+                .successDays(successDates.size())
+                .surveyedDates(surveyedDates)
+                .successDates(successDates)
+                .build();
+    }
+
+    // quit_survey 기록으로 비트맵 재구성 (백필 / 보정용)
+    // 기존 비트맵에 OR 로 합치므로 재구성 도중 새로 기록된 비트도 지워지지 않음
+    public void rebuild(Long userId) {
+        Map<Integer, byte[]> surveyedByYear = new HashMap<>();
+        Map<Integer, byte[]> successByYear = new HashMap<>();
+        for (CheckInDayDto day : quitSurveyRepository.findCheckInDaysByUserId(userId)) {
+            addDay(surveyedByYear, successByYear, day.getDay(),
+                    day.getSuccess() != null && day.getSuccess().intValue() == 1);
+        }
+        merge(userId, surveyedByYear, successByYear);
+    }
+
+    private static void addDay(Map<Integer, byte[]> surveyedByYear, Map<Integer, byte[]> successByYear,
+                               LocalDate date, boolean isSuccess) {
+        int offset = date.getDayOfYear() - 1;
+        setBit(surveyedByYear.computeIfAbsent(date.getYear(), y -> new byte[BITMAP_BYTES]), offset);
+        if (isSuccess) {
+            setBit(successByYear.computeIfAbsent(date.getYear(), y -> new byte[BITMAP_BYTES]), offset);
+        }
+    }
+
+    // 비트맵은 바이너리라 RedisTemplate 의 문자열 직렬화를 거치지 않고 연결에서 바로 EVAL (한 번의 왕복)
+    private void merge(Long userId, Map<Integer, byte[]> surveyedByYear, Map<Integer, byte[]> successByYear) {
+        List<byte[]> keys = new ArrayList<>();
+        List<byte[]> bitmaps = new ArrayList<>();
+        surveyedByYear.forEach((year, bitmap) -> addMerge(keys, bitmaps, surveyedKey(userId, year), bitmap));
+        successByYear.forEach((year, bitmap) -> addMerge(keys, bitmaps, successKey(userId, year), bitmap));
+        if (bitmaps.isEmpty()) {
+            return;
+        }
+
+        List<byte[]> keysAndArgs = new ArrayList<>(keys);
+        keysAndArgs.addAll(bitmaps);
+        redisTemplate.execute((RedisCallback<Object>) connection -> connection.scriptingCommands().eval(
+                bytes(MERGE_SCRIPT), ReturnType.INTEGER, keys.size(), keysAndArgs.toArray(new byte[0][])));
+    }
+
+    private static void addMerge(List<byte[]> keys, List<byte[]> bitmaps, String key, byte[] bitmap) {
+        keys.add(bytes(key));
+        keys.add(bytes(key + ":rebuild"));
+        bitmaps.add(bitmap);
+    }
+
+    // Redis 비트맵은 각 바이트의 최상위 비트부터 offset 0, 1, 2 ...
+    static void setBit(byte[] bitmap, int offset) {
+        bitmap[offset >> 3] |= (byte) (0x80 >>> (offset & 7));
+    }
+
+    static List<LocalDate> toDates(int year, byte[] bitmap) {
+        List<LocalDate> dates = new ArrayList<>();
+        if (bitmap == null) {
+            return dates;
+        }
+        int daysInYear = LocalDate.of(year, 1, 1).lengthOfYear();
+        for (int offset = 0; offset < Math.min(daysInYear, bitmap.length * 8); offset++) {
+            if ((bitmap[offset >> 3] & (0x80 >>> (offset & 7))) != 0) {
+                dates.add(LocalDate.ofYearDay(year, offset + 1));
+            }
+        }
+        return dates;
+    }
+
+    private static String surveyedKey(Long userId, int year) {
+        return SURVEYED_KEY_PREFIX + userId + ":" + year;
+    }
+
+    private static String successKey(Long userId, int year) {
+        return SUCCESS_KEY_PREFIX + userId + ":" + year;
+    }
+
+    private static byte[] bytes(String key) {
+        return key.getBytes(StandardCharsets.UTF_8);
+    }
+}
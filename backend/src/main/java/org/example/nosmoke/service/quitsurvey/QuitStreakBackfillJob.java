@@ -0,0 +1,61 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Component;
+
+import java.util.List;
+
+// 스트릭 요약(quit_streak)이 없는 기존 사용자들을 서버 기동 후 한 번 채워 넣는 작업
+// 사용자 단위 트랜잭션으로 처리하므로 중간에 실패해도 다음 기동 때 남은 사용자부터 이어서 진행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuitStreakBackfillJob {
+    private final QuitSurveyRepository quitSurveyRepository;
+    private final QuitStreakService quitStreakService;
+
+    @Value("${quit-streak.backfill.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quit-streak.backfill.batch-size:500}")
+    private int batchSize;
+
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfill() {
+        if (!enabled) {
+            return;
+        }
+
+        long processed = 0;
+        long failed = 0;
+        List<Long> userIds;
+        // 처리된 사용자는 조회 대상에서 빠지므로 항상 첫 페이지를 가져온다
+        while (!(userIds = quitSurveyRepository.findUserIdsWithoutStreak(PageRequest.of(0, batchSize))).isEmpty()) {
+            int failedInBatch = 0;
+            for (Long userId : userIds) {
+                try {
+                    quitStreakService.rebuild(userId);
+                    processed++;
+                } catch (Exception e) {
+                    failed++;
+                    failedInBatch++;
+                    log.error(">>> [Streak] 백필 실패 (User: {}) : {}", userId, e.getMessage());
+                }
+            }
+            // 배치 전체가 실패하면 같은 사용자들이 계속 조회되므로 중단
+            if (failedInBatch == userIds.size()) {
+                break;
+            }
+        }
+
+        if (processed > 0 || failed > 0) {
+            log.info(">>> [Streak] 스트릭 요약 백필 완료 (성공: {}, 실패: {})", processed, failed);
+        }
+    }
+}
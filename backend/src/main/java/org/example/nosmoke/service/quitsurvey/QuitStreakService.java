@@ -0,0 +1,77 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.dto.quitsurvey.QuitStreakSummaryDto;
+import org.example.nosmoke.entity.QuitStreak;
+import org.example.nosmoke.repository.QuitStreakRepository;
+import org.example.nosmoke.repository.QuitSurveyArchiveRepository;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+// 금연 스트릭 요약(quit_streak) 관리
+// 설문 저장 시 한 행만 갱신하고, 요약이 없는 사용자는 DB 집계 쿼리로 한 번만 계산한다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class QuitStreakService {
+    private final QuitStreakRepository quitStreakRepository;
+    private final QuitSurveyRepository quitSurveyRepository;
+    private final DashboardViewStore dashboardViewStore;
+    private final QuitSurveyArchiveRepository quitSurveyArchiveRepository;
+
+    // 설문 저장과 같은 트랜잭션에서 호출 (저장된 설문이 이미 반영된 상태)
+    @Transactional
+    public void recordSurvey(Long userId, boolean isSuccess, LocalDate surveyDate) {
+        QuitStreak streak = quitStreakRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (streak == null) {
+            // 요약이 아직 없으면 (첫 설문 또는 백필 전) 방금 저장한 설문까지 포함해 전체 기록으로 계산
+            quitStreakRepository.save(calculate(userId));
+            return;
+        }
+        streak.record(isSuccess, surveyDate);
+    }
+
+    // 대시보드 조회용 - 요약이 없을 때만 호출, 그 자리에서 계산해 저장 (읽기 전용 조회 트랜잭션과 분리)
+    @Transactional(propagation = Propagation.REQUIRES_NEW)
+    public QuitStreak getOrRebuild(Long userId) {
+        return quitStreakRepository.findById(userId)
+                .orElseGet(() -> quitStreakRepository.save(calculate(userId)));
+    }
+
+    // 전체 기록으로 다시 계산해 덮어쓰기 (백필 / 보정용)
+    @Transactional
+    public QuitStreak rebuild(Long userId) {
+        QuitStreak calculated = calculate(userId);
+        dashboardViewStore.evictAfterCommit(userId);
+        QuitStreak streak = quitStreakRepository.findByUserIdForUpdate(userId).orElse(null);
+        if (streak == null) {
+            return quitStreakRepository.save(calculated);
+        }
+        streak.overwrite(calculated.getCurrentStreak(), calculated.getLongestStreak(),
+                calculated.getTotalSuccesses(), calculated.getLastSurveyDate());
+        return streak;
+    }
+
+    // 전체 기록을 읽지 않고 DB 집계 쿼리(윈도우 함수)로 계산
+    private QuitStreak calculate(Long userId) {
+        QuitStreakSummaryDto summary = quitSurveyRepository.summarizeStreakByUserId(userId);
+        LocalDateTime lastCreatedAt = quitSurveyRepository.findLastCreatedAtByUserId(userId);
+        if (lastCreatedAt == null) {
+            // 남은 기록이 모두 보관 테이블로 옮겨진 사용자
+            lastCreatedAt = quitSurveyArchiveRepository.findLastCreatedAtByUserId(userId);
+        }
+        return new QuitStreak(
+                userId,
+                summary.getCurrentStreak().intValue(),
+                summary.getLongestStreak().intValue(),
+                summary.getTotalSuccesses().intValue(),
+                lastCreatedAt != null ? lastCreatedAt.toLocalDate() : null
+        );
+    }
+}
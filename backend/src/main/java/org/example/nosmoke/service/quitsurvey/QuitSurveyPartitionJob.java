@@ -0,0 +1,90 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.util.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.time.LocalDate;
+
+// quit_survey 파티션 관리 작업 (SchedulerConfig 의 TaskScheduler 에서 실행, MySQL 전용)
+// 1. 앞으로 months-ahead 개월치 파티션 미리 만들기 2. retention-months 보다 오래된 파티션 보관 테이블로 옮기기
+// DDL 을 실행하므로 여러 서버 중 Redis 잠금을 잡은 한 곳에서만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuitSurveyPartitionJob {
+    private static final String LOCK_NAME = "quit-survey-partition";
+
+    private final QuitSurveyPartitionService quitSurveyPartitionService;
+    private final RedisJobLock redisJobLock;
+
+    @Value("${quit-survey.partition.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quit-survey.partition.months-ahead:3}")
+    private int monthsAhead;
+
+    @Value("${quit-survey.partition.retention-months:24}")
+    private int retentionMonths;
+
+    @Value("${quit-survey.partition.archive-batch-size:1000}")
+    private int archiveBatchSize;
+
+    // 보관 작업이 가장 오래 걸리는 시간보다 넉넉하게 (작업 중 만료되면 다른 서버가 같이 돌 수 있음)
+    @Value("${quit-survey.partition.lock-ttl-minutes:120}")
+    private long lockTtlMinutes;
+
+    @Scheduled(cron = "${quit-survey.partition.cron:0 0 3 * * *}")
+    public void maintain() {
+        if (!enabled) {
+            return;
+        }
+
+        String token;
+        try {
+            token = redisJobLock.tryLock(LOCK_NAME, Duration.ofMinutes(lockTtlMinutes));
+        } catch (Exception e) {
+            // 잠금 여부를 알 수 없으면 실행하지 않음 - 다음 실행에서 다시 시도
+            log.error(">>> [Partition] 잠금 확인 실패 : {}", e.getMessage());
+            return;
+        }
+        if (token == null) {
+            log.info(">>> [Partition] 다른 서버에서 실행 중이라 건너뜀");
+            return;
+        }
+        try {
+            maintainPartitions();
+        } finally {
+            redisJobLock.unlock(LOCK_NAME, token);
+        }
+    }
+
+    private void maintainPartitions() {
+        LocalDate today = LocalDate.now();
+        try {
+            int created = quitSurveyPartitionService.createFuturePartitions(today, monthsAhead);
+            if (created > 0) {
+                log.info(">>> [Partition] 월 파티션 {}개 추가", created);
+            }
+        } catch (Exception e) {
+            // 미래 파티션이 없어도 pmax 에 저장되므로 설문 저장은 계속 됨 - 다음 실행에서 다시 시도
+            log.error(">>> [Partition] 월 파티션 추가 실패 : {}", e.getMessage());
+            return;
+        }
+
+        LocalDate cutoff = QuitSurveyPartitionService.archiveCutoff(today, retentionMonths);
+        for (String partition : quitSurveyPartitionService.findExpiredPartitions(cutoff)) {
+            try {
+                quitSurveyPartitionService.archivePartition(partition, archiveBatchSize);
+            } catch (Exception e) {
+                // 오래된 파티션부터 순서대로 옮기므로 실패하면 다음 실행으로 미룸
+                log.error(">>> [Partition] {} 보관 실패 : {}", partition, e.getMessage());
+                return;
+            }
+        }
+    }
+}
@@ -0,0 +1,89 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyPartitionDto;
+import org.example.nosmoke.entity.RollupWatermark;
+import org.example.nosmoke.repository.QuitSurveyPartitionRepository;
+import org.example.nosmoke.repository.RollupWatermarkRepository;
+import org.springframework.stereotype.Service;
+
+import java.time.LocalDate;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+
+// quit_survey 월별 파티션 관리
+// 앞으로 쓸 월 파티션을 미리 만들고, 보관 기간이 지난 파티션은 quit_survey_archive 로 옮긴 뒤 통째로 삭제한다
+// DDL 은 트랜잭션으로 묶이지 않으므로 각 단계는 다시 실행해도 결과가 같도록 (복사는 INSERT IGNORE, 삭제는 복사가 끝난 뒤)
+// 삭제 직전에 테이블을 잠그고 복사 이후 달라진 설문을 한 번 더 옮기므로, 복사 도중 쓰인 설문도 잃지 않음
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class QuitSurveyPartitionService {
+
+    private static final DateTimeFormatter PARTITION_MONTH = DateTimeFormatter.ofPattern("yyyyMM");
+
+    private final QuitSurveyPartitionRepository quitSurveyPartitionRepository;
+    private final RollupWatermarkRepository rollupWatermarkRepository;
+
+    // 이번 달부터 monthsAhead 개월 뒤까지 월 파티션이 있도록 pmax 를 잘라 추가 - 새로 만든 파티션 수 반환
+    public int createFuturePartitions(LocalDate today, int monthsAhead) {
+        List<QuitSurveyPartitionDto> partitions = quitSurveyPartitionRepository.findPartitions();
+        if (partitions.isEmpty()) {
+            return 0;
+        }
+        QuitSurveyPartitionDto last = partitions.get(partitions.size() - 1);
+        if (!last.isMaxValue() || partitions.size() < 2) {
+            throw new IllegalStateException("quit_survey 의 마지막 파티션이 " + QuitSurveyPartitionRepository.MAX_PARTITION + " 가 아닙니다.");
+        }
+
+        LocalDate lessThan = partitions.get(partitions.size() - 2).getLessThan();
+        LocalDate needed = today.withDayOfMonth(1).plusMonths(monthsAhead + 1L);
+        int created = 0;
+        while (lessThan.isBefore(needed)) {
+            quitSurveyPartitionRepository.splitMaxPartition("p" + lessThan.format(PARTITION_MONTH), lessThan.plusMonths(1));
+            lessThan = lessThan.plusMonths(1);
+            created++;
+        }
+        return created;
+    }
+
+    // 보관 기준일 - 이 날짜 전의 설문은 보관 테이블로 옮겨졌거나 옮겨질 예정 (이번 달 1일에서 retentionMonths 개월 전)
+    public static LocalDate archiveCutoff(LocalDate today, int retentionMonths) {
+        return today.withDayOfMonth(1).minusMonths(retentionMonths);
+    }
+
+    // 보관 기간이 지난 파티션 (경계값이 cutoff 이하 = 모든 설문이 cutoff 전) - 오래된 순
+    public List<String> findExpiredPartitions(LocalDate cutoff) {
+        return quitSurveyPartitionRepository.findPartitions().stream()
+                .filter(partition -> !partition.isMaxValue() && !partition.getLessThan().isAfter(cutoff))
+                .map(QuitSurveyPartitionDto::getName)
+                .toList();
+    }
+
+    // 파티션 하나를 batchSize 건씩 보관 테이블로 복사한 뒤 삭제 - 옮긴 설문 수 반환
+    // 주간 / 월간 집계가 아직 읽지 않은 설문이 있으면 옮기지 않음 (집계는 옮겨진 설문을 다시 읽지 않으므로)
+    public long archivePartition(String partition, int batchSize) {
+        Long maxId = quitSurveyPartitionRepository.findMaxId(partition);
+        if (maxId != null) {
+            long watermark = rollupWatermarkRepository.findById(QuitSurveyRollupService.WATERMARK)
+                    .map(RollupWatermark::getLastId)
+                    .orElse(0L);
+            if (maxId > watermark) {
+                throw new IllegalStateException("집계되지 않은 설문이 남아 있어 보관할 수 없습니다. partition = " + partition);
+            }
+        }
+
+        long copied = 0;
+        long afterId = 0;
+        Long upToId;
+        while ((upToId = quitSurveyPartitionRepository.findBatchEndId(partition, afterId, batchSize)) != null) {
+            copied += quitSurveyPartitionRepository.copyToArchive(partition, afterId, upToId);
+            afterId = upToId;
+        }
+        // 복사하는 동안 들어오거나 수정된 설문까지 잠금 안에서 옮기고 삭제
+        int changed = quitSurveyPartitionRepository.copyChangedAndDropPartition(partition);
+        log.info(">>> [Partition] {} 보관 완료 (복사: {}, 잠금 후 추가 복사: {})", partition, copied, changed);
+        return copied + changed;
+    }
+}
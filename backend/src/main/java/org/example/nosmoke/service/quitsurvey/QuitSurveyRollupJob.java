@@ -0,0 +1,52 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.LocalDateTime;
+
+// 주간 / 월간 설문 집계 작업 (SchedulerConfig 의 TaskScheduler 에서 실행)
+// 워터마크 이후 설문만 batch-size 건씩 집계 - 배치마다 별도 트랜잭션이라 중간에 실패해도 처리한 만큼은 남는다
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class QuitSurveyRollupJob {
+    private final QuitSurveyRollupService quitSurveyRollupService;
+
+    @Value("${quit-survey.rollup.enabled:true}")
+    private boolean enabled;
+
+    @Value("${quit-survey.rollup.batch-size:1000}")
+    private int batchSize;
+
+    // 저장 / 수정된 지 이 시간이 지난 설문만 집계 (커밋이 늦은 작은 id 를 건너뛰지 않도록)
+    @Value("${quit-survey.rollup.settle-seconds:60}")
+    private long settleSeconds;
+
+    @Scheduled(fixedDelayString = "${quit-survey.rollup.fixed-delay-ms:300000}",
+            initialDelayString = "${quit-survey.rollup.initial-delay-ms:60000}")
+    public void rollup() {
+        if (!enabled) {
+            return;
+        }
+
+        LocalDateTime settledBefore = LocalDateTime.now().minusSeconds(settleSeconds);
+        long total = 0;
+        try {
+            int processed;
+            while ((processed = quitSurveyRollupService.rollupNextBatch(batchSize, settledBefore)) > 0) {
+                total += processed;
+            }
+        } catch (Exception e) {
+            log.error(">>> [Rollup] 설문 집계 실패 (이번 실행 처리: {}) : {}", total, e.getMessage());
+            return;
+        }
+
+        if (total > 0) {
+            log.info(">>> [Rollup] 설문 집계 완료 (처리: {})", total);
+        }
+    }
+}
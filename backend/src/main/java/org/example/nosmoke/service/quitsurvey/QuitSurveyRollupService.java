@@ -0,0 +1,142 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyRollupRowDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTrendPointDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTrendResponseDto;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.QuitSurveyRollup;
+import org.example.nosmoke.entity.RollupWatermark;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.QuitSurveyRollupRepository;
+import org.example.nosmoke.repository.RollupWatermarkRepository;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+// 주간 / 월간 설문 집계(quit_survey_rollup) 관리
+// 집계 작업은 워터마크 이후 설문만 읽어 기간별로 합산한 뒤 차이만큼 더하고, 추이 조회는 집계 테이블만 읽는다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class QuitSurveyRollupService {
+
+    static final String WATERMARK = "quit_survey_rollup";
+    static final int MAX_TREND_PERIODS = 52;
+
+    private final QuitSurveyRepository quitSurveyRepository;
+    private final QuitSurveyRollupRepository quitSurveyRollupRepository;
+    private final RollupWatermarkRepository rollupWatermarkRepository;
+
+    // 워터마크 이후 설문 최대 batchSize 건을 집계하고 워터마크를 옮김 (한 트랜잭션) - 집계한 설문 수 반환, 0 이면 끝
+    // settledBefore 이후에 저장 / 수정된 설문은 다음 실행으로 미룸
+    @Transactional
+    public int rollupNextBatch(int batchSize, LocalDateTime settledBefore) {
+        RollupWatermark watermark = lockWatermark();
+        Long upToId = quitSurveyRepository.findMaxIdSettledBefore(watermark.getLastId(), settledBefore);
+        if (upToId == null) {
+            return 0;
+        }
+        List<QuitSurveyRollupRowDto> rows = quitSurveyRepository.findRollupRows(
+                watermark.getLastId(), upToId, PageRequest.of(0, batchSize));
+        if (rows.isEmpty()) {
+            return 0;
+        }
+
+        // 사용자 / 기간별로 먼저 합산해 기간당 UPDATE 한 번
+        Map<String, QuitSurveyRollup> deltas = new LinkedHashMap<>();
+        for (QuitSurveyRollupRowDto row : rows) {
+            LocalDate day = row.getSurveyDate() != null ? row.getSurveyDate() : row.getCreatedAt().toLocalDate();
+            for (QuitSurveyRollup.Period period : QuitSurveyRollup.Period.values()) {
+                LocalDate periodStart = period.startOf(day);
+                deltas.computeIfAbsent(row.getUserId() + ":" + period + ":" + periodStart,
+                                key -> new QuitSurveyRollup(row.getUserId(), period, periodStart))
+                        .add(1, Boolean.TRUE.equals(row.getSuccess()) ? 1 : 0,
+                                valueOf(row.getStressLevel()), countOf(row.getStressLevel()),
+                                valueOf(row.getCravingLevel()), countOf(row.getCravingLevel()));
+            }
+        }
+        deltas.values().forEach(this::apply);
+
+        watermark.advance(rows.get(rows.size() - 1).getId());
+        return rows.size();
+    }
+
+    // 설문 수정 - 이미 집계된 설문이면 수정 전후 차이를 같은 트랜잭션에서 반영
+    // 아직 집계 전이면 집계 작업이 수정된 값을 읽으므로 그대로 둠
+    // 워터마크는 공유 잠금으로 읽음 - 집계 배치(배타 잠금)와는 겹치지 않고, 다른 사용자의 수정끼리는 서로 기다리지 않음
+    @Transactional
+    public void recordEdit(QuitSurvey edited, boolean wasSuccess, Integer oldStressLevel, Integer oldCravingLevel) {
+        RollupWatermark watermark = rollupWatermarkRepository.findByNameForShare(WATERMARK)
+                .orElseThrow(() -> new IllegalStateException("집계 워터마크가 없습니다. name = " + WATERMARK));
+        if (edited.getId() > watermark.getLastId()) {
+            return;
+        }
+
+        LocalDate day = edited.getSurveyDate() != null ? edited.getSurveyDate() : edited.getCreatedAt().toLocalDate();
+        for (QuitSurveyRollup.Period period : QuitSurveyRollup.Period.values()) {
+            QuitSurveyRollup delta = new QuitSurveyRollup(edited.getUserId(), period, period.startOf(day));
+            delta.add(0,
+                    (edited.isSuccess() ? 1 : 0) - (wasSuccess ? 1 : 0),
+                    valueOf(edited.getStressLevel()) - valueOf(oldStressLevel),
+                    countOf(edited.getStressLevel()) - countOf(oldStressLevel),
+                    valueOf(edited.getCravingLevel()) - valueOf(oldCravingLevel),
+                    countOf(edited.getCravingLevel()) - countOf(oldCravingLevel));
+            apply(delta);
+        }
+    }
+
+    // 최근 periods 개 기간의 추이 (오래된 기간부터, 설문이 없던 기간은 0)
+    public QuitSurveyTrendResponseDto getTrend(Long userId, QuitSurveyRollup.Period period, int periods) {
+        int count = Math.max(1, Math.min(periods, MAX_TREND_PERIODS));
+        LocalDate from = period.plus(period.startOf(LocalDate.now()), -(count - 1));
+
+        Map<LocalDate, QuitSurveyRollup> rollups = quitSurveyRollupRepository
+                .findByUserIdAndPeriodTypeAndPeriodStartGreaterThanEqualOrderByPeriodStartAsc(userId, period, from)
+                .stream()
+                .collect(Collectors.toMap(QuitSurveyRollup::getPeriodStart, Function.identity()));
+
+        List<QuitSurveyTrendPointDto> points = new ArrayList<>(count);
+        for (int i = 0; i < count; i++) {
+            LocalDate periodStart = period.plus(from, i);
+            QuitSurveyRollup rollup = rollups.get(periodStart);
+            points.add(rollup != null ? new QuitSurveyTrendPointDto(rollup) : new QuitSurveyTrendPointDto(periodStart));
+        }
+        return new QuitSurveyTrendResponseDto(period, points);
+    }
+
+    private RollupWatermark lockWatermark() {
+        return rollupWatermarkRepository.findByNameForUpdate(WATERMARK)
+                .orElseThrow(() -> new IllegalStateException("집계 워터마크가 없습니다. name = " + WATERMARK));
+    }
+
+    private void apply(QuitSurveyRollup delta) {
+        int updated = quitSurveyRollupRepository.addDelta(delta.getUserId(), delta.getPeriodType(), delta.getPeriodStart(),
+                delta.getTotalSurveys(), delta.getSuccessCount(),
+                delta.getStressSum(), delta.getStressCount(),
+                delta.getCravingSum(), delta.getCravingCount());
+        if (updated == 0) {
+            // 그 기간의 첫 집계 - 집계 작업만 해당 (배타 잠금을 쥐고 있어 다른 작업이 같은 행을 만들 수 없음)
+            // 설문 수정은 이미 집계된 설문만 반영하므로 그 기간 행이 항상 있음
+            quitSurveyRollupRepository.save(delta);
+        }
+    }
+
+    // 입력되지 않은 수준 값(null)은 합계 / 개수 모두에서 제외
+    private static long valueOf(Integer level) {
+        return level != null ? level : 0;
+    }
+
+    private static long countOf(Integer level) {
+        return level != null ? 1 : 0;
+    }
+}
@@ -1,17 +1,44 @@
 package org.example.nosmoke.service.quitsurvey;
 
 import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportItemDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportRequestDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyPageResponseDto;
 import org.example.nosmoke.dto.quitsurvey.QuitSurveyRequestDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyStatsResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTrendResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyUpdateRequestDto;
+import org.example.nosmoke.entity.PointTransaction;
 import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.QuitSurveyRollup;
+import org.example.nosmoke.entity.User;
 import org.example.nosmoke.repository.MonkeyMessageRepository;
+import org.example.nosmoke.repository.QuitSurveyArchiveRepository;
+import org.example.nosmoke.repository.QuitSurveyBatchRepository;
 import org.example.nosmoke.repository.QuitSurveyRepository;
 import org.example.nosmoke.repository.UserRepository;
 //import org.example.nosmoke.service.monkey.MonkeyDialogueService;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
 import org.example.nosmoke.service.user.UserService;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.data.domain.PageRequest;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.Comparator;
+import java.util.HashSet;
 import java.util.List;
+import java.util.Optional;
+import java.util.Set;
+import java.util.function.Function;
 
 @Service
 @RequiredArgsConstructor
@@ -21,29 +48,68 @@ public class QuitSurveyService {
     private final UserRepository userRepository;
 //    private final MonkeyDialogueService monkeyDialogueService;
     private final UserService userService;
+    private final QuitStreakService quitStreakService;
+    private final DashboardViewStore dashboardViewStore;
+    private final CheckInCalendarService checkInCalendarService;
+    private final QuitSurveyStatsService quitSurveyStatsService;
+    private final QuitSurveyBatchRepository quitSurveyBatchRepository;
+    private final QuitSurveyRollupService quitSurveyRollupService;
+    private final QuitSurveyArchiveRepository quitSurveyArchiveRepository;
+
+    private static final int MAX_PAGE_SIZE = 100;
+    private static final int POINTS_FOR_SUCCESS = 10; // 성공시 10 포인트
+
+    // 일괄 등록 가능한 과거 기간 (오늘 기준 며칠 전까지)
+    @Value("${quit-survey.import.max-days-back:30}")
+    private int importMaxDaysBack;
+
+    // 보관 기간 (파티션 관리 작업과 같은 값) - 보관 기준일 전의 설문은 보관 테이블로 옮겨지므로 새로 쓰거나 고치지 않음
+    @Value("${quit-survey.partition.retention-months:24}")
+    private int retentionMonths;
 
 //    일일 금연 설문 저장 메서드
     @Transactional
     public QuitSurvey saveSurvey(Long userId, QuitSurveyRequestDto requestDto) {
-        // User 확인
-        userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId));
+        // 사용자 행 잠금 (존재 확인 겸) - 같은 사용자의 설문 저장 / 일괄 등록은 차례로 처리
+        // 동시에 온 재시도 요청은 여기서 먼저 온 요청이 커밋할 때까지 기다림 (포인트는 아래에서 UPDATE 한 문장으로 지급)
+        if (userRepository.findByIdForUpdate(userId).isEmpty()) {
+            throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId);
+        }
 
-        QuitSurvey quitSurvey = new QuitSurvey(
+        // 하루 한 번 - 오늘 설문이 이미 있으면 (재시도 요청) 처음 저장된 설문을 그대로 반환 (포인트 / 스트릭 / 통계 반영 없음)
+        // 잠금 읽기라 먼저 온 요청이 방금 커밋한 설문도 보임
+        LocalDate today = LocalDate.now();
+        Optional<QuitSurvey> existing = quitSurveyRepository.findByUserIdAndSurveyDateForShare(userId, today);
+        if (existing.isPresent()) {
+            return existing.get();
+        }
+
+        quitSurveyRepository.insertIfAbsent(
                 userId,
+                today,
                 requestDto.isSuccess(),
                 requestDto.getStressLevel(),
                 requestDto.getStressCause(),
                 requestDto.getCravingLevel(),
-                requestDto.getAdditionalNotes()
+                requestDto.getAdditionalNotes(),
+                LocalDateTime.now()
         );
 
-        QuitSurvey savedSurvey = quitSurveyRepository.save(quitSurvey);
+        QuitSurvey savedSurvey = quitSurveyRepository.findByUserIdAndSurveyDateForShare(userId, today)
+                .orElseThrow(() -> new IllegalStateException("저장된 설문을 찾을 수 없습니다. userId = " + userId));
+
+        // 스트릭 요약 갱신 (같은 트랜잭션)
+        quitStreakService.recordSurvey(userId, savedSurvey.isSuccess(), today);
+        // 설문 통계 누적값 갱신 (같은 트랜잭션)
+        quitSurveyStatsService.recordSurvey(userId, savedSurvey);
+        // 커밋 후 대시보드 조회 모델 삭제 (스트릭 / 오늘 설문 여부 / 포인트 변경)
+        dashboardViewStore.evictAfterCommit(userId);
+        // 커밋 후 체크인 달력에 오늘 비트 기록
+        checkInCalendarService.recordAfterCommit(userId, today, savedSurvey.isSuccess());
 
-        // 금연 성공 시 포인트 지급
+        // 금연 성공 시 포인트 지급 (처음 저장될 때 한 번만)
         if (savedSurvey.isSuccess()) {
-            final int POINTS_FOR_SUCCESS = 10; // 성공시 10 포인트
-            userService.addPoints(userId, POINTS_FOR_SUCCESS);
+            userService.addPoints(userId, POINTS_FOR_SUCCESS, PointTransaction.Reason.SURVEY_SUCCESS);
         }
 
 //        monkeyDialogueService.generateAndSaveReactiveMessage(userId, savedSurvey);
@@ -52,10 +118,253 @@ public class QuitSurveyService {
 
     }
 
-    // 특정 사용자 설문 기록 조회
-    public List<QuitSurvey> findSurveyByUserId(Long userId) {
-        userRepository.findById(userId)
+    // 오프라인으로 기록한 설문 일괄 등록 (한 트랜잭션)
+    // 이미 설문이 있는 날짜는 건너뛰고, 나머지는 배치 INSERT 로 저장한 뒤 스트릭 / 통계 / 포인트를 한 번씩만 갱신
+    @Transactional
+    public QuitSurveyImportResponseDto importSurveys(Long userId, QuitSurveyImportRequestDto requestDto) {
+        // 사용자 행 잠금 - 같은 날짜의 설문 저장과 차례로 처리 (잠금 후 첫 조회라 먼저 커밋된 설문까지 보임)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId));
-        return quitSurveyRepository.findByUserId(userId);
+
+        // 날짜 오름차순 + 중복 없음 + 오늘까지만
+        // 과거 날짜는 오프라인 기록 기간(import-max-days-back) 안쪽, 가입일 이후만 (지난 날짜를 몰아서 등록해 포인트를 받는 것 방지)
+        List<QuitSurveyImportItemDto> items = requestDto.getSurveys();
+        LocalDate today = LocalDate.now();
+        LocalDate oldest = items.get(0).getSurveyDate();
+        if (oldest.isBefore(today.minusDays(importMaxDaysBack))) {
+            throw new IllegalArgumentException("최근 " + importMaxDaysBack + "일 이내의 설문만 등록할 수 있습니다.");
+        }
+        if (user.getCreatedAt() != null && oldest.isBefore(user.getCreatedAt().toLocalDate())) {
+            throw new IllegalArgumentException("가입일 이전의 설문은 등록할 수 없습니다.");
+        }
+        // 보관 기준일 전 날짜는 아래 중복 확인(quit_survey 만 조회)에 보관된 설문이 잡히지 않고, 옮기는 중인 파티션에 쓰게 됨
+        if (oldest.isBefore(QuitSurveyPartitionService.archiveCutoff(today, retentionMonths))) {
+            throw new IllegalArgumentException("보관 기간이 지난 날짜의 설문은 등록할 수 없습니다.");
+        }
+        LocalDate previous = null;
+        for (QuitSurveyImportItemDto item : items) {
+            if (previous != null && !item.getSurveyDate().isAfter(previous)) {
+                throw new IllegalArgumentException("설문 날짜는 오래된 순서로 중복 없이 보내야 합니다.");
+            }
+            if (item.getSurveyDate().isAfter(today)) {
+                throw new IllegalArgumentException("미래 날짜의 설문은 등록할 수 없습니다.");
+            }
+            previous = item.getSurveyDate();
+        }
+
+        // 이미 설문이 있는 날짜 제외 (범위 조회 한 번)
+        Set<LocalDate> existingDates = new HashSet<>(quitSurveyRepository.findSurveyDatesBetween(
+                userId, items.get(0).getSurveyDate(), items.get(items.size() - 1).getSurveyDate()));
+        List<QuitSurvey> surveys = items.stream()
+                .filter(item -> !existingDates.contains(item.getSurveyDate()))
+                .map(item -> new QuitSurvey(
+                        userId,
+                        item.getSurveyDate(),
+                        item.isSuccess(),
+                        item.getStressLevel(),
+                        item.getStressCause(),
+                        item.getCravingLevel(),
+                        item.getAdditionalNotes()))
+                .toList();
+        if (surveys.isEmpty()) {
+            return new QuitSurveyImportResponseDto(items.size(), 0, items.size(), 0);
+        }
+
+        try {
+            quitSurveyBatchRepository.insertAll(surveys);
+        } catch (DuplicateKeyException e) {
+            // 확인 직후 같은 날짜가 다른 요청으로 저장된 경우 - 전체 롤백 후 재시도하면 그 날짜는 건너뜀
+            throw new IllegalArgumentException("이미 저장된 날짜가 포함되어 있습니다. 다시 시도해주세요.");
+        }
+
+        // 과거 날짜가 중간에 끼어들 수 있으므로 스트릭은 집계 쿼리로 다시 계산 (한 번)
+        quitStreakService.rebuild(userId);
+        // 설문 통계 누적값 갱신 (UPDATE 한 번)
+        quitSurveyStatsService.recordSurveys(userId, surveys);
+        // 커밋 후 대시보드 조회 모델 삭제 / 체크인 달력 기록
+        dashboardViewStore.evictAfterCommit(userId);
+        checkInCalendarService.recordAllAfterCommit(userId, surveys);
+
+        // 성공한 날만큼 포인트 지급 (UPDATE 한 번, 원장 한 건)
+        int successDays = (int) surveys.stream().filter(QuitSurvey::isSuccess).count();
+        int pointsEarned = successDays * POINTS_FOR_SUCCESS;
+        if (pointsEarned > 0) {
+            userService.addPoints(userId, pointsEarned, PointTransaction.Reason.SURVEY_SUCCESS);
+        }
+
+        return new QuitSurveyImportResponseDto(items.size(), surveys.size(), items.size() - surveys.size(), pointsEarned);
+    }
+
+    // 설문 수정 - 통계 누적값은 달라진 만큼만 보정, 성공 여부가 바뀌면 스트릭도 다시 계산
+    // (이미 지급한 포인트는 그대로 둔다)
+    @Transactional
+    public QuitSurvey updateSurvey(Long userId, Long surveyId, QuitSurveyUpdateRequestDto requestDto) {
+        QuitSurvey survey = quitSurveyRepository.findById(surveyId)
+                .orElseThrow(() -> new IllegalArgumentException("해당 설문을 찾을 수 없습니다. id = " + surveyId));
+        if (!survey.getUserId().equals(userId)) {
+            throw new IllegalArgumentException("본인의 설문만 수정할 수 있습니다.");
+        }
+        // 보관 테이블로 옮기는 중인 파티션의 설문 - 복사된 뒤 고친 내용이 사라지지 않도록 막음
+        if (survey.getSurveyDate() != null
+                && survey.getSurveyDate().isBefore(QuitSurveyPartitionService.archiveCutoff(LocalDate.now(), retentionMonths))) {
+            throw new IllegalArgumentException("보관 기간이 지난 설문은 수정할 수 없습니다.");
+        }
+
+        boolean wasSuccess = survey.isSuccess();
+        Integer oldStressLevel = survey.getStressLevel();
+        Integer oldCravingLevel = survey.getCravingLevel();
+
+        survey.updateSurvey(
+                requestDto.isSuccess(),
+                requestDto.getStressLevel(),
+                requestDto.getStressCause(),
+                requestDto.getCravingLevel(),
+                requestDto.getAdditionalNotes()
+        );
+
+        quitSurveyStatsService.recordEdit(userId, wasSuccess, oldStressLevel, oldCravingLevel, survey);
+        // 이미 주간 / 월간 집계에 들어간 설문이면 차이만큼 보정
+        quitSurveyRollupService.recordEdit(survey, wasSuccess, oldStressLevel, oldCravingLevel);
+
+        if (wasSuccess != survey.isSuccess()) {
+            // 중간 기록이 바뀌면 이후 연속 구간이 모두 달라지므로 집계 쿼리로 다시 계산 (수정 내용 먼저 반영)
+            quitSurveyRepository.flush();
+            quitStreakService.rebuild(userId);
+
+            // 체크인 달력의 그날 성공 비트 = 그날 성공한 설문이 하나라도 있는지
+            // 한꺼번에 올린 지난 설문은 작성일과 설문 날짜가 다르므로 survey_date 기준 (없는 옛 행만 작성일)
+            LocalDate surveyDate = survey.getSurveyDate() != null ? survey.getSurveyDate() : survey.getCreatedAt().toLocalDate();
+            boolean successOnDay = quitSurveyRepository.existsSuccessOnDate(userId, surveyDate);
+            checkInCalendarService.setSuccessAfterCommit(userId, surveyDate, successOnDay);
+        }
+
+        // 커밋 후 대시보드 조회 모델 삭제
+        dashboardViewStore.evictAfterCommit(userId);
+        return survey;
+    }
+
+    // 특정 사용자 설문 기록 조회 (최신 순, 커서 기반 페이징)
+    // cursor 가 없으면 첫 페이지, 있으면 이전 페이지의 마지막 설문 다음부터
+    // 보관된 설문도 같은 커서로 함께 읽어 (createdAt, id) 순으로 합침
+    public QuitSurveyPageResponseDto findSurveyPage(Long userId, String cursor, int size) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId);
+        }
+        int pageSize = Math.max(1, Math.min(size, MAX_PAGE_SIZE));
+
+        // 한 개 더 읽어서 다음 페이지 존재 여부 판단
+        PageRequest limit = PageRequest.of(0, pageSize + 1);
+        List<QuitSurveyResponseDto> surveys;
+        List<QuitSurveyResponseDto> archived;
+        if (cursor == null || cursor.isBlank()) {
+            surveys = toResponses(findRecentPage(LocalDate.now(), pageSize + 1,
+                    from -> quitSurveyRepository.findFirstPageByUserId(userId, from, limit)));
+            archived = quitSurveyArchiveRepository.findFirstPageByUserId(userId, limit)
+                    .stream().map(QuitSurveyResponseDto::new).toList();
+        } else {
+            String[] position = decodeCursor(cursor);
+            LocalDateTime createdAt = LocalDateTime.parse(position[0]);
+            Long id = Long.parseLong(position[1]);
+            LocalDate to = createdAt.toLocalDate();
+            surveys = toResponses(findRecentPage(to, pageSize + 1,
+                    from -> quitSurveyRepository.findPageByUserIdBefore(userId, from, to, createdAt, id, limit)));
+            archived = quitSurveyArchiveRepository.findPageByUserIdBefore(userId, createdAt, id, limit)
+                    .stream().map(QuitSurveyResponseDto::new).toList();
+        }
+        if (!archived.isEmpty()) {
+            surveys = mergeNewestFirst(surveys, archived, pageSize + 1);
+        }
+
+        boolean hasNext = surveys.size() > pageSize;
+        if (hasNext) {
+            surveys = surveys.subList(0, pageSize);
+        }
+        String nextCursor = hasNext ? encodeCursor(surveys.get(surveys.size() - 1)) : null;
+
+        return new QuitSurveyPageResponseDto(surveys, nextCursor, hasNext);
+    }
+
+    // 설문 통계 (목록과 분리 - 페이지 조회가 전체 기록을 읽지 않도록)
+    public QuitSurveyStatsResponseDto getSurveyStats(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId);
+        }
+        return quitSurveyStatsService.getStats(userId);
+    }
+
+    // 주별 / 월별 추이 (집계 테이블만 읽음) - period : week, month
+    public QuitSurveyTrendResponseDto getSurveyTrend(Long userId, String period, int periods) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId);
+        }
+        QuitSurveyRollup.Period rollupPeriod = switch (period.toLowerCase()) {
+            case "week" -> QuitSurveyRollup.Period.WEEK;
+            case "month" -> QuitSurveyRollup.Period.MONTH;
+            default -> throw new IllegalArgumentException("조회할 수 없는 기간입니다. (week, month) period = " + period);
+        };
+        return quitSurveyRollupService.getTrend(userId, rollupPeriod, periods);
+    }
+
+    // 최신 순(created_at) 페이지를 최근 survey_date 구간에서 먼저 읽음 (quit_survey 는 survey_date 월별 파티션 - 몇 개만 읽음)
+    // 설문은 하루 한 건이라 limit 건을 채우려면 limit 일, 일괄 등록 설문은 작성일보다 최대 importMaxDaysBack 일 이르므로 그만큼 더
+    // 구간 밖 설문은 (from + importMaxDaysBack) 전에 작성된 것 --> 마지막 설문이 그 뒤에 작성됐으면 구간 밖 설문이 끼어들 수 없음
+    // 아니면 (기록이 드문 사용자) 하한 없이 다시 읽음
+    private List<QuitSurvey> findRecentPage(LocalDate newest, int limit, Function<LocalDate, List<QuitSurvey>> query) {
+        LocalDate from = newest.minusDays(limit + (long) importMaxDaysBack);
+        List<QuitSurvey> page = query.apply(from);
+        if (page.size() >= limit) {
+            LocalDateTime lastCreatedAt = page.get(limit - 1).getCreatedAt();
+            if (lastCreatedAt != null && !lastCreatedAt.toLocalDate().isBefore(from.plusDays(importMaxDaysBack))) {
+                return page;
+            }
+        }
+        return query.apply(LocalDate.EPOCH);
+    }
+
+    // 커서 = Base64("createdAt|id") - 클라이언트는 내용을 몰라도 되도록 불투명한 문자열로 전달
+    private static List<QuitSurveyResponseDto> toResponses(List<QuitSurvey> surveys) {
+        return surveys.stream().map(QuitSurveyResponseDto::new).toList();
+    }
+
+    // 둘 다 (createdAt, id) 최신 순으로 정렬된 목록 - 앞에서부터 limit 개만 합침
+    // 보관 테이블로 옮기는 중(복사 후 파티션 삭제 전)이면 같은 설문이 양쪽에 있을 수 있어 id 로 한 번만 담음
+    private static List<QuitSurveyResponseDto> mergeNewestFirst(List<QuitSurveyResponseDto> live,
+                                                                List<QuitSurveyResponseDto> archived, int limit) {
+        Comparator<QuitSurveyResponseDto> newestFirst = Comparator
+                .comparing(QuitSurveyResponseDto::getCreatedAt)
+                .thenComparing(QuitSurveyResponseDto::getId)
+                .reversed();
+        List<QuitSurveyResponseDto> merged = new ArrayList<>(limit);
+        Set<Long> ids = new HashSet<>();
+        int i = 0, j = 0;
+        while (merged.size() < limit && (i < live.size() || j < archived.size())) {
+            QuitSurveyResponseDto next;
+            if (j >= archived.size() || (i < live.size() && newestFirst.compare(live.get(i), archived.get(j)) <= 0)) {
+                next = live.get(i++);
+            } else {
+                next = archived.get(j++);
+            }
+            if (ids.add(next.getId())) {
+                merged.add(next);
+            }
+        }
+        return merged;
+    }
+
+    private static String encodeCursor(QuitSurveyResponseDto survey) {
+        String raw = survey.getCreatedAt() + "|" + survey.getId();
+        return Base64.getUrlEncoder().withoutPadding().encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    private static String[] decodeCursor(String cursor) {
+        try {
+            String raw = new String(Base64.getUrlDecoder().decode(cursor), StandardCharsets.UTF_8);
+            String[] position = raw.split("\\|");
+            LocalDateTime.parse(position[0]);
+            Long.parseLong(position[1]);
+            return position;
+        } catch (RuntimeException e) {
+            throw new IllegalArgumentException("잘못된 커서입니다.");
+        }
     }
 }
@@ -0,0 +1,116 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyStatsResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTotalsDto;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.QuitSurveyStats;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.QuitSurveyStatsRepository;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.util.List;
+
+// 사용자별 설문 통계 누적값(quit_survey_stats) 관리
+// 설문 저장 / 수정 시 달라진 만큼만 UPDATE 한 문장으로 더하고, 통계 조회는 이 한 행만 읽는다
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class QuitSurveyStatsService {
+    private final QuitSurveyStatsRepository quitSurveyStatsRepository;
+    private final QuitSurveyRepository quitSurveyRepository;
+
+    // 설문 저장과 같은 트랜잭션에서 호출 (저장된 설문이 이미 반영된 상태)
+    @Transactional
+    public void recordSurvey(Long userId, QuitSurvey survey) {
+        applyDelta(userId, 1,
+                survey.isSuccess() ? 1 : 0,
+                valueOf(survey.getStressLevel()), countOf(survey.getStressLevel()),
+                valueOf(survey.getCravingLevel()), countOf(survey.getCravingLevel()));
+    }
+
+    // 설문 일괄 등록 - 새로 저장된 설문 전체를 합산해 UPDATE 한 번
+    @Transactional
+    public void recordSurveys(Long userId, List<QuitSurvey> surveys) {
+        long success = 0, stressSum = 0, stressCount = 0, cravingSum = 0, cravingCount = 0;
+        for (QuitSurvey survey : surveys) {
+            success += survey.isSuccess() ? 1 : 0;
+            stressSum += valueOf(survey.getStressLevel());
+            stressCount += countOf(survey.getStressLevel());
+            cravingSum += valueOf(survey.getCravingLevel());
+            cravingCount += countOf(survey.getCravingLevel());
+        }
+        applyDelta(userId, surveys.size(), success, stressSum, stressCount, cravingSum, cravingCount);
+    }
+
+    // 설문 수정 - 수정 전 값을 빼고 수정 후 값을 더함
+    @Transactional
+    public void recordEdit(Long userId, boolean wasSuccess, Integer oldStressLevel, Integer oldCravingLevel, QuitSurvey edited) {
+        applyDelta(userId, 0,
+                (edited.isSuccess() ? 1 : 0) - (wasSuccess ? 1 : 0),
+                valueOf(edited.getStressLevel()) - valueOf(oldStressLevel),
+                countOf(edited.getStressLevel()) - countOf(oldStressLevel),
+                valueOf(edited.getCravingLevel()) - valueOf(oldCravingLevel),
+                countOf(edited.getCravingLevel()) - countOf(oldCravingLevel));
+    }
+
+    // 통계 조회 - 누적값이 아직 없는 사용자(보정 작업 전)만 설문 기록으로 계산
+    public QuitSurveyStatsResponseDto getStats(Long userId) {
+        QuitSurveyStats stats = quitSurveyStatsRepository.findById(userId)
+                .orElseGet(() -> calculate(userId));
+        return new QuitSurveyStatsResponseDto(stats);
+    }
+
+    // 설문 기록으로 다시 계산해 비교 후 덮어쓰기 (보정용) - 누적값과 달랐으면 true
+    // 누적값이 없던 사용자는 새로 채우기만 하고 오차로 세지 않음
+    @Transactional
+    public boolean reconcile(Long userId) {
+        QuitSurveyStats stats = quitSurveyStatsRepository.findByUserIdForUpdate(userId).orElse(null);
+        QuitSurveyStats calculated = calculate(userId);
+        if (stats == null) {
+            // 그 사이 첫 설문이 행을 만들었으면 그대로 둠 (차이 0)
+            quitSurveyStatsRepository.insertOrAddDelta(calculated, 0, 0, 0, 0, 0, 0);
+            return false;
+        }
+        if (stats.sameAs(calculated)) {
+            return false;
+        }
+        stats.overwrite(calculated);
+        return true;
+    }
+
+    private void applyDelta(Long userId, long total, long success,
+                            long stressSum, long stressCount, long cravingSum, long cravingCount) {
+        int updated = quitSurveyStatsRepository.addDelta(userId, total, success,
+                stressSum, stressCount, cravingSum, cravingCount);
+        if (updated == 0) {
+            // 누적값이 아직 없으면 (첫 설문 또는 보정 전) 방금 저장한 설문까지 포함해 전체 기록으로 계산해 INSERT
+            // 동시에 저장된 다른 설문이 먼저 행을 만들었으면 이번 차이만 더함
+            quitSurveyStatsRepository.insertOrAddDelta(calculate(userId),
+                    total, success, stressSum, stressCount, cravingSum, cravingCount);
+        }
+    }
+
+    private QuitSurveyStats calculate(Long userId) {
+        QuitSurveyTotalsDto totals = quitSurveyRepository.calculateTotalsByUserId(userId);
+        return new QuitSurveyStats(
+                userId,
+                totals.getTotalSurveys().longValue(),
+                totals.getSuccessCount().longValue(),
+                totals.getStressSum().longValue(),
+                totals.getStressCount().longValue(),
+                totals.getCravingSum().longValue(),
+                totals.getCravingCount().longValue()
+        );
+    }
+
+    // 입력되지 않은 수준 값(null)은 합계 / 개수 모두에서 제외
+    private static long valueOf(Integer level) {
+        return level != null ? level : 0;
+    }
+
+    private static long countOf(Integer level) {
+        return level != null ? 1 : 0;
+    }
+}
@@ -4,9 +4,9 @@ import lombok.RequiredArgsConstructor;
 import org.example.nosmoke.dto.smokinginfo.SmokingInfoRequestDto;
 import org.example.nosmoke.dto.smokinginfo.SmokingInfoUpdateRequestDto;
 import org.example.nosmoke.entity.SmokingInfo;
-import org.example.nosmoke.entity.User;
 import org.example.nosmoke.repository.SmokingInfoRepository;
-import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.cache.EntityCacheInvalidator;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -18,7 +18,8 @@ import java.time.LocalDateTime;
 public class SmokingInfoService {
 
     private final SmokingInfoRepository smokingInfoRepository;
-    private final UserRepository userRepository;
+    private final DashboardViewStore dashboardViewStore;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
     // 흡연 정보 조회
     public SmokingInfo getSmokingInfo(Long userId) {
@@ -26,37 +27,32 @@ public class SmokingInfoService {
                 .orElseThrow(() -> new IllegalArgumentException("흡연 정보를 찾을 수 없습니다."));
     }
 
-    // 흡연 정보 저장
+    // 흡연 정보 저장 - 사용자 확인 + 저장 / 수정을 INSERT ... ON DUPLICATE KEY UPDATE 한 문장으로
+    // 동시에 저장해도 user_id 유니크 키 때문에 행이 하나만 생김
     @Transactional
     public SmokingInfo smokingInfoSave(Long userId, SmokingInfoRequestDto requestDto) {
-        // User가 존재하는지 확인
-        User user = userRepository.findById(userId)
-                .orElseThrow(() -> new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId));
+        int affected = smokingInfoRepository.upsert(
+                userId,
+                requestDto.getCigaretteType(),
+                requestDto.getDailyConsumption(),
+                requestDto.getQuitStartTime(),
+                requestDto.getTargetDate(),
+                requestDto.getQuitGoal(),
+                LocalDateTime.now()
+        );
+        if (affected == 0) {
+            throw new IllegalArgumentException("해당 사용자를 찾을 수 없습니다. id = " + userId);
+        }
 
-        // 기존 정보가 있는지 확인하여 분기 처리
-        return smokingInfoRepository.findByUserId(userId)
-                .map(existingInfo -> {
-                    // 이미 존재하면 -> 기존 객체 업데이트 (Dirty Checking)
-                    existingInfo.updateInfo(
-                            requestDto.getCigaretteType(),
-                            requestDto.getDailyConsumption(),
-                            requestDto.getTargetDate(),
-                            requestDto.getQuitGoal()
-                    );
-                    return existingInfo;
-                })
-                .orElseGet(() -> {
-                    // 없으면 -> 새로 생성하여 저장 (Insert)
-                    SmokingInfo newInfo = new SmokingInfo(
-                            userId,
-                            requestDto.getCigaretteType(),
-                            requestDto.getDailyConsumption(),
-                            requestDto.getQuitStartTime(),
-                            requestDto.getTargetDate(),
-                            requestDto.getQuitGoal()
-                    );
-                    return smokingInfoRepository.save(newInfo);
-                });
+        // 커밋 후 대시보드 조회 모델 삭제
+        dashboardViewStore.evictAfterCommit(userId);
+
+        SmokingInfo saved = smokingInfoRepository.findByUserId(userId)
+                .orElseThrow(() -> new IllegalStateException("저장한 흡연 정보를 찾을 수 없습니다. userId = " + userId));
+
+        // 이 서버 캐시는 upsert 가 비웠으므로, 커밋 후 다른 서버의 2차 캐시에도 알림
+        entityCacheInvalidator.evictAfterCommit(SmokingInfo.class, saved.getId());
+        return saved;
     }
 
     // 흡연 정보 업데이트
@@ -71,6 +67,9 @@ public class SmokingInfoService {
                 requestDto.getTargetDate(),
                 requestDto.getQuitGoal()
         );
+
+        // 커밋 후 대시보드 조회 모델 삭제
+        dashboardViewStore.evictAfterCommit(userId);
     }
 
 }
\ No newline at end of file
@@ -0,0 +1,157 @@
+package org.example.nosmoke.service.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.util.BloomFilter;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.Cursor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ScanOptions;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Service;
+
+import java.nio.charset.StandardCharsets;
+import java.util.concurrent.TimeUnit;
+
+// 로그아웃된 Access Token 블랙리스트
+// Redis 에 "BL:{토큰ID}" 를 토큰의 남은 유효시간만큼만 저장하고,
+// 로컬 Bloom Filter 로 "블랙리스트에 확실히 없는" 대부분의 요청은 Redis 조회 없이 통과시킨다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class AccessTokenBlacklist {
+
+    private static final String KEY_PREFIX = "BL:";
+    static final String REVOKED_VALUE = "logout";
+    public static final String REVOCATION_CHANNEL = "auth:revoked";
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.revocation.bloom.expected-insertions:100000}")
+    private long expectedInsertions;
+
+    @Value("${auth.revocation.bloom.false-positive-rate:0.01}")
+    private double falsePositiveRate;
+
+    private volatile BloomFilter bloomFilter;
+    // 재구성 중에는 새로 들어온 토큰ID를 새 필터에도 함께 기록
+    private volatile BloomFilter rebuildingFilter;
+    // Redis 에서 한 번이라도 적재에 성공하기 전까지는 Bloom Filter 를 믿지 않고 Redis 를 직접 조회
+    private volatile boolean bloomFilterReady = false;
+
+    private Counter bloomNegativeCounter;
+    private Counter falsePositiveCounter;
+    private Counter revokedHitCounter;
+
+    @PostConstruct
+    public void init() {
+        bloomFilter = new BloomFilter(expectedInsertions, falsePositiveRate);
+
+        // 다른 서버에서 로그아웃된 토큰도 로컬 필터에 반영
+        redisMessageListenerContainer.addMessageListener(
+                this::onRevoked, new ChannelTopic(REVOCATION_CHANNEL));
+
+        bloomNegativeCounter = Counter.builder("auth.revocation.check")
+                .description("블랙리스트 확인 결과")
+                .tag("result", "bloom_negative")
+                .register(meterRegistry);
+        falsePositiveCounter = Counter.builder("auth.revocation.check")
+                .description("블랙리스트 확인 결과")
+                .tag("result", "false_positive")
+                .register(meterRegistry);
+        revokedHitCounter = Counter.builder("auth.revocation.check")
+                .description("블랙리스트 확인 결과")
+                .tag("result", "revoked")
+                .register(meterRegistry);
+    }
+
+    // 토큰 폐기 - ttlMillis : 토큰의 남은 유효시간
+    public void revoke(String tokenId, long ttlMillis) {
+        if (ttlMillis <= 0) {
+            return; // 이미 만료된 토큰은 저장할 필요 없음
+        }
+        redisTemplate.opsForValue().set(key(tokenId), REVOKED_VALUE, ttlMillis, TimeUnit.MILLISECONDS);
+        addToFilter(tokenId);
+        redisTemplate.convertAndSend(REVOCATION_CHANNEL, tokenId);
+    }
+
+    // Redis 저장/전파는 호출한 쪽(TokenSessionStore 의 로그아웃 스크립트)에서 이미 끝난 경우, 로컬 필터에만 반영
+    void markRevokedLocally(String tokenId) {
+        addToFilter(tokenId);
+    }
+
+    static String key(String tokenId) {
+        return KEY_PREFIX + tokenId;
+    }
+
+    // 폐기된 토큰인지 확인
+    public boolean isRevoked(String tokenId) {
+        if (bloomFilterReady && !bloomFilter.mightContain(tokenId)) {
+            bloomNegativeCounter.increment();
+            return false; // 대부분의 요청은 여기서 끝 (네트워크 왕복 없음)
+        }
+
+        boolean revoked = Boolean.TRUE.equals(redisTemplate.hasKey(key(tokenId)));
+        if (revoked) {
+            revokedHitCounter.increment();
+        } else {
+            falsePositiveCounter.increment();
+        }
+        return revoked;
+    }
+
+    // 서버 기동 시 Redis 에 남아있는 블랙리스트로 필터 채우기
+    @EventListener(ApplicationReadyEvent.class)
+    public void warmUp() {
+        rebuild();
+    }
+
+    // Bloom Filter 는 삭제가 안되므로, 만료된 항목이 쌓여 오탐률이 오르지 않도록 주기적으로 재구성
+    @Scheduled(fixedDelayString = "${auth.revocation.bloom.rebuild-interval-ms:3600000}",
+            initialDelayString = "${auth.revocation.bloom.rebuild-interval-ms:3600000}")
+    public void rebuild() {
+        BloomFilter fresh = new BloomFilter(expectedInsertions, falsePositiveRate);
+        rebuildingFilter = fresh;
+        long count = 0;
+
+        ScanOptions options = ScanOptions.scanOptions().match(KEY_PREFIX + "*").count(1000).build();
+        try (Cursor<String> cursor = redisTemplate.scan(options)) {
+            if (cursor == null) {
+                return;
+            }
+            while (cursor.hasNext()) {
+                fresh.put(cursor.next().substring(KEY_PREFIX.length()));
+                count++;
+            }
+            bloomFilter = fresh;
+            bloomFilterReady = true;
+            log.info(">>> [Auth] 블랙리스트 Bloom Filter 재구성 완료 ({}건)", count);
+        } catch (Exception e) {
+            log.error(">>> [Auth] 블랙리스트 Bloom Filter 재구성 실패, 기존 필터 유지 : {}", e.getMessage());
+        } finally {
+            rebuildingFilter = null;
+        }
+    }
+
+    private void addToFilter(String tokenId) {
+        bloomFilter.put(tokenId);
+        BloomFilter rebuilding = rebuildingFilter;
+        if (rebuilding != null) {
+            rebuilding.put(tokenId);
+        }
+    }
+
+    private void onRevoked(Message message, byte[] pattern) {
+        addToFilter(new String(message.getBody(), StandardCharsets.UTF_8));
+    }
+}
@@ -0,0 +1,138 @@
+package org.example.nosmoke.service.user;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import org.example.nosmoke.dto.monkey.MonkeyMessageExportDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyExportDto;
+import org.example.nosmoke.dto.smokinginfo.SmokingInfoResponseDto;
+import org.example.nosmoke.dto.user.AccountExportLineDto;
+import org.example.nosmoke.dto.user.UserProfileResponseDto;
+import org.example.nosmoke.entity.SmokingInfo;
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.exception.TooManyRequestsException;
+import org.example.nosmoke.repository.MonkeyMessageRepository;
+import org.example.nosmoke.repository.QuitSurveyArchiveRepository;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.SmokingInfoRepository;
+import org.example.nosmoke.repository.UserRepository;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+
+import java.io.BufferedOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.util.Iterator;
+import java.util.concurrent.Semaphore;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipOutputStream;
+
+// 계정 데이터 내보내기 (프로필, 흡연 정보, 설문 기록, 대화 기록) - 한 줄에 한 건씩 NDJSON
+// 설문 / 대화 기록은 DB 에서 한 건씩 흘려받아 바로 쓰므로, 기록이 아무리 많아도 메모리에는 한 건씩만 올라온다
+// 내보내기 하나가 끝날 때까지 커넥션 + 트랜잭션을 잡고 있으므로 동시에 max-concurrent 건까지만 허용
+@Service
+@RequiredArgsConstructor
+@Transactional(readOnly = true)
+public class AccountExportService {
+
+    public static final String FILE_NAME = "nosmoke-export.ndjson";
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final UserRepository userRepository;
+    private final SmokingInfoRepository smokingInfoRepository;
+    private final QuitSurveyRepository quitSurveyRepository;
+    private final QuitSurveyArchiveRepository quitSurveyArchiveRepository;
+    private final MonkeyMessageRepository monkeyMessageRepository;
+    private final ObjectMapper objectMapper;
+
+    @Value("${account.export.max-concurrent:4}")
+    private int maxConcurrent;
+
+    @Value("${account.export.retry-after-seconds:30}")
+    private long retryAfterSeconds;
+
+    private Semaphore slots;
+
+    @PostConstruct
+    void init() {
+        slots = new Semaphore(maxConcurrent);
+    }
+
+    // 내보내기 자리 확보 - 다 차 있으면 기다리지 않고 TooManyRequestsException (429 + Retry-After)
+    // 확보했으면 내보내기가 끝난 뒤(성공 / 실패 모두) releaseSlot 으로 반납해야 함
+    public void acquireSlot() {
+        if (!slots.tryAcquire()) {
+            throw new TooManyRequestsException("다른 내보내기가 진행 중입니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+        }
+    }
+
+    public void releaseSlot() {
+        slots.release();
+    }
+
+    // 스트리밍 시작 전 사용자 확인 (응답이 나가기 시작하면 오류 응답으로 바꿀 수 없음)
+    public void checkUser(Long userId) {
+        if (!userRepository.existsById(userId)) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+    }
+
+    // out 으로 바로 씀 - zip 이면 NDJSON 파일 하나를 담은 zip 으로
+    // 스트림(커서)은 이 트랜잭션 안에서만 열려 있으므로 응답 쓰기 스레드에서 호출
+    public void export(Long userId, OutputStream out, boolean zip) throws IOException {
+        if (zip) {
+            ZipOutputStream zipOut = new ZipOutputStream(new BufferedOutputStream(out, BUFFER_SIZE));
+            zipOut.putNextEntry(new ZipEntry(FILE_NAME));
+            writeAll(userId, zipOut);
+            zipOut.closeEntry();
+            zipOut.finish();
+            zipOut.flush();
+        } else {
+            BufferedOutputStream bufferedOut = new BufferedOutputStream(out, BUFFER_SIZE);
+            writeAll(userId, bufferedOut);
+            bufferedOut.flush();
+        }
+    }
+
+    private void writeAll(Long userId, OutputStream out) throws IOException {
+        User user = userRepository.findById(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        writeLine(out, "profile", new UserProfileResponseDto(
+                user.getId(),
+                user.getName(),
+                user.getEmail(),
+                user.getPoint(),
+                user.getCreatedAt(),
+                user.getModifiedAt()
+        ));
+
+        SmokingInfo smokingInfo = smokingInfoRepository.getByUserIdOrNull(userId);
+        if (smokingInfo != null) {
+            writeLine(out, "smoking_info", new SmokingInfoResponseDto(smokingInfo));
+        }
+
+        // 보관된(오래된) 설문 먼저, 이어서 quit_survey
+        try (Stream<QuitSurveyExportDto> archived = quitSurveyArchiveRepository.streamExportByUserId(userId)) {
+            writeLines(out, "survey", archived.iterator());
+        }
+        try (Stream<QuitSurveyExportDto> surveys = quitSurveyRepository.streamExportByUserId(userId)) {
+            writeLines(out, "survey", surveys.iterator());
+        }
+        try (Stream<MonkeyMessageExportDto> messages = monkeyMessageRepository.streamExportByUserId(userId)) {
+            writeLines(out, "message", messages.iterator());
+        }
+    }
+
+    private void writeLines(OutputStream out, String type, Iterator<?> rows) throws IOException {
+        while (rows.hasNext()) {
+            writeLine(out, type, rows.next());
+        }
+    }
+
+    private void writeLine(OutputStream out, String type, Object data) throws IOException {
+        out.write(objectMapper.writeValueAsBytes(new AccountExportLineDto(type, data)));
+        out.write('\n');
+    }
+}
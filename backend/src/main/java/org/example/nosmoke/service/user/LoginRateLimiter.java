@@ -0,0 +1,146 @@
+package org.example.nosmoke.service.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.exception.TooManyRequestsException;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.Locale;
+import java.util.UUID;
+
+// 로그인 시도 횟수 제한 (Redis ZSET 슬라이딩 윈도우)
+// 이메일별로는 최근 window 동안 실패한 로그인 수, 클라이언트 IP 별로는 모든 시도 수를 세고, 초과하면 BCrypt 비교 전에 바로 거절
+// --> 크리덴셜 스터핑 같은 비정상 트래픽이 정상 사용자의 CPU 를 잡아먹지 않도록
+// 이메일 키에 성공한 로그인까지 세면 이메일만 아는 사람이 계정을 계속 잠글 수 있고, 여러 기기에서 로그인하는 사용자도 막히므로 실패만 기록
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class LoginRateLimiter {
+
+    private static final String EMAIL_KEY_PREFIX = "login:rl:email:";
+    private static final String IP_KEY_PREFIX = "login:rl:ip:";
+
+    // KEYS[1] : 이메일 키, KEYS[2] : IP 키
+    // ARGV : 이메일 한도, 이메일 윈도우(ms), IP 한도, IP 윈도우(ms), 시도 ID
+    // 반환 : {0, 0} 허용 / {1, 대기ms} 이메일 실패 한도 초과 / {2, 대기ms} IP 한도 초과
+    // 두 키를 모두 확인한 뒤 허용된 시도만 IP 키에 기록 (이메일 키는 로그인 실패 시 recordFailure 에서 기록)
+    private static final RedisScript<List> SLIDING_WINDOW_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "for i = 1, 2 do " +
+            "  local limit = tonumber(ARGV[i * 2 - 1]) " +
+            "  local window = tonumber(ARGV[i * 2]) " +
+            "  redis.call('ZREMRANGEBYSCORE', KEYS[i], 0, now - window) " +
+            "  if redis.call('ZCARD', KEYS[i]) >= limit then " +
+            "    local oldest = redis.call('ZRANGE', KEYS[i], 0, 0, 'WITHSCORES') " +
+            "    return {i, math.max(1, tonumber(oldest[2]) + window - now)} " +
+            "  end " +
+            "end " +
+            "redis.call('ZADD', KEYS[2], now, ARGV[5]) " +
+            "redis.call('PEXPIRE', KEYS[2], ARGV[4]) " +
+            "return {0, 0}",
+            List.class);
+
+    // KEYS[1] : 이메일 키, ARGV : 이메일 윈도우(ms), 시도 ID
+    private static final RedisScript<Long> FAILURE_SCRIPT = new DefaultRedisScript<>(
+            "local time = redis.call('TIME') " +
+            "local now = tonumber(time[1]) * 1000 + math.floor(tonumber(time[2]) / 1000) " +
+            "redis.call('ZADD', KEYS[1], now, ARGV[2]) " +
+            "redis.call('PEXPIRE', KEYS[1], ARGV[1]) " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final MeterRegistry meterRegistry;
+
+    @Value("${auth.login.rate-limit.enabled:true}")
+    private boolean enabled;
+
+    @Value("${auth.login.rate-limit.email.max-attempts:10}")
+    private int emailMaxAttempts;
+
+    @Value("${auth.login.rate-limit.email.window-seconds:300}")
+    private long emailWindowSeconds;
+
+    @Value("${auth.login.rate-limit.ip.max-attempts:50}")
+    private int ipMaxAttempts;
+
+    @Value("${auth.login.rate-limit.ip.window-seconds:60}")
+    private long ipWindowSeconds;
+
+    private Counter emailThrottledCounter;
+    private Counter ipThrottledCounter;
+
+    @PostConstruct
+    public void init() {
+        emailThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("시도 횟수 초과로 거절된 로그인 요청 수")
+                .tag("scope", "email")
+                .register(meterRegistry);
+        ipThrottledCounter = Counter.builder("auth.login.throttled")
+                .description("시도 횟수 초과로 거절된 로그인 요청 수")
+                .tag("scope", "ip")
+                .register(meterRegistry);
+    }
+
+    // 한도 초과 시 TooManyRequestsException (429 + Retry-After)
+    public void checkLogin(String email, String clientIp) {
+        if (!enabled) {
+            return;
+        }
+
+        List<?> result;
+        try {
+            result = redisTemplate.execute(SLIDING_WINDOW_SCRIPT,
+                    List.of(emailKey(email), IP_KEY_PREFIX + clientIp),
+                    String.valueOf(emailMaxAttempts), String.valueOf(emailWindowSeconds * 1000),
+                    String.valueOf(ipMaxAttempts), String.valueOf(ipWindowSeconds * 1000),
+                    UUID.randomUUID().toString());
+        } catch (Exception e) {
+            // Redis 장애 시 로그인 자체를 막지는 않음 (fail-open)
+            log.warn(">>> [Auth] 로그인 시도 제한 확인 실패, 제한 없이 진행 : {}", e.getMessage());
+            return;
+        }
+
+        if (result == null || result.size() < 2) {
+            return;
+        }
+        long scope = ((Number) result.get(0)).longValue();
+        if (scope == 0) {
+            return;
+        }
+
+        long retryAfterSeconds = Math.max(1, (((Number) result.get(1)).longValue() + 999) / 1000);
+        if (scope == 1) {
+            emailThrottledCounter.increment();
+        } else {
+            ipThrottledCounter.increment();
+        }
+        throw new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", retryAfterSeconds);
+    }
+
+    // 로그인 실패(없는 이메일 / 비밀번호 불일치)만 이메일 윈도우에 기록
+    public void recordFailure(String email) {
+        if (!enabled) {
+            return;
+        }
+        try {
+            redisTemplate.execute(FAILURE_SCRIPT, List.of(emailKey(email)),
+                    String.valueOf(emailWindowSeconds * 1000), UUID.randomUUID().toString());
+        } catch (Exception e) {
+            log.warn(">>> [Auth] 로그인 실패 기록 실패 : {}", e.getMessage());
+        }
+    }
+
+    private static String emailKey(String email) {
+        return EMAIL_KEY_PREFIX + email.toLowerCase(Locale.ROOT);
+    }
+}
@@ -0,0 +1,128 @@
+package org.example.nosmoke.service.user;
+
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.MeterRegistry;
+import jakarta.annotation.PostConstruct;
+import jakarta.annotation.PreDestroy;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.util.RedisJobLock;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.atomic.AtomicLong;
+
+// 포인트 감사 작업 - 사용자별 원장(point_transaction) 합계와 잔액(users.point)을 비교해 다르면 원장 기준으로 바로잡음
+// 사용자 목록을 청크로 나눠 여러 스레드에서 동시에 처리하고 (사용자 단위 트랜잭션 + 행 잠금), 어긋난 사용자 수를 기록한다
+// 전체 사용자를 훑는 작업이라 여러 서버 중 Redis 잠금을 잡은 한 곳에서만 실행
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class PointReconcileJob {
+    private static final String LOCK_NAME = "point-reconcile";
+
+    private final UserRepository userRepository;
+    private final UserService userService;
+    private final MeterRegistry meterRegistry;
+    private final RedisJobLock redisJobLock;
+
+    @Value("${point.reconcile.enabled:true}")
+    private boolean enabled;
+
+    @Value("${point.reconcile.chunk-size:200}")
+    private int chunkSize;
+
+    // DB 커넥션을 나눠 쓰므로 커넥션 풀보다 충분히 작게
+    @Value("${point.reconcile.parallelism:4}")
+    private int parallelism;
+
+    // 감사 작업이 가장 오래 걸리는 시간보다 넉넉하게 (작업 중 만료되면 다른 서버가 같이 돌 수 있음)
+    @Value("${point.reconcile.lock-ttl-minutes:60}")
+    private long lockTtlMinutes;
+
+    private ExecutorService executor;
+    private Counter driftCounter;
+
+    @PostConstruct
+    public void init() {
+        executor = Executors.newFixedThreadPool(parallelism);
+        driftCounter = Counter.builder("point.ledger.drift")
+                .description("포인트 감사에서 잔액이 원장 합계와 달랐던 사용자 수")
+                .register(meterRegistry);
+    }
+
+    @PreDestroy
+    public void shutdown() {
+        executor.shutdownNow();
+    }
+
+    @Scheduled(cron = "${point.reconcile.cron:0 0 5 * * *}")
+    public void reconcile() {
+        if (!enabled) {
+            return;
+        }
+
+        String token;
+        try {
+            token = redisJobLock.tryLock(LOCK_NAME, Duration.ofMinutes(lockTtlMinutes));
+        } catch (Exception e) {
+            // 잠금 여부를 알 수 없으면 실행하지 않음 - 다음 실행에서 다시 시도
+            log.error(">>> [Point] 잠금 확인 실패 : {}", e.getMessage());
+            return;
+        }
+        if (token == null) {
+            log.info(">>> [Point] 다른 서버에서 실행 중이라 건너뜀");
+            return;
+        }
+        try {
+            reconcileAll();
+        } finally {
+            redisJobLock.unlock(LOCK_NAME, token);
+        }
+    }
+
+    private void reconcileAll() {
+        AtomicLong checked = new AtomicLong();
+        AtomicLong drifted = new AtomicLong();
+        AtomicLong failed = new AtomicLong();
+        long lastUserId = 0;
+        List<Long> userIds;
+        // 한 번에 parallelism 개 청크를 동시에 처리하고, 모두 끝나면 다음 청크들을 가져옴
+        while (!(userIds = userRepository.findIdsAfter(lastUserId, PageRequest.of(0, chunkSize * parallelism))).isEmpty()) {
+            List<CompletableFuture<Void>> futures = new ArrayList<>();
+            for (int from = 0; from < userIds.size(); from += chunkSize) {
+                List<Long> chunk = userIds.subList(from, Math.min(from + chunkSize, userIds.size()));
+                futures.add(CompletableFuture.runAsync(() -> reconcileChunk(chunk, checked, drifted, failed), executor));
+            }
+            CompletableFuture.allOf(futures.toArray(new CompletableFuture[0])).join();
+            lastUserId = userIds.get(userIds.size() - 1);
+        }
+
+        log.info(">>> [Point] 포인트 감사 완료 (확인: {}, 보정: {}, 실패: {})", checked.get(), drifted.get(), failed.get());
+    }
+
+    private void reconcileChunk(List<Long> userIds, AtomicLong checked, AtomicLong drifted, AtomicLong failed) {
+        for (Long userId : userIds) {
+            try {
+                if (userService.reconcilePoints(userId)) {
+                    drifted.incrementAndGet();
+                    driftCounter.increment();
+                    log.warn(">>> [Point] 잔액을 원장 합계로 보정 (User: {})", userId);
+                }
+                checked.incrementAndGet();
+            } catch (Exception e) {
+                failed.incrementAndGet();
+                log.error(">>> [Point] 포인트 감사 실패 (User: {}) : {}", userId, e.getMessage());
+            }
+        }
+    }
+}
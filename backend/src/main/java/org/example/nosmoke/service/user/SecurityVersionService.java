@@ -0,0 +1,123 @@
+package org.example.nosmoke.service.user;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import jakarta.annotation.PostConstruct;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.repository.UserRepository;
+import org.springframework.data.redis.connection.Message;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.ChannelTopic;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import java.util.List;
+
+// 사용자별 보안 버전 관리
+// 토큰 발급 시 현재 버전을 "sv" 클레임으로 넣고, 요청마다 최신 버전과 비교한다
+// 비밀번호 변경 / 회원 탈퇴 시 버전을 올리면 그 이전에 발급된 토큰은 전부 무효가 된다
+// 원본은 users.security_version, Redis(SV:{userId}) 와 로컬 캐시는 그 앞단 캐시
+// (Redis 에만 두면 키가 사라졌을 때 0 으로 읽혀 이미 무효화한 토큰이 되살아남)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class SecurityVersionService {
+
+    private static final String KEY_PREFIX = "SV:";
+    public static final String INVALIDATION_CHANNEL = "auth:security-version";
+
+    // 커밋 후 갱신이 순서가 바뀌어 도착해도 Redis 값이 더 낮은 버전으로 돌아가지 않도록 - 더 클 때만 SET
+    private static final RedisScript<Long> SET_IF_GREATER_SCRIPT = new DefaultRedisScript<>(
+            "local current = tonumber(redis.call('GET', KEYS[1]) or '-1') " +
+            "if tonumber(ARGV[1]) > current then redis.call('SET', KEYS[1], ARGV[1]) end " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final RedisMessageListenerContainer redisMessageListenerContainer;
+    private final UserRepository userRepository;
+
+    // userId -> 보안 버전, 요청마다 Redis 를 조회하지 않도록 로컬 캐시
+    // 다른 서버에서 버전이 바뀌면 Pub/Sub 메시지로 해당 항목을 지운다 (만료 시간은 메시지 유실 대비 안전장치)
+    private final Cache<Long, Long> versionCache = Caffeine.newBuilder()
+            .maximumSize(100_000)
+            .expireAfterWrite(Duration.ofMinutes(10))
+            .build();
+
+    @PostConstruct
+    public void subscribe() {
+        redisMessageListenerContainer.addMessageListener(
+                this::onInvalidation, new ChannelTopic(INVALIDATION_CHANNEL));
+    }
+
+    // 현재 보안 버전 조회 (한 번도 올린 적 없으면 0)
+    public long getVersion(Long userId) {
+        return versionCache.get(userId, this::loadVersion);
+    }
+
+    // 토큰에 담긴 버전이 최신인지 확인
+    public boolean isCurrent(Long userId, long tokenVersion) {
+        return getVersion(userId) == tokenVersion;
+    }
+
+    // 버전을 올려 이 사용자의 기존 토큰을 모두 무효화
+    // DB 값은 호출한 트랜잭션(비밀번호 변경 등)과 함께 커밋, Redis / 로컬 캐시는 커밋된 뒤에 새 값으로 바꿈
+    @Transactional
+    public void revokeAll(Long userId) {
+        // 행 잠금 - 동시에 올려도 같은 버전이 두 번 나오지 않도록
+        User user = userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+        long newVersion = user.increaseSecurityVersion();
+
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                publish(userId, newVersion);
+            }
+        });
+    }
+
+    private void publish(Long userId, long newVersion) {
+        try {
+            redisTemplate.execute(SET_IF_GREATER_SCRIPT, List.of(KEY_PREFIX + userId), String.valueOf(newVersion));
+        } catch (Exception e) {
+            // 실패해도 아래에서 캐시를 비우므로, 이 서버는 다음 조회에서 DB 값을 다시 읽음
+            log.warn(">>> [Auth] 보안 버전 Redis 갱신 실패 (User: {}) : {}", userId, e.getMessage());
+        }
+        versionCache.invalidate(userId);
+
+        // 다른 서버의 로컬 캐시도 비우도록 알림
+        redisTemplate.convertAndSend(INVALIDATION_CHANNEL, String.valueOf(userId));
+        log.info(">>> [Auth] 보안 버전 갱신 (User: {}, Version: {})", userId, newVersion);
+    }
+
+    // Redis -> 없으면 DB 원본을 읽어 Redis 에 다시 채움
+    // setIfAbsent : 그 사이 revokeAll 이 써 넣은 새 버전을 이전 값으로 덮어쓰지 않도록
+    private Long loadVersion(Long userId) {
+        Object value = redisTemplate.opsForValue().get(KEY_PREFIX + userId);
+        if (value != null) {
+            return Long.parseLong(value.toString());
+        }
+        long version = userRepository.findSecurityVersionById(userId).orElse(0L);
+        redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + userId, String.valueOf(version));
+        return version;
+    }
+
+    private void onInvalidation(Message message, byte[] pattern) {
+        String body = new String(message.getBody(), StandardCharsets.UTF_8);
+        try {
+            versionCache.invalidate(Long.parseLong(body));
+        } catch (NumberFormatException e) {
+            log.warn(">>> [Auth] 잘못된 보안 버전 무효화 메시지: {}", body);
+        }
+    }
+}
@@ -0,0 +1,75 @@
+package org.example.nosmoke.service.user;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Service;
+
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+// 로그인 세션(Refresh Token + 로그아웃 블랙리스트)의 Redis 작업을 흐름별로 한 번의 호출로 처리
+// Refresh Token 은 사용자 ID 기준 "RT:{userId}" 에 현재 유효한 것 하나만 보관
+@Service
+@RequiredArgsConstructor
+public class TokenSessionStore {
+
+    private static final String KEY_PREFIX = "RT:";
+
+    // 저장된 토큰이 클라이언트가 보낸 토큰과 같을 때만 새 토큰으로 교체 + TTL 재설정 (원자적으로 한 번에)
+    // 같은 Refresh Token 으로 동시에 재발급 요청이 와도 하나만 성공
+    private static final RedisScript<Long> ROTATE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  redis.call('SET', KEYS[1], ARGV[2], 'PX', ARGV[3]) " +
+            "  return 1 " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    // 로그아웃 - Refresh Token 삭제 + Access Token 블랙리스트 등록(남은 유효시간) + 다른 서버에 전파
+    // 기존 GET -> DEL -> SET 세 번의 왕복을 한 번으로
+    private static final RedisScript<Long> LOGOUT_SCRIPT = new DefaultRedisScript<>(
+            "redis.call('DEL', KEYS[1]) " +
+            "if tonumber(ARGV[3]) > 0 then " +
+            "  redis.call('SET', KEYS[2], ARGV[2], 'PX', ARGV[3]) " +
+            "  redis.call('PUBLISH', ARGV[4], ARGV[1]) " +
+            "end " +
+            "return 1",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+    private final AccessTokenBlacklist accessTokenBlacklist;
+
+    // 로그인 - Refresh Token 저장 (SET + PX, 한 번의 왕복)
+    public void save(Long userId, String refreshToken, long ttlMillis) {
+        redisTemplate.opsForValue().set(key(userId), refreshToken, ttlMillis, TimeUnit.MILLISECONDS);
+    }
+
+    // 교체 성공 시 true, 저장된 토큰과 다르거나(이미 사용됨/탈취 의심) 없으면 false
+    public boolean rotate(Long userId, String currentToken, String newToken, long ttlMillis) {
+        Long result = redisTemplate.execute(ROTATE_SCRIPT, List.of(key(userId)),
+                currentToken, newToken, String.valueOf(ttlMillis));
+        return result != null && result == 1L;
+    }
+
+    // 로그아웃 - accessTokenTtlMillis : Access Token 의 남은 유효시간
+    public void logout(Long userId, String accessTokenId, long accessTokenTtlMillis) {
+        redisTemplate.execute(LOGOUT_SCRIPT,
+                List.of(key(userId), AccessTokenBlacklist.key(accessTokenId)),
+                accessTokenId, AccessTokenBlacklist.REVOKED_VALUE,
+                String.valueOf(accessTokenTtlMillis), AccessTokenBlacklist.REVOCATION_CHANNEL);
+        if (accessTokenTtlMillis > 0) {
+            accessTokenBlacklist.markRevokedLocally(accessTokenId);
+        }
+    }
+
+    // 전체 로그아웃 - Refresh Token 삭제 (Access Token 은 보안 버전으로 무효화)
+    public void delete(Long userId) {
+        redisTemplate.delete(key(userId));
+    }
+
+    private String key(Long userId) {
+        return KEY_PREFIX + userId;
+    }
+}
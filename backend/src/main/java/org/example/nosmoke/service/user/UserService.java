@@ -1,20 +1,23 @@
 package org.example.nosmoke.service.user;
 
+import io.jsonwebtoken.Claims;
 import jakarta.validation.Valid;
 import lombok.RequiredArgsConstructor;
 import org.example.nosmoke.dto.token.TokenDto;
 import org.example.nosmoke.dto.user.*;
+import org.example.nosmoke.entity.PointTransaction;
 import org.example.nosmoke.entity.User;
-import org.example.nosmoke.repository.SmokingInfoRepository;
+import org.example.nosmoke.repository.PointTransactionRepository;
 import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.cache.EntityCacheInvalidator;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
 import org.example.nosmoke.util.JwtTokenProvider;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.security.core.Authentication;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
 import org.springframework.transaction.annotation.Transactional;
-
-import java.util.concurrent.TimeUnit;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 @Service
 @RequiredArgsConstructor
@@ -23,8 +26,12 @@ public class UserService {
     private final UserRepository userRepository;
     private final PasswordEncoder passwordEncoder;
     private final JwtTokenProvider jwtTokenProvider;
-    private final RedisTemplate<String, Object> redisTemplate;
-    private final SmokingInfoRepository smokingInfoRepository;
+    private final SecurityVersionService securityVersionService;
+    private final TokenSessionStore tokenSessionStore;
+    private final LoginRateLimiter loginRateLimiter;
+    private final DashboardViewStore dashboardViewStore;
+    private final PointTransactionRepository pointTransactionRepository;
+    private final EntityCacheInvalidator entityCacheInvalidator;
 
     // 회원가입
     @Transactional
@@ -59,27 +66,37 @@ public class UserService {
     }
 
     // 로그인
-    public UserLoginResponseDto login(UserLoginRequestDto requestDto) {
-        // 1. 이메일로 사용자 조회
-        User user = userRepository.findByEmail(requestDto.getEmail())
-                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+    @Transactional
+    public UserLoginResponseDto login(UserLoginRequestDto requestDto, String clientIp) {
+        // 0. 이메일별 실패 / IP 별 시도 횟수 제한 - 초과 시 DB 조회와 BCrypt 비교 전에 거절
+        loginRateLimiter.checkLogin(requestDto.getEmail(), clientIp);
+
+        // 1. 이메일로 사용자 조회 (흡연 정보 등록 여부도 같은 쿼리에서 EXISTS 로 함께 조회)
+        UserLoginInfoDto loginInfo = userRepository.findLoginInfoByEmail(requestDto.getEmail()).orElse(null);
+        if (loginInfo == null) {
+            loginRateLimiter.recordFailure(requestDto.getEmail());
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        User user = loginInfo.getUser();
 
-        // 2. 비밀번호 검증 - 암호화된 비밀번호를 비교합니다
+        // 2. 비밀번호 검증 - 암호화된 비밀번호를 비교합니다 (실패만 이메일별 시도 횟수에 기록)
         if(!passwordEncoder.matches(requestDto.getPassword(), user.getPassword())) {
+            loginRateLimiter.recordFailure(requestDto.getEmail());
             throw new IllegalArgumentException("비밀번호가 틀렸습니다.");
         }
 
+        // 2-1. BCrypt cost 설정이 올라갔다면 로그인 성공한 김에 새 cost 로 재해싱 (더티체킹으로 저장)
+        if(passwordEncoder.upgradeEncoding(user.getPassword())) {
+            user.updatePassword(passwordEncoder.encode(requestDto.getPassword()));
+        }
+
         // 3. JWT 토큰 생성(아직 JWT 구현 안했으므로 temp_token으로 임시처리)
-        TokenDto tokenDto = jwtTokenProvider.createTokenDto(user.getId().toString(), user.getEmail());
+        long securityVersion = securityVersionService.getVersion(user.getId());
+        TokenDto tokenDto = jwtTokenProvider.createTokenDto(user.getId().toString(), user.getEmail(), securityVersion);
 
-        // 4. Redis에 Refresh Token 저장
+        // 4. Redis에 Refresh Token 저장 (사용자 ID 기준, 한 번의 왕복)
         long refreshTokenValidTime = jwtTokenProvider.getRefreshTokenValidTime();
-
-        redisTemplate.opsForValue()
-                .set("RT:" + user.getEmail(), tokenDto.getRefreshToken(), refreshTokenValidTime, TimeUnit.MILLISECONDS);
-
-        // 유저 흡연 정보 등록되어 있는지 확인
-        boolean hasSmokingInfo = smokingInfoRepository.findByUserId(user.getId()).isPresent();
+        tokenSessionStore.save(user.getId(), tokenDto.getRefreshToken(), refreshTokenValidTime);
 
         // 4. ResponseDto 생성
         return new UserLoginResponseDto(
@@ -89,46 +106,49 @@ public class UserService {
                 user.getName(),
                 user.getEmail(),
                 user.getPoint(),
-                hasSmokingInfo
+                loginInfo.isHasSmokingInfo()
         );
 
     }
 
     // 토큰 재발급
-    @Transactional
+    // Refresh Token 에 사용자 정보가 담겨 있으므로 DB 를 조회하지 않고 Redis 만으로 처리 (DB 커넥션도 잡지 않음)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public TokenDto reissue(String accessToekn, String refreshToken){
 
         // Refresh Token 검증
-        if(!jwtTokenProvider.validateToken(refreshToken)) {
+        Claims refreshClaims = jwtTokenProvider.getRefreshClaims(refreshToken);
+        if(refreshClaims == null) {
             throw new IllegalArgumentException("Refresh Token이 만료되었거나 유효하지 않습니다.");
         }
 
-        // Access Token에서 userID 가져오기
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToekn);
+        // Access Token 은 만료되었어도 되지만, 같은 사용자의 토큰이어야 함
+        String userPk = refreshClaims.getSubject();
+        if(!userPk.equals(jwtTokenProvider.getUserPkAllowExpired(accessToekn))) {
+            throw new IllegalArgumentException("토큰 정보가 일치하지 않습니다");
+        }
 
-        // Redis에서 User Email을 기반으로 저장된 Refresh Token 값을 가져옴
-        String userPk = jwtTokenProvider.getUserPk(accessToekn);
-        User user = userRepository.getByIdOrThrow(Long.parseLong(userPk));
+        // 전체 로그아웃 / 비밀번호 변경 이전에 발급된 Refresh Token 이면 거절 (로컬 캐시로 확인)
+        Long userId = Long.parseLong(userPk);
+        long securityVersion = securityVersionService.getVersion(userId);
+        if(jwtTokenProvider.getSecurityVersion(refreshClaims) != securityVersion) {
+            throw new IllegalArgumentException("만료된 로그인 정보입니다. 다시 로그인해주세요.");
+        }
 
-        String redisRefreshToken = (String) redisTemplate.opsForValue().get("RT:" + user.getEmail());
+        // 새로운 토큰 생성
+        TokenDto tokenDto = jwtTokenProvider.createTokenDto(userPk, jwtTokenProvider.getEmail(refreshClaims), securityVersion);
 
-        // Redis의 Refresh Token과 클라이언트가 보낸 토큰 일치 여부 확인
-        if(!refreshToken.equals(redisRefreshToken)) {
+        // Redis의 Refresh Token과 클라이언트가 보낸 토큰이 일치할 때만 새 토큰으로 교체 (비교 + 교체 + TTL 한 번에)
+        long refreshTokenExpiration = jwtTokenProvider.getRefreshTokenValidTime();
+        if(!tokenSessionStore.rotate(userId, refreshToken, tokenDto.getRefreshToken(), refreshTokenExpiration)) {
             throw new IllegalArgumentException("토큰 정보가 일치하지 않습니다"); // 탈취 가능성?
         }
 
-        // 새로운 토큰 생성 및 Redis 업데이트
-        TokenDto tokenDto = jwtTokenProvider.createTokenDto(userPk, user.getEmail());
-
-        long refreshToeknExpiration = jwtTokenProvider.getRefreshTokenValidTime();
-        redisTemplate.opsForValue()
-                .set("RT:" + user.getEmail(), tokenDto.getRefreshToken(), refreshToeknExpiration);
-
         return tokenDto;
     }
 
     // 로그아웃
-    @Transactional
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
     public void logout(String accessToken) {
         // Access Token 유효성 검증
         if(!jwtTokenProvider.validateToken(accessToken)) {
@@ -136,19 +156,35 @@ public class UserService {
         }
 
         // Access Token에서 User 정보 가져오기
-        Authentication authentication = jwtTokenProvider.getAuthentication(accessToken);
         String userPk = jwtTokenProvider.getUserPk(accessToken);
-        User user = userRepository.getByIdOrThrow(Long.parseLong(userPk));
 
-        // Redis 에서 Refresh Token 삭제
-        if(redisTemplate.opsForValue().get("RT:" + user.getEmail()) != null) {
-            redisTemplate.delete("RT:" + user.getEmail());
-        }
-
-        // Access Token 블랙리스트 등록(남은 유효기간 만큼)
+        // Redis 에서 Refresh Token 삭제 + Access Token 블랙리스트 등록(남은 유효기간 만큼, 만료되면 Redis 에서 자동 삭제)
+        // 한 번의 Lua 스크립트 호출로 처리
         Long expiration = jwtTokenProvider.getExpiration(accessToken);
-        redisTemplate.opsForValue()
-                .set(accessToken, "logout");
+        tokenSessionStore.logout(Long.parseLong(userPk), jwtTokenProvider.getTokenId(accessToken), expiration);
+    }
+
+    // 모든 기기에서 로그아웃
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void logoutAll(Long userId) {
+        revokeAllSessions(userId);
+    }
+
+    // 보안 버전을 올려 기존 Access/Refresh Token 을 모두 무효화하고, 저장된 Refresh Token 도 삭제
+    // Redis 쪽 반영은 커밋된 뒤에 (비밀번호 변경이 롤백되면 기존 비밀번호와 세션을 그대로 둠)
+    // 보안 버전의 Redis / 로컬 캐시 갱신은 revokeAll 이 커밋 후에 처리
+    private void revokeAllSessions(Long userId) {
+        securityVersionService.revokeAll(userId);
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            tokenSessionStore.delete(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(new TransactionSynchronization() {
+            @Override
+            public void afterCommit() {
+                tokenSessionStore.delete(userId);
+            }
+        });
     }
 
     // 사용자 프로필 조회
@@ -197,27 +233,63 @@ public class UserService {
 
     }
 
-    // 포인트 누적
+    // 포인트 누적 - UPDATE 한 문장으로 더하고 반영된 잔액을 반환 (사용자 행을 읽어 더티체킹하지 않음)
     @Transactional
-    public void addPoints(Long userId, int points){
-        User user = userRepository.findById(userId)
+    public int addPoints(Long userId, int points, PointTransaction.Reason reason){
+        if (userRepository.addPoint(userId, points) == 0) {
+            throw new IllegalArgumentException("존재하지 않는 사용자입니다.");
+        }
+        int balance = userRepository.findPointById(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
-        int newPoints = user.getPoint() + points;
-        user.updatePoint(newPoints);
+        // 원장에 변동 내역 추가 (같은 트랜잭션)
+        pointTransactionRepository.save(new PointTransaction(userId, points, balance, reason));
+
+        // 커밋 후 대시보드 조회 모델 / 2차 캐시의 사용자 삭제 (JDBC UPDATE 라 Hibernate 가 모름)
+        dashboardViewStore.evictAfterCommit(userId);
+        entityCacheInvalidator.evictAfterCommit(User.class, userId);
+        return balance;
     }
 
     // 포인트 수정
     @Transactional
     public void updatePoints(Long userId, int points){
-        // 유저 조회
-        User user = userRepository.findById(userId)
+        // 유저 조회 (변동량을 계산하는 동안 다른 지급이 끼어들지 않도록 행 잠금)
+        User user = userRepository.findByIdForUpdate(userId)
                 .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
 
+        // 원장에는 기존 잔액과의 차이를 기록
+        int amount = points - user.getPoint();
+        if (amount != 0) {
+            pointTransactionRepository.save(new PointTransaction(userId, amount, points, PointTransaction.Reason.ADJUSTMENT));
+        }
+
         // 유저의 포인트 수정
         user.updatePoint(points);
         // 저장
         userRepository.save(user);
+
+        // 커밋 후 대시보드 조회 모델 삭제
+        dashboardViewStore.evictAfterCommit(userId);
+    }
+
+    // 포인트 감사 - 원장 합계와 잔액이 다르면 원장 기준으로 잔액을 다시 맞추고 true
+    // 맞춘 차이도 원장에 기록하므로 이후에는 합계 = 잔액
+    @Transactional
+    public boolean reconcilePoints(Long userId){
+        User user = userRepository.findByIdForUpdate(userId)
+                .orElseThrow(() -> new IllegalArgumentException("존재하지 않는 사용자입니다."));
+
+        long ledgerBalance = pointTransactionRepository.sumAmountByUserId(userId);
+        if (ledgerBalance == user.getPoint()) {
+            return false;
+        }
+
+        int balance = Math.toIntExact(ledgerBalance);
+        pointTransactionRepository.save(new PointTransaction(userId, 0, balance, PointTransaction.Reason.RECONCILE));
+        user.updatePoint(balance);
+        dashboardViewStore.evictAfterCommit(userId);
+        return true;
     }
 
     // 사용자 존재 여부 확인
@@ -253,6 +325,9 @@ public class UserService {
         String encodedPassword = passwordEncoder.encode(requestDto.getNewPassword());
         user.updatePassword(encodedPassword);
 
+        // 6. 보안 버전을 올려 기존에 발급된 토큰 모두 무효화 (Refresh Token 포함)
+        revokeAllSessions(userId);
+
         // @Transactional이 있으니 userRepository.save(user)는 필요없다구~
     }
 }
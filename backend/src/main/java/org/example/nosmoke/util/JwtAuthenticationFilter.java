@@ -1,14 +1,16 @@
 package org.example.nosmoke.util;
 
+import io.jsonwebtoken.Claims;
 import jakarta.servlet.FilterChain;
 import jakarta.servlet.ServletException;
 import jakarta.servlet.ServletRequest;
 import jakarta.servlet.ServletResponse;
-import jakarta.servlet.http.HttpServlet;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 
+import org.example.nosmoke.service.user.AccessTokenBlacklist;
+import org.example.nosmoke.service.user.SecurityVersionService;
 import org.springframework.security.core.Authentication;
 import org.springframework.security.core.context.SecurityContextHolder;
 import org.springframework.web.filter.GenericFilterBean;
@@ -19,27 +21,39 @@ import java.io.IOException;
 @Slf4j
 public class JwtAuthenticationFilter extends GenericFilterBean {
     private final JwtTokenProvider jwtTokenProvider;
+    private final SecurityVersionService securityVersionService;
+    private final AccessTokenBlacklist accessTokenBlacklist;
 
     @Override
     public void doFilter(ServletRequest request, ServletResponse response, FilterChain chain) throws IOException, ServletException {
 
         HttpServletRequest httpRequest = (HttpServletRequest) request;
 
-        // 1. 헤더에서 JWT 를 받아옵니다
-        String token = jwtTokenProvider.resolveToken((HttpServletRequest) request);
+        // 1. 헤더에서 JWT 를 받아옵니다 ("Bearer " 접두사는 resolveToken 에서 제거됨)
+        String token = jwtTokenProvider.resolveToken(httpRequest);
 
-        // 2. 유효한 토큰인지 확인합니다
-        if (token != null && jwtTokenProvider.validateToken(token)) {
-            // "Bearer " 접두사 제거
-            if (token.startsWith("Bearer")) {
-                token = token.substring(7);
-            }
+        // 2. 토큰을 한 번만 검증/파싱하고, 그 결과(Claims)를 그대로 재사용합니다
+        Claims claims = jwtTokenProvider.getVerifiedClaims(token);
 
+        // Refresh Token 으로는 인증하지 않습니다
+        // 비밀번호 변경 등으로 보안 버전이 바뀐 뒤의 옛 토큰도 인증하지 않습니다 (로컬 캐시로 확인)
+        // 로그아웃된 토큰도 인증하지 않습니다 (Bloom Filter 로 대부분은 Redis 조회 없이 확인)
+        if (claims != null && jwtTokenProvider.isAccessToken(claims) && isCurrentVersion(claims)
+                && !accessTokenBlacklist.isRevoked(jwtTokenProvider.getTokenId(claims, token))) {
             // 토큰이 유효하면 토큰으로부터 유저 정보를 받아옵니다
-            Authentication authentication = jwtTokenProvider.getAuthentication(token);
+            Authentication authentication = jwtTokenProvider.getAuthentication(claims);
             // SecurityContext 에 Authentication 객체를 저장합니다
             SecurityContextHolder.getContext().setAuthentication(authentication);
         }
         chain.doFilter(request, response);
     }
+
+    private boolean isCurrentVersion(Claims claims) {
+        try {
+            Long userId = Long.parseLong(claims.getSubject());
+            return securityVersionService.isCurrent(userId, jwtTokenProvider.getSecurityVersion(claims));
+        } catch (NumberFormatException e) {
+            return false;
+        }
+    }
 }
@@ -1,10 +1,19 @@
 package org.example.nosmoke.util;
 
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.github.benmanes.caffeine.cache.Expiry;
 import io.jsonwebtoken.Claims;
-import io.jsonwebtoken.Jws;
+import io.jsonwebtoken.ExpiredJwtException;
+import io.jsonwebtoken.JwtException;
+import io.jsonwebtoken.JwtParser;
 import io.jsonwebtoken.Jwts;
 import io.jsonwebtoken.SignatureAlgorithm;
 import io.jsonwebtoken.security.Keys;
+import io.micrometer.core.instrument.Counter;
+import io.micrometer.core.instrument.Gauge;
+import io.micrometer.core.instrument.MeterRegistry;
+import io.micrometer.core.instrument.Timer;
 import jakarta.annotation.PostConstruct;
 import jakarta.servlet.http.HttpServletRequest;
 import lombok.RequiredArgsConstructor;
@@ -16,8 +25,14 @@ import org.springframework.security.core.userdetails.UserDetails;
 import org.springframework.security.core.userdetails.UserDetailsService;
 import org.springframework.stereotype.Component;
 
+import java.nio.charset.StandardCharsets;
 import java.security.Key;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
 import java.util.Date;
+import java.util.HexFormat;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
 
 // JWT 생성 및 검증을 담당하는 클래스
 @Component
@@ -29,32 +44,104 @@ public class JwtTokenProvider {
     private final long accessTokenValidTime = 30 * 60 * 1000L; // 토큰 유효시간 30분
     private final long refreshTokenValidTime = 14 * 24 * 60 * 60 * 1000L; // 리프레시 토큰 2주 유지
 
+    // 검증 완료된 토큰 캐시 최대 크기
+    @Value("${jwt.cache.max-size:10000}")
+    private long verifiedTokenCacheMaxSize;
+
+    // true 면 DB 조회 없이 토큰 클레임만으로 인증 주체 생성, false 면 기존처럼 UserDetailsService 로 조회
+    @Value("${jwt.stateless-principal:true}")
+    private boolean statelessPrincipal;
+
+    private static final String EMAIL_CLAIM = "email";
+    private static final String SECURITY_VERSION_CLAIM = "sv";
+    private static final String TOKEN_TYPE_CLAIM = "type";
+    private static final String REFRESH_TOKEN_TYPE = "refresh";
+
     // UserDetailsService 주입 --> UserDetails? SpringSecurity 에서 사용자의 정보를 담는 인터페이스
     // 사용자 정보 불러오기 위해 구현해야하는 인터페이스
     // 이 UserDetailService에 Spring이 내가 작성한 CustomUsreDetailService 주입해줌
     private final UserDetailsService userDetailsService;
+    private final MeterRegistry meterRegistry;
+
+    // 파서는 불변 & 스레드 안전하므로 한 번만 만들어 재사용
+    private JwtParser jwtParser;
+
+    // 토큰 해시 -> 검증된 Claims, 토큰 만료 시각에 맞춰 자동 제거
+    private Cache<String, Claims> verifiedTokenCache;
+
+    private Counter cacheHitCounter;
+    private Counter cacheMissCounter;
+    private Timer parseTimer;
 
     @PostConstruct
     public void init() {
         key = Keys.hmacShaKeyFor(secretKey.getBytes());
+        jwtParser = Jwts.parserBuilder().setSigningKey(key).build();
+
+        verifiedTokenCache = Caffeine.newBuilder()
+                .maximumSize(verifiedTokenCacheMaxSize)
+                .expireAfter(new Expiry<String, Claims>() {
+                    @Override
+                    public long expireAfterCreate(String tokenHash, Claims claims, long currentTime) {
+                        long remainingMillis = claims.getExpiration().getTime() - System.currentTimeMillis();
+                        return TimeUnit.MILLISECONDS.toNanos(Math.max(0, remainingMillis));
+                    }
+
+                    @Override
+                    public long expireAfterUpdate(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+
+                    @Override
+                    public long expireAfterRead(String tokenHash, Claims claims, long currentTime, long currentDuration) {
+                        return currentDuration;
+                    }
+                })
+                .build();
+
+        // Prometheus 메트릭 등록
+        cacheHitCounter = Counter.builder("jwt.verification.cache")
+                .description("검증된 JWT 캐시 조회 결과")
+                .tag("result", "hit")
+                .register(meterRegistry);
+        cacheMissCounter = Counter.builder("jwt.verification.cache")
+                .description("검증된 JWT 캐시 조회 결과")
+                .tag("result", "miss")
+                .register(meterRegistry);
+        parseTimer = Timer.builder("jwt.parse")
+                .description("JWT 서명 검증 및 파싱 소요 시간")
+                .register(meterRegistry);
+        Gauge.builder("jwt.verification.cache.size", verifiedTokenCache, Cache::estimatedSize)
+                .description("검증된 JWT 캐시 항목 수")
+                .register(meterRegistry);
     }
 
     //JWT 토큰 생성 -> Access + Refresh 토큰 둘 다 발급
-    public TokenDto createTokenDto(String userPk, String email) {
+    // securityVersion : 발급 시점의 사용자 보안 버전 (비밀번호 변경 등으로 버전이 오르면 토큰 무효)
+    public TokenDto createTokenDto(String userPk, String email, long securityVersion) {
         Claims claims = Jwts.claims().setSubject(userPk); // JWT payload에 저장되는 정보단위
-        claims.put("email", email); // 정보는 key / value 단위로 저장된다, 즉 "email" = emai 값
+        claims.put(EMAIL_CLAIM, email); // 정보는 key / value 단위로 저장된다, 즉 "email" = emai 값
+        claims.put(SECURITY_VERSION_CLAIM, securityVersion);
         Date now = new Date();
 
         // 1. Access Token 생성
         String accessToken = Jwts.builder()
                 .setClaims(claims)
+                .setId(UUID.randomUUID().toString()) // 블랙리스트 키로 쓰일 토큰 고유 ID (jti)
                 .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + accessTokenValidTime))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
 
-        // 2. Refresh Token 생성
+        // 2. Refresh Token 생성 - 재발급 시 DB 조회가 필요 없도록 사용자 정보를 함께 담음
+        Claims refreshClaims = Jwts.claims().setSubject(userPk);
+        refreshClaims.put(EMAIL_CLAIM, email);
+        refreshClaims.put(SECURITY_VERSION_CLAIM, securityVersion);
+        refreshClaims.put(TOKEN_TYPE_CLAIM, REFRESH_TOKEN_TYPE); // Access Token 으로 쓰이지 않도록 구분
         String refrestToken = Jwts.builder()
+                .setClaims(refreshClaims)
+                .setId(UUID.randomUUID().toString())
+                .setIssuedAt(now)
                 .setExpiration(new Date(now.getTime() + refreshTokenValidTime))
                 .signWith(key, SignatureAlgorithm.HS256)
                 .compact();
@@ -69,23 +156,30 @@ public class JwtTokenProvider {
 
     // 토큰 남은 유효시간(TTL) 계산 - 로그아웃 시 BlackList 저장하기 위함
     public long getExpiration(String accessToken) {
-        Date expiration = Jwts.parserBuilder().setSigningKey(key).build()
-                .parseClaimsJws(accessToken).getBody().getExpiration();
+        Date expiration = getRequiredClaims(accessToken).getExpiration();
         long now = new Date().getTime();
         return expiration.getTime() - now;
     }
 
     // 1. 토큰에서 인증 정보 조회
     public Authentication getAuthentication(String token) {
-        // 토큰의 subject(userPk)를 이용해 UserDetails를 조회
-        UserDetails userDetails = userDetailsService.loadUserByUsername(this.getUserPk(token));
+        return getAuthentication(getRequiredClaims(token));
+    }
+
+    // 1-1. 이미 검증된 Claims 로 인증 정보 조회 (필터에서 토큰을 다시 파싱하지 않도록)
+    public Authentication getAuthentication(Claims claims) {
+        UserDetails userDetails = statelessPrincipal
+                // 서명이 검증된 클레임만으로 주체 생성 --> 요청마다 나가던 users 조회 제거
+                ? new JwtUserPrincipal(claims.getSubject(), claims.get(EMAIL_CLAIM, String.class))
+                // 토큰의 subject(userPk)를 이용해 UserDetails를 조회
+                : userDetailsService.loadUserByUsername(claims.getSubject());
         // Authentication 객체 생성해 반환
         return new UsernamePasswordAuthenticationToken(userDetails, "", userDetails.getAuthorities());
     }
 
     // 2. 토큰에서 회원 정보 추출(userPk)
     public String getUserPk(String token) {
-        return Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(token).getBody().getSubject();
+        return getRequiredClaims(token).getSubject();
     }
 
     // 3. Request의 Header에서 token 값 가져오기
@@ -99,16 +193,107 @@ public class JwtTokenProvider {
 
     // 4. 토큰 유효성, 만료일자 확인
     public boolean validateToken(String jwtToken) {
+        return getVerifiedClaims(jwtToken) != null;
+    }
+
+    // 5. 토큰 검증 후 Claims 반환 - 유효하지 않으면 null
+    // 같은 토큰이 반복해서 들어오면(대시보드 폴링 등) 캐시된 결과를 사용하여 서명 검증을 생략
+    public Claims getVerifiedClaims(String jwtToken) {
+        if (jwtToken == null || jwtToken.isBlank()) {
+            return null;
+        }
+
+        String tokenHash = hash(jwtToken);
+        Claims cached = verifiedTokenCache.getIfPresent(tokenHash);
+        if (cached != null && cached.getExpiration().after(new Date())) {
+            cacheHitCounter.increment();
+            return cached;
+        }
+        cacheMissCounter.increment();
+
+        Timer.Sample sample = Timer.start(meterRegistry);
         try {
-            Jws<Claims> claims = Jwts.parserBuilder().setSigningKey(key).build().parseClaimsJws(jwtToken);
-            return !claims.getBody().getExpiration().before(new Date());
-        } catch (Exception e) {
-            return false;
+            Claims claims = jwtParser.parseClaimsJws(jwtToken).getBody();
+            verifiedTokenCache.put(tokenHash, claims);
+            return claims;
+        } catch (JwtException | IllegalArgumentException e) {
+            return null;
+        } finally {
+            sample.stop(parseTimer);
         }
     }
 
+    // 5-1. Access Token 인지 확인 (subject 가 있고 Refresh Token 이 아닌 토큰)
+    public boolean isAccessToken(Claims claims) {
+        return claims.getSubject() != null && !REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM));
+    }
+
+    // 5-2. Refresh Token 검증 후 Claims 반환 - 유효하지 않거나 Refresh Token 이 아니면 null
+    public Claims getRefreshClaims(String refreshToken) {
+        Claims claims = getVerifiedClaims(refreshToken);
+        if (claims == null || claims.getSubject() == null
+                || !REFRESH_TOKEN_TYPE.equals(claims.get(TOKEN_TYPE_CLAIM))) {
+            return null;
+        }
+        return claims;
+    }
+
+    // 5-3. 만료된 토큰이라도 서명이 맞으면 회원 정보 추출 (재발급은 보통 Access Token 만료 후에 요청되므로)
+    public String getUserPkAllowExpired(String token) {
+        Claims claims = getVerifiedClaims(token);
+        if (claims != null) {
+            return claims.getSubject();
+        }
+        try {
+            return jwtParser.parseClaimsJws(token).getBody().getSubject();
+        } catch (ExpiredJwtException e) {
+            return e.getClaims().getSubject();
+        } catch (JwtException | IllegalArgumentException e) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+    }
+
+    // 5-4. 토큰에 담긴 이메일
+    public String getEmail(Claims claims) {
+        return claims.get(EMAIL_CLAIM, String.class);
+    }
+
+    // 6. 토큰에 담긴 보안 버전 (버전 클레임이 없는 이전 토큰은 0)
+    public long getSecurityVersion(Claims claims) {
+        Object version = claims.get(SECURITY_VERSION_CLAIM);
+        return version instanceof Number number ? number.longValue() : 0L;
+    }
+
+    // 7. 토큰 고유 ID (jti) - 블랙리스트 키로 사용, jti 가 없는 이전 토큰은 토큰 해시로 대체
+    public String getTokenId(String token) {
+        return getTokenId(getRequiredClaims(token), token);
+    }
+
+    public String getTokenId(Claims claims, String token) {
+        String tokenId = claims.getId();
+        return tokenId != null ? tokenId : hash(token);
+    }
+
     public long getRefreshTokenValidTime() {
         return this.refreshTokenValidTime;
     }
 
+    private Claims getRequiredClaims(String token) {
+        Claims claims = getVerifiedClaims(token);
+        if (claims == null) {
+            throw new IllegalArgumentException("유효하지 않은 토큰입니다.");
+        }
+        return claims;
+    }
+
+    // 캐시 키로 토큰 원문 대신 SHA-256 해시 사용
+    private static String hash(String token) {
+        try {
+            MessageDigest digest = MessageDigest.getInstance("SHA-256");
+            return HexFormat.of().formatHex(digest.digest(token.getBytes(StandardCharsets.UTF_8)));
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException("SHA-256 알고리즘을 사용할 수 없습니다.", e);
+        }
+    }
+
 }
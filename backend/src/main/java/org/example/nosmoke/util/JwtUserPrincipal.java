@@ -0,0 +1,19 @@
+package org.example.nosmoke.util;
+
+import lombok.Getter;
+import org.springframework.security.core.userdetails.User;
+
+import java.util.Collections;
+
+// DB 조회 없이 검증된 JWT 클레임(subject, email)만으로 만드는 인증 주체
+// username 은 기존과 동일하게 회원 ID --> authentication.getName() 사용하는 컨트롤러는 그대로 동작
+@Getter
+public class JwtUserPrincipal extends User {
+
+    private final String email;
+
+    public JwtUserPrincipal(String userId, String email) {
+        super(userId, "", Collections.emptyList()); // 역할 설정 부분, 우선 비워 둠
+        this.email = email;
+    }
+}
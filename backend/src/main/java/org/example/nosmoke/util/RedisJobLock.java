@@ -0,0 +1,41 @@
+package org.example.nosmoke.util;
+
+import lombok.RequiredArgsConstructor;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.DefaultRedisScript;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.stereotype.Component;
+
+import java.time.Duration;
+import java.util.List;
+import java.util.UUID;
+
+// 여러 서버 중 한 곳에서만 스케줄 작업을 돌리기 위한 Redis 잠금 (SET NX + 만료 시간)
+// 작업이 도중에 죽어도 ttl 이 지나면 풀림 - ttl 은 작업이 걸리는 시간보다 넉넉하게
+@Component
+@RequiredArgsConstructor
+public class RedisJobLock {
+
+    private static final String KEY_PREFIX = "lock:job:";
+
+    // 내가 잡은 잠금일 때만 삭제 (ttl 이 지나 다른 서버가 다시 잡은 잠금을 지우지 않도록)
+    private static final RedisScript<Long> RELEASE_SCRIPT = new DefaultRedisScript<>(
+            "if redis.call('GET', KEYS[1]) == ARGV[1] then " +
+            "  return redis.call('DEL', KEYS[1]) " +
+            "end " +
+            "return 0",
+            Long.class);
+
+    private final RedisTemplate<String, Object> redisTemplate;
+
+    // 잠금을 잡으면 해제용 토큰, 다른 서버가 잡고 있으면 null
+    public String tryLock(String name, Duration ttl) {
+        String token = UUID.randomUUID().toString();
+        Boolean acquired = redisTemplate.opsForValue().setIfAbsent(KEY_PREFIX + name, token, ttl);
+        return Boolean.TRUE.equals(acquired) ? token : null;
+    }
+
+    public void unlock(String name, String token) {
+        redisTemplate.execute(RELEASE_SCRIPT, List.of(KEY_PREFIX + name), token);
+    }
+}
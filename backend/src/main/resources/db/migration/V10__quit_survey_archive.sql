@@ -0,0 +1,20 @@
+-- V10__quit_survey_archive.sql
+-- 보관 기간이 지난 설문 (QuitSurveyArchive.java) - 파티션 관리 작업이 오래된 월 파티션을 통째로 옮겨 온다
+-- 읽기 전용 : 설문 기록 / 내보내기 / 통계 / 스트릭 재계산에서 quit_survey 와 함께 읽는다
+-- (MySQL 에서는 V11 에서 압축 행 형식으로 바꿈)
+
+CREATE TABLE IF NOT EXISTS quit_survey_archive (
+                             id BIGINT PRIMARY KEY, -- quit_survey.id 그대로
+                             user_id BIGINT NOT NULL,
+                             survey_date DATE,
+                             is_success BOOLEAN,
+                             stress_level INT,
+                             stress_cause VARCHAR(255),
+                             craving_level INT,
+                             additional_notes TEXT,
+                             created_at DATETIME(6),
+                             modified_at DATETIME(6)
+);
+
+-- 설문 기록 키셋 페이징 (quit_survey 의 idx_quit_survey_user_created 와 같은 순서)
+CREATE INDEX idx_quit_survey_archive_user_created ON quit_survey_archive (user_id, created_at, id);
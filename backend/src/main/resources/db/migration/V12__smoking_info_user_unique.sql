@@ -0,0 +1,17 @@
+-- V12__smoking_info_user_unique.sql
+-- 사용자당 흡연 정보 한 행 - 동시 저장으로 생긴 중복 행을 정리하고 user_id 유니크 키 추가
+-- 저장은 INSERT ... ON DUPLICATE KEY UPDATE 한 문장 (SmokingInfoRepository.upsert)
+
+-- 중복이면 가장 나중에 저장된 행(id 최대)만 남김
+-- 파생 테이블로 한 번 감싸야 MySQL 에서 수정 대상 테이블을 서브쿼리로 읽을 수 있다
+DELETE FROM smoking_info
+WHERE id NOT IN (SELECT latest_id FROM (
+                     SELECT MAX(id) AS latest_id
+                     FROM smoking_info
+                     GROUP BY user_id
+                 ) latest);
+
+CREATE UNIQUE INDEX uk_smoking_info_user ON smoking_info (user_id);
+
+-- 유니크 키가 같은 조회(findByUserId)를 처리하므로 V5 의 일반 인덱스는 삭제
+DROP INDEX idx_smoking_info_user ON smoking_info;
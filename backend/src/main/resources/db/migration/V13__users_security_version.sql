@@ -0,0 +1,4 @@
+-- V13__users_security_version.sql
+-- 사용자별 보안 버전 (SecurityVersionService) - 원본은 DB, Redis(SV:{userId}) / 로컬 캐시는 앞단 캐시
+-- Redis 키가 사라져도(만료 / 초기화 / 장애 조치) DB 값으로 다시 채우므로 이미 무효화한 토큰이 되살아나지 않는다
+ALTER TABLE users ADD COLUMN security_version BIGINT NOT NULL DEFAULT 0;
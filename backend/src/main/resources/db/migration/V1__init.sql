@@ -15,7 +15,7 @@ CREATE TABLE users (
 );
 
 -- 2. SmokingInfo 테이블 (SmokingInfo.java)
--- @Column(name="quitGoal") 처럼 명시된 컬럼명은 그대로 유지했습니다.
+-- @Column(name="quitGoal") 도 물리 이름 전략(CamelCase -> snake_case)을 거쳐 quit_goal 로 매핑됩니다.
 CREATE TABLE smoking_info (
                               id BIGINT AUTO_INCREMENT PRIMARY KEY,
                               user_id BIGINT NOT NULL,
@@ -23,7 +23,7 @@ CREATE TABLE smoking_info (
                               daily_consumption INT,
                               quit_start_date DATE,
                               target_date DATE,
-                              quitGoal VARCHAR(255),  -- Entity의 @Column(name="quitGoal") 반영
+                              quit_goal VARCHAR(255),  -- Entity의 @Column(name="quitGoal") 반영
                               created_at DATETIME(6),
                               modified_at DATETIME(6)
 );
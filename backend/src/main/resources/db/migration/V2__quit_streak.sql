@@ -0,0 +1,13 @@
+-- V2__quit_streak.sql
+-- 사용자별 금연 스트릭 요약 (QuitStreak.java)
+-- 대시보드가 설문 기록 전체를 읽지 않도록 설문 저장 시 함께 갱신한다
+
+CREATE TABLE IF NOT EXISTS quit_streak (
+                             user_id BIGINT PRIMARY KEY,
+                             current_streak INT NOT NULL DEFAULT 0,
+                             longest_streak INT NOT NULL DEFAULT 0,
+                             total_successes INT NOT NULL DEFAULT 0,
+                             last_survey_date DATE,
+                             created_at DATETIME(6),
+                             modified_at DATETIME(6)
+);
@@ -0,0 +1,4 @@
+-- V3__quit_survey_history_index.sql
+-- 설문 기록 키셋 페이징 (WHERE user_id = ? AND (created_at, id) < (?, ?) ORDER BY created_at DESC, id DESC) 용 인덱스
+-- is_success 까지 포함해 findAllLightByUserId (is_success, created_at) 는 테이블을 읽지 않고 인덱스만으로 처리
+CREATE INDEX idx_quit_survey_user_created ON quit_survey (user_id, created_at, id, is_success);
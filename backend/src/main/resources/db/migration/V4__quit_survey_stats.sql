@@ -0,0 +1,15 @@
+-- V4__quit_survey_stats.sql
+-- 사용자별 설문 통계 누적값 (QuitSurveyStats.java)
+-- 통계 조회가 설문 기록 전체를 읽지 않도록 설문 저장 / 수정 시 함께 갱신한다
+
+CREATE TABLE IF NOT EXISTS quit_survey_stats (
+                             user_id BIGINT PRIMARY KEY,
+                             total_surveys BIGINT NOT NULL DEFAULT 0,
+                             success_count BIGINT NOT NULL DEFAULT 0,
+                             stress_sum BIGINT NOT NULL DEFAULT 0,
+                             stress_count BIGINT NOT NULL DEFAULT 0,
+                             craving_sum BIGINT NOT NULL DEFAULT 0,
+                             craving_count BIGINT NOT NULL DEFAULT 0,
+                             created_at DATETIME(6),
+                             modified_at DATETIME(6)
+);
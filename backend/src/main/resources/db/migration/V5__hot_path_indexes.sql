@@ -0,0 +1,11 @@
+-- V5__hot_path_indexes.sql
+-- 자주 호출되는 조회 쿼리용 인덱스 (없으면 모두 테이블 전체 스캔)
+
+-- SmokingInfoRepository.findByUserId (대시보드, 로그인 EXISTS, 흡연 정보 조회/수정)
+CREATE INDEX idx_smoking_info_user ON smoking_info (user_id);
+
+-- MonkeyMessageRepository.findByUser_IdOrderByCreatedAtDesc (채팅 기록 / AI 대화 문맥) - 정렬까지 인덱스 순서로 처리
+CREATE INDEX idx_monkey_message_user_created ON monkey_message (user_id, created_at);
+
+-- UserRepository.existsByName / findByName (이름 변경 시 중복 확인)
+CREATE INDEX idx_users_name ON users (name);
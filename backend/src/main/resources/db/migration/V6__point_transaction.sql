@@ -0,0 +1,22 @@
+-- V6__point_transaction.sql
+-- 포인트 변동 원장 (PointTransaction.java) - 추가만 하고 수정 / 삭제하지 않는다
+-- 사용자별 amount 합계로 users.point 를 감사 / 재계산할 수 있다
+
+CREATE TABLE IF NOT EXISTS point_transaction (
+                             id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                             user_id BIGINT NOT NULL,
+                             amount INT NOT NULL,
+                             balance_after INT NOT NULL,
+                             reason VARCHAR(30) NOT NULL,
+                             created_at DATETIME(6),
+                             modified_at DATETIME(6)
+);
+
+-- 사용자별 내역 조회 / 합계 (PointTransactionRepository.sumAmountByUserId)
+CREATE INDEX idx_point_transaction_user ON point_transaction (user_id, id);
+
+-- 원장 도입 전 잔액은 기초 잔액 한 건으로 옮겨 둔다 (합계 = 현재 잔액)
+INSERT INTO point_transaction (user_id, amount, balance_after, reason, created_at, modified_at)
+SELECT id, point, point, 'OPENING_BALANCE', CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6)
+FROM users
+WHERE point <> 0;
@@ -0,0 +1,19 @@
+-- V7__quit_survey_daily_unique.sql
+-- 하루 한 번 설문 - (user_id, survey_date) 유니크 키로 재시도 요청이 중복 행을 만들지 못하게 한다
+-- 저장은 INSERT ... ON DUPLICATE KEY UPDATE id = id 한 문장 (QuitSurveyRepository.insertIfAbsent)
+-- INSERT IGNORE 는 중복 키 외의 오류까지 경고로 바꿔 저장하므로 쓰지 않음
+
+ALTER TABLE quit_survey ADD COLUMN survey_date DATE NULL;
+
+-- 기존 기록은 사용자 / 날짜별 첫 설문에만 날짜를 채운다
+-- 같은 날 중복 설문은 지우지 않고 NULL 로 남김 (유니크 키는 NULL 을 중복으로 보지 않음)
+-- 파생 테이블로 한 번 감싸야 MySQL 에서 수정 대상 테이블을 서브쿼리로 읽을 수 있다
+UPDATE quit_survey
+SET survey_date = CAST(created_at AS DATE)
+WHERE id IN (SELECT first_id FROM (
+                 SELECT MIN(id) AS first_id
+                 FROM quit_survey
+                 GROUP BY user_id, CAST(created_at AS DATE)
+             ) first_surveys);
+
+CREATE UNIQUE INDEX uk_quit_survey_user_date ON quit_survey (user_id, survey_date);
@@ -0,0 +1,17 @@
+-- V8__id_sequence.sql
+-- 시퀀스 대용 테이블 - MySQL 에는 시퀀스가 없어 @TableGenerator 가 이 테이블에서 ID 구간을 받아 간다
+-- IDENTITY 는 INSERT 를 실행해야 ID 를 알 수 있어 Hibernate JDBC 배치가 꺼지므로,
+-- 여러 행을 한 번에 저장하는 엔티티(User, MonkeyMessage)는 미리 받아 둔 구간(allocationSize)에서 ID 를 배정한다
+-- next_val = 다음 구간의 시작 값 (pooled-lo, hibernate.id.optimizer.pooled.preferred=pooled-lo)
+
+CREATE TABLE IF NOT EXISTS id_sequence (
+                             sequence_name VARCHAR(50) PRIMARY KEY,
+                             next_val BIGINT NOT NULL
+);
+
+-- 기존 AUTO_INCREMENT 로 발급된 ID 다음부터 이어서 발급
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'users', COALESCE(MAX(id), 0) + 1 FROM users;
+
+INSERT INTO id_sequence (sequence_name, next_val)
+SELECT 'monkey_message', COALESCE(MAX(id), 0) + 1 FROM monkey_message;
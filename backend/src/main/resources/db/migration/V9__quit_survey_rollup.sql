@@ -0,0 +1,30 @@
+-- V9__quit_survey_rollup.sql
+-- 주별 / 월별 설문 집계 (QuitSurveyRollup.java) - 추이 차트는 설문 기록 대신 이 테이블만 읽는다
+-- 집계 작업은 워터마크(rollup_watermark.last_id) 이후에 저장된 설문만 읽어 차이만큼 더한다
+
+CREATE TABLE IF NOT EXISTS quit_survey_rollup (
+                             id BIGINT AUTO_INCREMENT PRIMARY KEY,
+                             user_id BIGINT NOT NULL,
+                             period_type VARCHAR(10) NOT NULL,
+                             period_start DATE NOT NULL,
+                             total_surveys BIGINT NOT NULL DEFAULT 0,
+                             success_count BIGINT NOT NULL DEFAULT 0,
+                             stress_sum BIGINT NOT NULL DEFAULT 0,
+                             stress_count BIGINT NOT NULL DEFAULT 0,
+                             craving_sum BIGINT NOT NULL DEFAULT 0,
+                             craving_count BIGINT NOT NULL DEFAULT 0,
+                             created_at DATETIME(6),
+                             modified_at DATETIME(6),
+                             CONSTRAINT uk_quit_survey_rollup_period UNIQUE (user_id, period_type, period_start)
+);
+
+-- 집계 작업별로 어디까지 읽었는지 (quit_survey.id 기준)
+CREATE TABLE IF NOT EXISTS rollup_watermark (
+                             name VARCHAR(50) PRIMARY KEY,
+                             last_id BIGINT NOT NULL,
+                             created_at DATETIME(6),
+                             modified_at DATETIME(6)
+);
+
+INSERT INTO rollup_watermark (name, last_id, created_at, modified_at)
+VALUES ('quit_survey_rollup', 0, CURRENT_TIMESTAMP(6), CURRENT_TIMESTAMP(6));
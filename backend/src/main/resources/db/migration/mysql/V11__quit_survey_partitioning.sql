@@ -0,0 +1,42 @@
+-- V11__quit_survey_partitioning.sql (MySQL 전용 - spring.flyway.locations 의 db/migration/{vendor})
+-- quit_survey 를 survey_date 기준 월별 RANGE 파티션으로 나눈다
+-- 설문 날짜 조건(insertIfAbsent, findByUserIdAndSurveyDate, findSurveyDatesBetween)은 해당 월 파티션만 읽는다
+-- 미래 파티션 추가 / 보관 기간이 지난 파티션을 quit_survey_archive 로 옮기는 일은 QuitSurveyPartitionJob 이 한다
+
+-- 파티션 키는 모든 유니크 키(PK 포함)에 들어가야 하므로 survey_date 는 NOT NULL 이어야 한다
+-- 유니크 키 도입(V7) 전 같은 날 중복으로 저장되어 survey_date 가 NULL 인 설문은 보관 테이블로 옮김 (삭제하지 않음)
+INSERT INTO quit_survey_archive
+    (id, user_id, survey_date, is_success, stress_level, stress_cause, craving_level, additional_notes, created_at, modified_at)
+SELECT id, user_id, survey_date, is_success, stress_level, stress_cause, craving_level, additional_notes, created_at, modified_at
+FROM quit_survey
+WHERE survey_date IS NULL;
+
+DELETE FROM quit_survey WHERE survey_date IS NULL;
+
+ALTER TABLE quit_survey
+    MODIFY survey_date DATE NOT NULL,
+    DROP PRIMARY KEY,
+    ADD PRIMARY KEY (id, survey_date);
+
+-- 2026-01 이전 기록은 p_history 하나에 두고, 이후는 월별 (pYYYYMM = 그 달 설문)
+-- pmax 는 항상 비어 있도록 파티션 관리 작업이 앞으로 몇 달치 파티션을 미리 나눠 둔다
+ALTER TABLE quit_survey
+    PARTITION BY RANGE COLUMNS (survey_date) (
+        PARTITION p_history VALUES LESS THAN ('2026-01-01'),
+        PARTITION p202601 VALUES LESS THAN ('2026-02-01'),
+        PARTITION p202602 VALUES LESS THAN ('2026-03-01'),
+        PARTITION p202603 VALUES LESS THAN ('2026-04-01'),
+        PARTITION p202604 VALUES LESS THAN ('2026-05-01'),
+        PARTITION p202605 VALUES LESS THAN ('2026-06-01'),
+        PARTITION p202606 VALUES LESS THAN ('2026-07-01'),
+        PARTITION p202607 VALUES LESS THAN ('2026-08-01'),
+        PARTITION p202608 VALUES LESS THAN ('2026-09-01'),
+        PARTITION p202609 VALUES LESS THAN ('2026-10-01'),
+        PARTITION p202610 VALUES LESS THAN ('2026-11-01'),
+        PARTITION p202611 VALUES LESS THAN ('2026-12-01'),
+        PARTITION p202612 VALUES LESS THAN ('2027-01-01'),
+        PARTITION pmax VALUES LESS THAN (MAXVALUE)
+    );
+
+-- 보관 테이블은 거의 읽지 않으므로 압축 (innodb_file_per_table 필요 - MySQL 8 기본값)
+ALTER TABLE quit_survey_archive ROW_FORMAT = COMPRESSED KEY_BLOCK_SIZE = 8;
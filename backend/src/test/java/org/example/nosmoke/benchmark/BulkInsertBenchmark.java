@@ -0,0 +1,118 @@
+package org.example.nosmoke.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.example.nosmoke.entity.MonkeyMessage;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.repository.MonkeyMessageRepository;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.UserRepository;
+import org.hibernate.Session;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 대량 저장 시 JDBC 배치 효과 측정 (초당 저장 행 수 / 실행된 SQL 문 수)
+// - 대화 메시지 : id_sequence 구간 ID + 배치 50 vs 배치 1 (IDENTITY 와 같이 행마다 한 번씩 전송)
+// - 설문 : IDENTITY 엔티티 saveAll (배치 불가) vs JdbcTemplate 배치 INSERT
+//   설문은 하루 한 번 저장을 INSERT IGNORE 로 처리하므로 AUTO_INCREMENT 를 유지하고, 대량 저장은 JDBC 배치로 처리
+// H2 메모리 DB 라 왕복 비용이 거의 없어 실제 MySQL 에서의 차이보다 작게 나온다
+// 실행 : ./gradlew benchmark --tests '*BulkInsertBenchmark'
+@Tag("benchmark")
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+class BulkInsertBenchmark {
+
+    private static final int ROWS = 5000;
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private MonkeyMessageRepository monkeyMessageRepository;
+    @Autowired private QuitSurveyRepository quitSurveyRepository;
+
+    @Test
+    @DisplayName("대화 메시지 대량 저장 - 배치 1 vs 배치 50")
+    void 대화_메시지_대량_저장() {
+        User user = userRepository.save(new User("bench", "bench@nosmoke.com", "password", 0));
+        entityManager.flush();
+
+        long[] unbatched = measure(() -> saveMessages(user, 1));
+        long[] batched = measure(() -> saveMessages(user, 50));
+
+        print("메시지 배치 1", unbatched);
+        print("메시지 배치 50", batched);
+        assertThat(batched[1]).isLessThan(unbatched[1]);
+    }
+
+    @Test
+    @DisplayName("설문 대량 저장 - IDENTITY saveAll vs JDBC 배치")
+    void 설문_대량_저장() {
+        long[] identity = measure(() -> {
+            List<QuitSurvey> surveys = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                surveys.add(new QuitSurvey(1L, true, 3, "벤치마크", 3, "메모"));
+            }
+            quitSurveyRepository.saveAll(surveys);
+            entityManager.flush();
+        });
+
+        long[] jdbcBatch = measure(() -> {
+            Timestamp now = Timestamp.valueOf(LocalDateTime.now());
+            List<Object[]> rows = new ArrayList<>(ROWS);
+            for (int i = 0; i < ROWS; i++) {
+                rows.add(new Object[]{2L, true, 3, "벤치마크", 3, "메모", now, now});
+            }
+            jdbcTemplate.batchUpdate(
+                    "INSERT INTO quit_survey (user_id, is_success, stress_level, stress_cause, craving_level, additional_notes, created_at, modified_at) " +
+                            "VALUES (?, ?, ?, ?, ?, ?, ?, ?)", rows);
+        });
+
+        print("설문 IDENTITY saveAll", identity);
+        // JdbcTemplate 은 Hibernate 통계에 잡히지 않으므로 배치 한 번 = SQL 한 번
+        print("설문 JDBC 배치", new long[]{jdbcBatch[0], 1});
+    }
+
+    private void saveMessages(User user, int batchSize) {
+        entityManager.unwrap(Session.class).setJdbcBatchSize(batchSize);
+        List<MonkeyMessage> messages = new ArrayList<>(ROWS);
+        for (int i = 0; i < ROWS; i++) {
+            messages.add(MonkeyMessage.builder()
+                    .user(user)
+                    .content("벤치마크 메시지 " + i)
+                    .messageType(MonkeyMessage.MessageType.USER)
+                    .build());
+        }
+        monkeyMessageRepository.saveAll(messages);
+        entityManager.flush();
+        entityManager.clear();
+    }
+
+    // {걸린 시간(ns), 실행된 SQL 문 수}
+    private long[] measure(Runnable task) {
+        Statistics statistics = entityManager.getEntityManagerFactory().unwrap(SessionFactory.class).getStatistics();
+        statistics.clear();
+        long start = System.nanoTime();
+        task.run();
+        long elapsed = System.nanoTime() - start;
+        return new long[]{elapsed, statistics.getPrepareStatementCount()};
+    }
+
+    private void print(String label, long[] result) {
+        System.out.printf("[%s] %d행, %dms, 초당 %d행, SQL 문 %d회%n", label, ROWS,
+                result[0] / 1_000_000,
+                ROWS * 1_000_000_000L / result[0],
+                result[1]);
+    }
+}
@@ -0,0 +1,88 @@
+package org.example.nosmoke.benchmark;
+
+import jakarta.persistence.EntityManager;
+import org.example.nosmoke.entity.PointTransaction;
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.repository.PointTransactionRepository;
+import org.example.nosmoke.repository.UserRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.util.Arrays;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 포인트 지급 쓰기 경로 지연시간 비교
+// 기존 : 사용자 행 조회 -> 엔티티 값 변경 -> 더티체킹으로 전체 컬럼 UPDATE
+// 변경 : UPDATE users SET point = point + ? 한 문장 + 잔액 조회 (+ 원장 INSERT)
+// 매 회 영속성 컨텍스트를 비워 요청마다 새 트랜잭션에서 실행되는 것과 같은 조건으로 측정
+// 실행 : ./gradlew benchmark --tests '*PointAccrualBenchmark'
+@Tag("benchmark")
+@DataJpaTest
+class PointAccrualBenchmark {
+
+    private static final int WARMUP = 200;
+    private static final int ITERATIONS = 2000;
+
+    @Autowired private EntityManager entityManager;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PointTransactionRepository pointTransactionRepository;
+
+    @Test
+    @DisplayName("조회 후 더티체킹 vs 원자적 UPDATE 지연시간")
+    void 포인트_지급_지연시간() {
+        Long userId = userRepository.save(new User("bench", "bench@nosmoke.com", "password", 0)).getId();
+        entityManager.flush();
+
+        long[] readModifyWrite = measure(() -> {
+            User user = userRepository.findById(userId).orElseThrow();
+            user.updatePoint(user.getPoint() + 10);
+            entityManager.flush();
+        });
+        long[] atomic = measure(() -> {
+            userRepository.addPoint(userId, 10);
+            userRepository.findPointById(userId).orElseThrow();
+        });
+        long[] atomicWithLedger = measure(() -> {
+            userRepository.addPoint(userId, 10);
+            int balance = userRepository.findPointById(userId).orElseThrow();
+            pointTransactionRepository.save(new PointTransaction(userId, 10, balance, PointTransaction.Reason.SURVEY_SUCCESS));
+            entityManager.flush();
+        });
+
+        print("조회 + 더티체킹", readModifyWrite);
+        print("원자적 UPDATE + 잔액 조회", atomic);
+        print("원자적 UPDATE + 잔액 조회 + 원장 기록", atomicWithLedger);
+
+        // 세 경로 모두 10 포인트씩 빠짐없이 누적
+        int expected = 10 * 3 * (WARMUP + ITERATIONS);
+        assertThat(userRepository.findPointById(userId)).contains(expected);
+    }
+
+    private long[] measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+            entityManager.clear();
+        }
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            elapsed[i] = System.nanoTime() - start;
+            entityManager.clear();
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private void print(String label, long[] sorted) {
+        System.out.printf("[%s] p50=%dus, p95=%dus, p99=%dus%n", label,
+                TimeUnit.NANOSECONDS.toMicros(sorted[sorted.length / 2]),
+                TimeUnit.NANOSECONDS.toMicros(sorted[(int) (sorted.length * 0.95)]),
+                TimeUnit.NANOSECONDS.toMicros(sorted[(int) (sorted.length * 0.99)]));
+    }
+}
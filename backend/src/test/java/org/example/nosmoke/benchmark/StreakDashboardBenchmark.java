@@ -0,0 +1,100 @@
+package org.example.nosmoke.benchmark;
+
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.dashboard.DashboardService;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
+import org.example.nosmoke.service.quitsurvey.QuitStreakService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.sql.Date;
+import java.sql.Timestamp;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 설문 기록 길이(1개월 ~ 10년)에 따른 스트릭 재계산 / 대시보드 조회 지연시간 측정
+// 재계산은 DB 집계 쿼리 한 번, 대시보드는 요약 한 행만 읽으므로 기록 길이와 무관하게 대시보드 지연시간이 일정해야 한다
+// 실행 : ./gradlew benchmark --tests '*StreakDashboardBenchmark'
+@Tag("benchmark")
+@DataJpaTest
+@Import({DashboardService.class, QuitStreakService.class})
+class StreakDashboardBenchmark {
+
+    private static final int[] HISTORY_DAYS = {30, 365, 3 * 365, 10 * 365};
+    private static final int WARMUP = 50;
+    private static final int ITERATIONS = 500;
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private UserRepository userRepository;
+    @Autowired private DashboardService dashboardService;
+    @Autowired private QuitStreakService quitStreakService;
+
+    // Redis 조회 모델은 비워 두고 매번 DB 경로를 측정
+    @MockitoBean private DashboardViewStore dashboardViewStore;
+
+    @Test
+    @DisplayName("기록 길이별 스트릭 재계산 / 대시보드 조회 지연시간")
+    void 기록_길이별_지연시간() {
+        for (int days : HISTORY_DAYS) {
+            Long userId = userRepository.save(
+                    new User("bench" + days, "bench" + days + "@nosmoke.com", "password", 0)).getId();
+            insertHistory(userId, days);
+
+            long[] rebuild = measure(() -> quitStreakService.rebuild(userId));
+            long[] dashboard = measure(() -> dashboardService.getDashboardInfo(userId));
+
+            print(days + "일 기록 - 스트릭 재계산(집계 쿼리)", rebuild);
+            print(days + "일 기록 - 대시보드 조회", dashboard);
+            assertThat(quitStreakService.rebuild(userId).getTotalSuccesses()).isPositive();
+        }
+    }
+
+    // 하루 한 번 설문, 약 10% 확률로 실패 (매일 다른 길이의 스트릭이 생기도록)
+    private void insertHistory(Long userId, int days) {
+        Random random = new Random(days);
+        LocalDateTime start = LocalDateTime.now().minusDays(days);
+        List<Object[]> rows = new ArrayList<>(days);
+        for (int i = 0; i < days; i++) {
+            LocalDateTime day = start.plusDays(i);
+            Timestamp createdAt = Timestamp.valueOf(day);
+            rows.add(new Object[]{userId, Date.valueOf(day.toLocalDate()), random.nextInt(10) != 0, 3, "벤치마크", 3, "메모", createdAt, createdAt});
+        }
+        jdbcTemplate.batchUpdate(
+                "INSERT INTO quit_survey (user_id, survey_date, is_success, stress_level, stress_cause, craving_level, additional_notes, created_at, modified_at) " +
+                        "VALUES (?, ?, ?, ?, ?, ?, ?, ?, ?)", rows);
+    }
+
+    private long[] measure(Runnable task) {
+        for (int i = 0; i < WARMUP; i++) {
+            task.run();
+        }
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long start = System.nanoTime();
+            task.run();
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+        return elapsed;
+    }
+
+    private void print(String label, long[] sorted) {
+        System.out.printf("[%s] p50=%dus, p95=%dus, p99=%dus%n", label,
+                TimeUnit.NANOSECONDS.toMicros(sorted[sorted.length / 2]),
+                TimeUnit.NANOSECONDS.toMicros(sorted[(int) (sorted.length * 0.95)]),
+                TimeUnit.NANOSECONDS.toMicros(sorted[(int) (sorted.length * 0.99)]));
+    }
+}
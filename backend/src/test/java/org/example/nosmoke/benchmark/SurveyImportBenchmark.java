@@ -0,0 +1,82 @@
+package org.example.nosmoke.benchmark;
+
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.repository.QuitSurveyBatchRepository;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
+import org.example.nosmoke.service.quitsurvey.QuitStreakService;
+import org.example.nosmoke.service.quitsurvey.QuitSurveyStatsService;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.context.annotation.Import;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 1년치(365일) 설문 일괄 등록 지연시간 측정 - 목표 : 1초보다 충분히 작게
+// 기존 날짜 조회 -> 배치 INSERT -> 스트릭 재계산(집계 쿼리 한 번) -> 통계 누적값 UPDATE 한 번 (QuitSurveyService.importSurveys 의 DB 경로)
+// 실행 : ./gradlew benchmark --tests '*SurveyImportBenchmark'
+@Tag("benchmark")
+@DataJpaTest
+@Import({QuitSurveyBatchRepository.class, QuitStreakService.class, QuitSurveyStatsService.class})
+class SurveyImportBenchmark {
+
+    private static final int DAYS = 365;
+    private static final int WARMUP = 5;
+    private static final int ITERATIONS = 30;
+
+    @Autowired private QuitSurveyRepository quitSurveyRepository;
+    @Autowired private QuitSurveyBatchRepository quitSurveyBatchRepository;
+    @Autowired private QuitStreakService quitStreakService;
+    @Autowired private QuitSurveyStatsService quitSurveyStatsService;
+
+    @MockitoBean private DashboardViewStore dashboardViewStore;
+
+    @Test
+    @DisplayName("365일 설문 일괄 등록 지연시간")
+    void 일년치_일괄_등록_지연시간() {
+        long userId = 1000;
+        for (int i = 0; i < WARMUP; i++) {
+            importYear(userId++);
+        }
+        long[] elapsed = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            long id = userId++;
+            long start = System.nanoTime();
+            importYear(id);
+            elapsed[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(elapsed);
+
+        System.out.printf("[%d일 일괄 등록] p50=%dms, p95=%dms, max=%dms%n", DAYS,
+                TimeUnit.NANOSECONDS.toMillis(elapsed[elapsed.length / 2]),
+                TimeUnit.NANOSECONDS.toMillis(elapsed[(int) (elapsed.length * 0.95)]),
+                TimeUnit.NANOSECONDS.toMillis(elapsed[elapsed.length - 1]));
+        assertThat(quitSurveyRepository.findByUserId(userId - 1)).hasSize(DAYS);
+        assertThat(TimeUnit.NANOSECONDS.toMillis(elapsed[elapsed.length / 2])).isLessThan(1000);
+    }
+
+    private void importYear(Long userId) {
+        Random random = new Random(userId);
+        LocalDate from = LocalDate.now().minusDays(DAYS);
+        List<QuitSurvey> surveys = new ArrayList<>(DAYS);
+        for (int i = 0; i < DAYS; i++) {
+            surveys.add(new QuitSurvey(userId, from.plusDays(i), random.nextInt(10) != 0, 3, "벤치마크", 3, "메모"));
+        }
+
+        quitSurveyRepository.findSurveyDatesBetween(userId, from, from.plusDays(DAYS - 1));
+        quitSurveyBatchRepository.insertAll(surveys);
+        quitStreakService.rebuild(userId);
+        quitSurveyStatsService.recordSurveys(userId, surveys);
+    }
+}
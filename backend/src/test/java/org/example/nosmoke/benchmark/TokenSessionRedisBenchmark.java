@@ -0,0 +1,128 @@
+package org.example.nosmoke.benchmark;
+
+import org.example.nosmoke.service.user.AccessTokenBlacklist;
+import org.example.nosmoke.service.user.TokenSessionStore;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.springframework.data.redis.connection.RedisStandaloneConfiguration;
+import org.springframework.data.redis.connection.lettuce.LettuceConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.serializer.StringRedisSerializer;
+
+import java.util.Arrays;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+import static org.mockito.Mockito.mock;
+
+// 로그아웃 Redis 작업 : 기존(GET -> DEL -> SET, 3번 왕복) vs Lua 스크립트(1번 왕복) 지연시간 비교
+// 실행 : ./gradlew benchmark -Dbenchmark.redis.host=localhost -Dbenchmark.redis.password=guest
+@Tag("benchmark")
+class TokenSessionRedisBenchmark {
+
+    private static final int WARMUP = 1_000;
+    private static final int ITERATIONS = 10_000;
+
+    private static LettuceConnectionFactory connectionFactory;
+    private static RedisTemplate<String, Object> redisTemplate;
+    private static TokenSessionStore tokenSessionStore;
+
+    @BeforeAll
+    static void setUp() {
+        RedisStandaloneConfiguration configuration = new RedisStandaloneConfiguration(
+                System.getProperty("benchmark.redis.host", "localhost"),
+                Integer.parseInt(System.getProperty("benchmark.redis.port", "6379")));
+        String password = System.getProperty("benchmark.redis.password");
+        if (password != null) {
+            configuration.setPassword(password);
+        }
+        connectionFactory = new LettuceConnectionFactory(configuration);
+        connectionFactory.afterPropertiesSet();
+        connectionFactory.start();
+
+        redisTemplate = new RedisTemplate<>();
+        redisTemplate.setConnectionFactory(connectionFactory);
+        redisTemplate.setKeySerializer(new StringRedisSerializer());
+        redisTemplate.setValueSerializer(new StringRedisSerializer());
+        redisTemplate.afterPropertiesSet();
+
+        // Redis 가 없으면 건너뜀
+        boolean reachable;
+        try {
+            reachable = "PONG".equals(redisTemplate.execute(connection -> connection.ping(), true));
+        } catch (Exception e) {
+            reachable = false;
+        }
+        assumeTrue(reachable, "Redis 에 연결할 수 없어 벤치마크를 건너뜁니다.");
+
+        tokenSessionStore = new TokenSessionStore(redisTemplate, mock(AccessTokenBlacklist.class));
+    }
+
+    @AfterAll
+    static void tearDown() {
+        if (connectionFactory != null) {
+            connectionFactory.destroy();
+        }
+    }
+
+    @Test
+    @DisplayName("로그아웃 - 순차 3회 왕복 vs Lua 스크립트 1회 왕복")
+    void 로그아웃_왕복_비교() {
+        long[] sequential = measure(userId -> {
+            String key = "RT:bench:" + userId;
+            // 기존 방식 : GET -> DEL -> SET
+            if (redisTemplate.opsForValue().get(key) != null) {
+                redisTemplate.delete(key);
+            }
+            redisTemplate.opsForValue().set("BL:bench:" + UUID.randomUUID(), "logout", 60_000, TimeUnit.MILLISECONDS);
+        });
+
+        long[] scripted = measure(userId ->
+                tokenSessionStore.logout(userId, "bench:" + UUID.randomUUID(), 60_000));
+
+        report("logout sequential (3 round trips)", sequential);
+        report("logout lua script (1 round trip)", scripted);
+    }
+
+    private interface Operation {
+        void run(long userId);
+    }
+
+    private static long[] measure(Operation operation) {
+        for (int i = 0; i < WARMUP; i++) {
+            prepare(userId(i));
+            operation.run(userId(i));
+        }
+        long[] nanos = new long[ITERATIONS];
+        for (int i = 0; i < ITERATIONS; i++) {
+            prepare(userId(i));
+            long start = System.nanoTime();
+            operation.run(userId(i));
+            nanos[i] = System.nanoTime() - start;
+        }
+        Arrays.sort(nanos);
+        return nanos;
+    }
+
+    // 실제 사용자 키와 겹치지 않도록 음수 ID 사용
+    private static long userId(int i) {
+        return -1L - i;
+    }
+
+    // 매 회 삭제할 Refresh Token 이 존재하도록 준비 (측정 구간 밖)
+    private static void prepare(long userId) {
+        redisTemplate.opsForValue().set("RT:bench:" + userId, "refresh", 60_000, TimeUnit.MILLISECONDS);
+        redisTemplate.opsForValue().set("RT:" + userId, "refresh", 60_000, TimeUnit.MILLISECONDS);
+    }
+
+    private static void report(String name, long[] sortedNanos) {
+        System.out.printf("%-40s p50=%6.1fus p95=%6.1fus p99=%6.1fus%n", name,
+                sortedNanos[sortedNanos.length / 2] / 1_000.0,
+                sortedNanos[(int) (sortedNanos.length * 0.95)] / 1_000.0,
+                sortedNanos[(int) (sortedNanos.length * 0.99)] / 1_000.0);
+    }
+}
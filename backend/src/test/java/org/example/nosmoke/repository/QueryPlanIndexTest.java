@@ -0,0 +1,128 @@
+package org.example.nosmoke.repository;
+
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.regex.Matcher;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+// 자주 호출되는 조회 쿼리가 Flyway 마이그레이션의 인덱스를 타는지 실행 계획(EXPLAIN)으로 확인
+// 리포지토리 메서드를 실제로 호출하고, Hibernate 가 만든 SQL 을 StatementInspector 로 받아 그대로 EXPLAIN
+// --> 쿼리 / 엔티티 매핑이 바뀌어 인덱스를 못 타게 되면 H2 계획에 tableScan 이 나온다
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.session_factory.statement_inspector=" +
+        "org.example.nosmoke.repository.QueryPlanIndexTest$CapturingStatementInspector")
+public class QueryPlanIndexTest {
+
+    // Hibernate 가 실행한 SQL 기록 (설정으로 등록 - 기본 생성자 필요)
+    public static class CapturingStatementInspector implements StatementInspector {
+        static final List<String> STATEMENTS = new CopyOnWriteArrayList<>();
+
+        @Override
+        public String inspect(String sql) {
+            STATEMENTS.add(sql);
+            return sql;
+        }
+    }
+
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private QuitSurveyRepository quitSurveyRepository;
+    @Autowired private MonkeyMessageRepository monkeyMessageRepository;
+    @Autowired private SmokingInfoRepository smokingInfoRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private PointTransactionRepository pointTransactionRepository;
+
+    @BeforeEach
+    void setUp() {
+        CapturingStatementInspector.STATEMENTS.clear();
+    }
+
+    // 마지막으로 실행된 SELECT 중 조건(where)에 column 이 들어간 SQL 에 파라미터 값을 순서대로 채워 EXPLAIN
+    private String explainExecuted(String column, Object... params) {
+        List<String> statements = CapturingStatementInspector.STATEMENTS;
+        String sql = null;
+        for (int i = statements.size() - 1; i >= 0 && sql == null; i--) {
+            String candidate = statements.get(i);
+            if (candidate.trim().toLowerCase().startsWith("select") && candidate.toLowerCase().contains(column)) {
+                sql = candidate;
+            }
+        }
+        assertThat(sql).as("실행된 SELECT (%s)", column).isNotNull();
+        for (Object param : params) {
+            String literal = param instanceof String || param instanceof LocalDate ? "'" + param + "'" : String.valueOf(param);
+            sql = sql.replaceFirst("\\?", Matcher.quoteReplacement(literal));
+        }
+        assertThat(sql).doesNotContain("?");
+        return jdbcTemplate.queryForObject("EXPLAIN " + sql, String.class);
+    }
+
+    @Test
+    @DisplayName("findAllLightByUserId - survey_date 하한을 붙여도 user_id 로 시작하는 인덱스 사용")
+    void 설문_경량_조회_인덱스(){
+        LocalDate from = LocalDate.of(2026, 1, 1);
+        quitSurveyRepository.findAllLightByUserId(1L, from, PageRequest.of(0, 30));
+        String plan = explainExecuted("user_id", 1L, from, 30);
+
+        // (user_id, created_at, ...) 정렬 인덱스 또는 (user_id, survey_date) 유니크 키 - 어느 쪽이든 사용자 범위만 읽음
+        // 파티션 가지치기는 MySQL 의 EXPLAIN partitions 컬럼으로 확인 (H2 는 파티션 없음)
+        assertThat(plan.toLowerCase()).containsAnyOf("idx_quit_survey_user_created", "uk_quit_survey_user_date");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("QuitSurveyRepository.findByUserId - user_id 인덱스 사용")
+    void 설문_사용자별_조회_인덱스(){
+        quitSurveyRepository.findByUserId(1L);
+        String plan = explainExecuted("user_id", 1L);
+
+        assertThat(plan).containsIgnoringCase("idx_quit_survey_user_created");
+    }
+
+    @Test
+    @DisplayName("findByUser_IdOrderByCreatedAtDesc - (user_id, created_at) 인덱스 사용")
+    void 대화_기록_조회_인덱스(){
+        monkeyMessageRepository.findByUser_IdOrderByCreatedAtDesc(1L, PageRequest.of(0, 10));
+        String plan = explainExecuted("user_id", 1L, 11);
+
+        assertThat(plan).containsIgnoringCase("idx_monkey_message_user_created");
+    }
+
+    @Test
+    @DisplayName("SmokingInfoRepository.findByUserId - user_id 유니크 키 사용")
+    void 흡연정보_조회_인덱스(){
+        smokingInfoRepository.findByUserId(1L);
+        String plan = explainExecuted("user_id", 1L);
+
+        assertThat(plan).containsIgnoringCase("uk_smoking_info_user");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("existsByName - name 인덱스 사용")
+    void 사용자명_중복확인_인덱스(){
+        userRepository.existsByName("홍길동");
+        String plan = explainExecuted("name", "홍길동", 1);
+
+        assertThat(plan).containsIgnoringCase("idx_users_name");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+
+    @Test
+    @DisplayName("PointTransactionRepository.sumAmountByUserId - (user_id, id) 인덱스 사용")
+    void 포인트_원장_합계_인덱스(){
+        pointTransactionRepository.sumAmountByUserId(1L);
+        String plan = explainExecuted("user_id", 1L);
+
+        assertThat(plan).containsIgnoringCase("idx_point_transaction_user");
+        assertThat(plan).doesNotContainIgnoringCase("tableScan");
+    }
+}
@@ -1,16 +1,24 @@
 package org.example.nosmoke.repository;
 
+import org.example.nosmoke.dto.quitsurvey.CheckInDayDto;
+import org.example.nosmoke.dto.quitsurvey.QuitStreakSummaryDto;
 import org.example.nosmoke.dto.quitsurvey.QuitSurveyLightDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTotalsDto;
 import org.example.nosmoke.entity.QuitSurvey;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.springframework.beans.factory.annotation.Autowired;
 import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.data.domain.PageRequest;
+import org.springframework.jdbc.core.JdbcTemplate;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.List;
 
 import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
 
 @DataJpaTest
 public class QuitSurveyRepositoryTest {
@@ -18,6 +26,9 @@ public class QuitSurveyRepositoryTest {
     @Autowired
     private QuitSurveyRepository quitSurveyRepository;
 
+    @Autowired
+    private JdbcTemplate jdbcTemplate;
+
     @Test
     @DisplayName("DTO 직접 조회 쿼리(findAllLightByUserId) 테스트")
     void 쿼리_조회_테스트(){
@@ -26,17 +37,18 @@ public class QuitSurveyRepositoryTest {
         Long userId2 = 2L;
 
         // 내 설문 2개 저장
-        QuitSurvey survey1_1 = new QuitSurvey(userId1, true, 5, "이유~~1", 3, "메모~~1");
-        QuitSurvey survey1_2 = new QuitSurvey(userId1, false, 8, "이유~~2", 7, "메모~~2");
+        LocalDate today = LocalDate.now();
+        QuitSurvey survey1_1 = new QuitSurvey(userId1, today.minusDays(1), true, 5, "이유~~1", 3, "메모~~1");
+        QuitSurvey survey1_2 = new QuitSurvey(userId1, today, false, 8, "이유~~2", 7, "메모~~2");
 
         // 남의 설문 2개 저장
-        QuitSurvey survey3 = new QuitSurvey(userId2, true, 1, "이유~~3", 1, "메모~~3");
+        QuitSurvey survey3 = new QuitSurvey(userId2, today, true, 1, "이유~~3", 1, "메모~~3");
 
         quitSurveyRepository.saveAll(List.of(survey1_1, survey1_2, survey3));
 
         // when
         // 페이지 요청
-        List<QuitSurveyLightDto> result = quitSurveyRepository.findAllLightByUserId(userId1, PageRequest.of(0, 10));
+        List<QuitSurveyLightDto> result = quitSurveyRepository.findAllLightByUserId(userId1, today.minusDays(30), PageRequest.of(0, 10));
 
 
         // then
@@ -50,20 +62,179 @@ public class QuitSurveyRepositoryTest {
     }
 
     @Test
-    @DisplayName("최근 5개 조회 (findTop5ByUserIdOrderByCreatedAtDesc) 테스트")
+    @DisplayName("최근 5개 조회 (findTop5ByUserIdAndSurveyDateGreaterThanEqualOrderByCreatedAtDesc) 테스트")
     void 최근_5개_조회_테스트(){
         // given
         Long userId = 1L;
+        LocalDate today = LocalDate.now();
         for(int i = 0; i < 6; i++){
-            quitSurveyRepository.save(new QuitSurvey(userId, true, i, "이유", i, "메모"));
+            quitSurveyRepository.save(new QuitSurvey(userId, today.minusDays(6 - i), true, i, "이유", i, "메모"));
         }
+        // 설문 날짜 하한보다 오래된 설문은 제외
+        quitSurveyRepository.save(new QuitSurvey(userId, today.minusDays(60), true, 9, "이유", 9, "메모"));
 
         // when
-        List<QuitSurvey> result = quitSurveyRepository.findTop5ByUserIdOrderByCreatedAtDesc(userId);
+        List<QuitSurvey> result = quitSurveyRepository.findTop5ByUserIdAndSurveyDateGreaterThanEqualOrderByCreatedAtDesc(
+                userId, today.minusDays(30));
 
         // then
         assertThat(result).hasSize(5);
+        assertThat(result).extracting(QuitSurvey::getStressLevel).doesNotContain(9);
+
+    }
+
+    @Test
+    @DisplayName("스트릭 집계 쿼리 - 전체 기간 최장 스트릭과 현재 스트릭 계산")
+    void 스트릭_집계_쿼리_테스트(){
+        // given
+        // 성공 3 -> 실패 -> 성공 5 -> 실패 -> 성공 2 (최장 5, 현재 2, 누적 10)
+        Long userId = 1L;
+        boolean[] history = {true, true, true, false, true, true, true, true, true, false, true, true};
+        for (boolean isSuccess : history) {
+            quitSurveyRepository.save(new QuitSurvey(userId, isSuccess, 1, "이유", 1, "메모"));
+        }
+        // 다른 사용자의 기록은 영향을 주지 않아야 함
+        quitSurveyRepository.save(new QuitSurvey(2L, true, 1, "이유", 1, "메모"));
+
+        // when
+        QuitStreakSummaryDto summary = quitSurveyRepository.summarizeStreakByUserId(userId);
+
+        // then
+        assertThat(summary.getLongestStreak().intValue()).isEqualTo(5);
+        assertThat(summary.getCurrentStreak().intValue()).isEqualTo(2);
+        assertThat(summary.getTotalSuccesses().intValue()).isEqualTo(10);
+    }
+
+    @Test
+    @DisplayName("스트릭 집계 쿼리 - 마지막 설문이 실패면 현재 스트릭 0, 기록이 없으면 모두 0")
+    void 스트릭_집계_쿼리_경계_테스트(){
+        // given
+        quitSurveyRepository.save(new QuitSurvey(1L, true, 1, "이유", 1, "메모"));
+        quitSurveyRepository.save(new QuitSurvey(1L, false, 1, "이유", 1, "메모"));
+
+        // when
+        QuitStreakSummaryDto failedLast = quitSurveyRepository.summarizeStreakByUserId(1L);
+        QuitStreakSummaryDto empty = quitSurveyRepository.summarizeStreakByUserId(99L);
+
+        // then
+        assertThat(failedLast.getCurrentStreak().intValue()).isZero();
+        assertThat(failedLast.getLongestStreak().intValue()).isEqualTo(1);
+        assertThat(empty.getLongestStreak().intValue()).isZero();
+        assertThat(empty.getTotalSuccesses().intValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("체크인 달력 재구성 쿼리 - 날짜별로 묶어 성공 여부 조회")
+    void 체크인_날짜_조회_테스트(){
+        // given
+        // 오늘 실패 1번, 성공 1번 -> 하루로 묶이고 성공으로 표시
+        quitSurveyRepository.save(new QuitSurvey(1L, false, 1, "이유", 1, "메모"));
+        quitSurveyRepository.save(new QuitSurvey(1L, true, 1, "이유", 1, "메모"));
+        quitSurveyRepository.save(new QuitSurvey(2L, false, 1, "이유", 1, "메모"));
+
+        // when
+        List<CheckInDayDto> days = quitSurveyRepository.findCheckInDaysByUserId(1L);
 
+        // then
+        assertThat(days).hasSize(1);
+        assertThat(days.get(0).getDay()).isEqualTo(LocalDate.now());
+        assertThat(days.get(0).getSuccess().intValue()).isEqualTo(1);
     }
 
+    @Test
+    @DisplayName("키셋 페이징 - 이전 페이지 마지막 설문 다음부터 이어서 조회")
+    void 키셋_페이징_테스트(){
+        // given
+        Long userId = 1L;
+        LocalDate today = LocalDate.now();
+        for(int i = 0; i < 5; i++){
+            quitSurveyRepository.save(new QuitSurvey(userId, today.minusDays(5 - i), true, i, "이유", i, "메모"));
+        }
+        quitSurveyRepository.save(new QuitSurvey(2L, today, true, 1, "이유", 1, "메모"));
+        LocalDate from = today.minusDays(30);
+
+        // when
+        List<QuitSurvey> firstPage = quitSurveyRepository.findFirstPageByUserId(userId, from, PageRequest.of(0, 3));
+        QuitSurvey last = firstPage.get(firstPage.size() - 1);
+        List<QuitSurvey> secondPage = quitSurveyRepository.findPageByUserIdBefore(
+                userId, from, last.getCreatedAt().toLocalDate(), last.getCreatedAt(), last.getId(), PageRequest.of(0, 3));
+
+        // then
+        // 최신 순 3개 + 나머지 2개, 중복 / 누락 없이
+        assertThat(firstPage).extracting(QuitSurvey::getStressLevel).containsExactly(4, 3, 2);
+        assertThat(secondPage).extracting(QuitSurvey::getStressLevel).containsExactly(1, 0);
+    }
+
+    @Test
+    @DisplayName("설문 통계 누적값 재계산 쿼리 - 입력되지 않은 수준 값은 제외")
+    void 설문_통계_재계산_테스트(){
+        // given
+        quitSurveyRepository.save(new QuitSurvey(1L, true, 2, "이유", 4, "메모"));
+        quitSurveyRepository.save(new QuitSurvey(1L, false, 4, "이유", null, "메모"));
+
+        // when
+        QuitSurveyTotalsDto totals = quitSurveyRepository.calculateTotalsByUserId(1L);
+        QuitSurveyTotalsDto empty = quitSurveyRepository.calculateTotalsByUserId(99L);
+
+        // then
+        assertThat(totals.getTotalSurveys().intValue()).isEqualTo(2);
+        assertThat(totals.getSuccessCount().intValue()).isEqualTo(1);
+        assertThat(totals.getStressSum().intValue()).isEqualTo(6);
+        assertThat(totals.getStressCount().intValue()).isEqualTo(2);
+        assertThat(totals.getCravingSum().intValue()).isEqualTo(4);
+        assertThat(totals.getCravingCount().intValue()).isEqualTo(1);
+        assertThat(empty.getTotalSurveys().intValue()).isZero();
+        assertThat(empty.getStressSum().intValue()).isZero();
+    }
+
+    @Test
+    @DisplayName("하루 한 번 설문 저장 - 같은 날 두 번째 INSERT 는 기존 행을 바꾸지 않고 첫 설문 유지")
+    void 하루_한번_설문_저장_테스트(){
+        // given
+        LocalDate today = LocalDate.now();
+        quitSurveyRepository.insertIfAbsent(1L, today, true, 2, "이유", 3, "메모", LocalDateTime.now());
+
+        // when (재시도 요청 - 내용이 달라도 무시)
+        quitSurveyRepository.insertIfAbsent(1L, today, false, 9, "이유", 9, "메모", LocalDateTime.now());
+        quitSurveyRepository.insertIfAbsent(2L, today, false, 1, "이유", 1, "메모", LocalDateTime.now());
+
+        // then
+        assertThat(quitSurveyRepository.findByUserId(1L)).hasSize(1);
+        assertThat(quitSurveyRepository.findByUserId(2L)).hasSize(1);
+        assertThat(quitSurveyRepository.findByUserIdAndSurveyDateForShare(1L, today))
+                .hasValueSatisfying(survey -> assertThat(survey.isSuccess()).isTrue());
+    }
+
+    @Test
+    @DisplayName("하루 한 번 설문 저장 - 중복 키가 아닌 오류(길이 초과)는 경고로 넘기지 않고 실패")
+    void 설문_저장_길이초과_실패(){
+        assertThatThrownBy(() -> quitSurveyRepository.insertIfAbsent(1L, LocalDate.now(), true, 2,
+                "가".repeat(1000), 3, "메모", LocalDateTime.now()))
+                .isInstanceOf(DataIntegrityViolationException.class);
+    }
+
+    @Test
+    @DisplayName("전체 기록 집계 쿼리 - 보관 테이블로 옮겨진 설문까지 합쳐서 계산")
+    void 보관_설문_포함_집계_테스트(){
+        // given (2년 전 성공 2일은 보관 테이블, 최근 성공 1일은 quit_survey)
+        LocalDateTime archivedAt = LocalDateTime.now().minusYears(2);
+        for (int i = 0; i < 2; i++) {
+            jdbcTemplate.update("INSERT INTO quit_survey_archive " +
+                            "(id, user_id, survey_date, is_success, stress_level, craving_level, created_at, modified_at) " +
+                            "VALUES (?, 1, ?, TRUE, 4, 2, ?, ?)",
+                    1000L + i, archivedAt.toLocalDate().plusDays(i), archivedAt.plusDays(i), archivedAt.plusDays(i));
+        }
+        quitSurveyRepository.save(new QuitSurvey(1L, true, 2, "이유", 2, "메모"));
+
+        // when
+        QuitSurveyTotalsDto totals = quitSurveyRepository.calculateTotalsByUserId(1L);
+        QuitStreakSummaryDto summary = quitSurveyRepository.summarizeStreakByUserId(1L);
+        List<CheckInDayDto> days = quitSurveyRepository.findCheckInDaysByUserId(1L);
+
+        // then
+        assertThat(totals.getTotalSurveys().intValue()).isEqualTo(3);
+        assertThat(totals.getStressSum().intValue()).isEqualTo(10);
+        assertThat(summary.getLongestStreak().intValue()).isEqualTo(3);
+        assertThat(days).hasSize(3);
+    }
 }
@@ -0,0 +1,49 @@
+package org.example.nosmoke.repository;
+
+import org.example.nosmoke.entity.SmokingInfo;
+import org.example.nosmoke.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+@DataJpaTest
+public class SmokingInfoRepositoryTest {
+
+    @Autowired
+    private SmokingInfoRepository smokingInfoRepository;
+
+    @Autowired
+    private UserRepository userRepository;
+
+    @Test
+    @DisplayName("흡연 정보 저장 - 두 번째 저장은 같은 행을 수정하고 금연 시작일은 유지")
+    void 흡연정보_upsert_테스트(){
+        // given
+        Long userId = userRepository.save(new User("홍길동", "test@test.com", "password", 0)).getId();
+        LocalDate quitStart = LocalDate.of(2026, 1, 1);
+        int inserted = smokingInfoRepository.upsert(userId, "말보로", 10, quitStart,
+                quitStart.plusDays(100), "건강", LocalDateTime.now());
+
+        // when (다시 저장 - 금연 시작일을 바꿔 보내도 처음 값 유지)
+        int updated = smokingInfoRepository.upsert(userId, "전자담배", 5, quitStart.plusDays(30),
+                quitStart.plusDays(200), "가족", LocalDateTime.now());
+        int unknownUser = smokingInfoRepository.upsert(userId + 1000, "말보로", 10, quitStart,
+                quitStart.plusDays(100), "건강", LocalDateTime.now());
+
+        // then
+        assertThat(inserted).isEqualTo(1);
+        assertThat(updated).isPositive();
+        assertThat(unknownUser).isZero();
+        assertThat(smokingInfoRepository.count()).isEqualTo(1);
+        SmokingInfo info = smokingInfoRepository.findByUserId(userId).orElseThrow();
+        assertThat(info.getCigaretteType()).isEqualTo("전자담배");
+        assertThat(info.getDailyConsumption()).isEqualTo(5);
+        assertThat(info.getQuitStartDate()).isEqualTo(quitStart);
+    }
+}
@@ -0,0 +1,90 @@
+package org.example.nosmoke.service.cache;
+
+import jakarta.persistence.Cache;
+import jakarta.persistence.EntityManagerFactory;
+import org.example.nosmoke.entity.SmokingInfo;
+import org.example.nosmoke.entity.User;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.connection.DefaultMessage;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+
+import java.nio.charset.StandardCharsets;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class EntityCacheInvalidatorTest {
+
+    @InjectMocks
+    private EntityCacheInvalidator entityCacheInvalidator;
+
+    @Mock private EntityManagerFactory entityManagerFactory;
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock private Cache cache;
+
+    private static DefaultMessage message(String body) {
+        return new DefaultMessage(
+                EntityCacheInvalidator.INVALIDATION_CHANNEL.getBytes(StandardCharsets.UTF_8),
+                body.getBytes(StandardCharsets.UTF_8));
+    }
+
+    @Test
+    @DisplayName("직접 바꾼 행 - 이 서버 캐시를 지우고 다른 서버에 알림 (트랜잭션 밖이면 바로)")
+    void 직접_변경_무효화_알림() {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(cache);
+
+        // when
+        entityCacheInvalidator.evictAfterCommit(User.class, 1L);
+
+        // then
+        verify(cache).evict(User.class, 1L);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(EntityCacheInvalidator.INVALIDATION_CHANNEL), captor.capture());
+        assertThat((String) captor.getValue()).endsWith("|U|User|1");
+    }
+
+    @Test
+    @DisplayName("무효화 수신 - 다른 서버가 보낸 메시지면 그 항목만 지움")
+    void 다른_서버_메시지_수신() {
+        // given
+        given(entityManagerFactory.getCache()).willReturn(cache);
+
+        // when
+        entityCacheInvalidator.onInvalidation(message("other-node|U|SmokingInfo|7"), null);
+
+        // then
+        verify(cache).evict(SmokingInfo.class, 7L);
+    }
+
+    @Test
+    @DisplayName("무효화 수신 - 자기가 보낸 메시지와 잘못된 메시지는 무시")
+    void 자기_메시지_무시() {
+        // given (자기가 보낸 메시지의 nodeId 를 얻기 위해 한 번 알림)
+        given(entityManagerFactory.getCache()).willReturn(cache);
+        entityCacheInvalidator.evictAfterCommit(User.class, 1L);
+        ArgumentCaptor<Object> captor = ArgumentCaptor.forClass(Object.class);
+        verify(redisTemplate).convertAndSend(eq(EntityCacheInvalidator.INVALIDATION_CHANNEL), captor.capture());
+
+        // when
+        entityCacheInvalidator.onInvalidation(message((String) captor.getValue()), null);
+        entityCacheInvalidator.onInvalidation(message("other-node|U|Unknown|1"), null);
+        entityCacheInvalidator.onInvalidation(message("other-node|U|User|abc"), null);
+
+        // then (처음 알릴 때 지운 한 번뿐)
+        verify(cache, times(1)).evict(any(), any());
+    }
+}
@@ -1,23 +1,22 @@
 package org.example.nosmoke.service.dashboard;
 
 import org.example.nosmoke.dto.dashboard.DashboardResponseDto;
-import org.example.nosmoke.dto.quitsurvey.QuitSurveyLightDto;
+import org.example.nosmoke.dto.dashboard.DashboardViewDto;
+import org.example.nosmoke.entity.QuitStreak;
 import org.example.nosmoke.entity.SmokingInfo;
 import org.example.nosmoke.entity.User;
-import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.QuitStreakRepository;
 import org.example.nosmoke.repository.SmokingInfoRepository;
 import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.quitsurvey.QuitStreakService;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.domain.Pageable;
 
 import java.time.LocalDate;
-import java.time.LocalDateTime;
-import java.util.List;
 import java.util.Optional;
 
 import static org.assertj.core.api.Assertions.assertThat;
@@ -25,6 +24,8 @@ import static org.assertj.core.api.Assertions.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
 import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
 class DashboardServiceTest {
@@ -34,7 +35,9 @@ class DashboardServiceTest {
 
     @Mock private UserRepository userRepository;
     @Mock private SmokingInfoRepository smokingInfoRepository;
-    @Mock private QuitSurveyRepository quitSurveyRepository;
+    @Mock private QuitStreakRepository quitStreakRepository;
+    @Mock private QuitStreakService quitStreakService;
+    @Mock private DashboardViewStore dashboardViewStore;
 
     // 1. 대시보드 조회
 
@@ -55,15 +58,10 @@ class DashboardServiceTest {
         SmokingInfo smokingInfo = new SmokingInfo(userId, "담배", 10, today.minusDays(10), today.plusDays(100), "목표");
         given(smokingInfoRepository.findByUserId(userId)).willReturn(Optional.of(smokingInfo));
 
-        // 설문 기록 (최신순 정렬 가정: 오늘(성공) -> 어제(성공) -> 2일전(실패))
-        // 스트릭(연속 성공)은 2일이어야 함
-        List<QuitSurveyLightDto> surveys = List.of(
-                new QuitSurveyLightDto(true, LocalDateTime.now()),               // 오늘 (성공)
-                new QuitSurveyLightDto(true, LocalDateTime.now().minusDays(1)),  // 어제 (성공)
-                new QuitSurveyLightDto(false, LocalDateTime.now().minusDays(2))  // 2일전 (실패) -> 여기서 끊김
-        );
-        given(quitSurveyRepository.findAllLightByUserId(eq(userId), any(Pageable.class)))
-                .willReturn(surveys);
+        // 스트릭 요약 (오늘(성공) -> 어제(성공) -> 2일전(실패) 까지 반영된 상태)
+        // 현재 스트릭 2, 최장 스트릭 5, 마지막 설문 오늘
+        QuitStreak streak = new QuitStreak(userId, 2, 5, 7, today);
+        given(quitStreakRepository.findById(userId)).willReturn(Optional.of(streak));
 
         // when
         DashboardResponseDto result = dashboardService.getDashboardInfo(userId);
@@ -76,12 +74,49 @@ class DashboardServiceTest {
 
         // 스트릭 검증 (오늘, 어제 성공 = 2)
         assertThat(result.getCurrentStreak()).isEqualTo(2);
+        assertThat(result.getLongestStreak()).isEqualTo(5);
 
         // 오늘 설문 여부 (오늘 날짜 데이터가 있으므로 true)
         assertThat(result.isHasSurveyedToday()).isTrue();
 
         // 유저 포인트 확인
         assertThat(result.getPoints()).isEqualTo(500);
+
+        // 조회 모델이 없었으므로 DB 에서 계산한 값을 Redis 에 저장
+        verify(dashboardViewStore).save(eq(userId), any(DashboardViewDto.class));
+    }
+
+    @Test
+    @DisplayName("대시보드 조회 - Redis 조회 모델이 있으면 DB 를 읽지 않고 날짜 값만 오늘 기준으로 계산")
+    void 대시보드_조회_조회모델_사용() {
+        // given
+        Long userId = 1L;
+        LocalDate today = LocalDate.now();
+
+        // 어제 저장된 조회 모델 (금연 시작 10일 전, 마지막 설문 어제)
+        DashboardViewDto view = DashboardViewDto.builder()
+                .points(300)
+                .quitStartDate(today.minusDays(10))
+                .dailyConsumption(10)
+                .currentStreak(3)
+                .longestStreak(4)
+                .lastSurveyDate(today.minusDays(1))
+                .build();
+        given(dashboardViewStore.find(userId)).willReturn(view);
+
+        // when
+        DashboardResponseDto result = dashboardService.getDashboardInfo(userId);
+
+        // then
+        assertThat(result.getQuitDays()).isEqualTo(10L);
+        assertThat(result.getSavedMoney()).isEqualTo(22500L);
+        assertThat(result.getCurrentStreak()).isEqualTo(3);
+        assertThat(result.getPoints()).isEqualTo(300);
+        // 어제 설문했으므로 오늘은 아직 안 함
+        assertThat(result.isHasSurveyedToday()).isFalse();
+
+        verify(userRepository, never()).findById(any());
+        verify(dashboardViewStore, never()).save(any(), any());
     }
 
     @Test
@@ -93,8 +128,9 @@ class DashboardServiceTest {
 
         given(userRepository.findById(userId)).willReturn(Optional.of(user));
         given(smokingInfoRepository.findByUserId(userId)).willReturn(Optional.empty()); // 정보 없음
-        given(quitSurveyRepository.findAllLightByUserId(eq(userId), any(Pageable.class)))
-                .willReturn(List.of()); // 설문도 없음
+        // 설문도 없음 --> 요약이 없어 새로 계산 (모두 0)
+        given(quitStreakRepository.findById(userId)).willReturn(Optional.empty());
+        given(quitStreakService.getOrRebuild(userId)).willReturn(new QuitStreak(userId, 0, 0, 0, null));
 
         // when
         DashboardResponseDto result = dashboardService.getDashboardInfo(userId);
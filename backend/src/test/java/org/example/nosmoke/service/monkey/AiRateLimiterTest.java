@@ -0,0 +1,71 @@
+package org.example.nosmoke.service.monkey;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.RedisConnectionFailureException;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.times;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class AiRateLimiterTest {
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+
+    private SimpleMeterRegistry meterRegistry;
+    private AiRateLimiter aiRateLimiter;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        aiRateLimiter = new AiRateLimiter(redisTemplate, meterRegistry);
+        ReflectionTestUtils.setField(aiRateLimiter, "enabled", true);
+        ReflectionTestUtils.setField(aiRateLimiter, "ratePerSecond", 10.0);
+        ReflectionTestUtils.setField(aiRateLimiter, "burst", 20);
+        aiRateLimiter.init();
+    }
+
+    @Test
+    @DisplayName("토큰 대기 - 다음 토큰까지 기다린 뒤 다시 요청하고 대기 시간 기록")
+    void 토큰_대기_후_허용() throws InterruptedException {
+        // given (첫 요청은 20ms 대기, 다음 요청은 허용)
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any())).willReturn(20L, 0L);
+
+        // when
+        aiRateLimiter.acquire();
+
+        // then
+        verify(redisTemplate, times(2)).execute(any(RedisScript.class), anyList(), any(), any());
+        assertThat(meterRegistry.timer("ai.limiter.wait").count()).isEqualTo(1);
+        assertThat(meterRegistry.timer("ai.limiter.wait").totalTime(TimeUnit.MILLISECONDS)).isGreaterThanOrEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("Redis 장애 - 이 서버 기본 rate 간격(100ms)으로 호출 시각 예약")
+    void 레디스_장애_로컬_간격() throws InterruptedException {
+        // given
+        given(redisTemplate.execute(any(RedisScript.class), anyList(), any(), any()))
+                .willThrow(new RedisConnectionFailureException("down"));
+
+        // when
+        aiRateLimiter.acquire();
+        long nextWait = aiRateLimiter.reserveLocal();
+
+        // then (첫 호출은 바로, 다음 호출은 약 100ms 뒤)
+        assertThat(nextWait).isBetween(TimeUnit.MILLISECONDS.toNanos(50), TimeUnit.MILLISECONDS.toNanos(100));
+    }
+}
@@ -0,0 +1,68 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import org.example.nosmoke.dto.dashboard.CheckInCalendarResponseDto;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+@ExtendWith(MockitoExtension.class)
+class CheckInCalendarServiceTest {
+
+    @InjectMocks
+    private CheckInCalendarService checkInCalendarService;
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private QuitSurveyRepository quitSurveyRepository;
+
+    @Test
+    @DisplayName("비트맵 변환 - Redis SETBIT 와 같은 비트 순서(바이트 최상위 비트부터)")
+    void 비트맵_날짜_변환() {
+        // given
+        byte[] bitmap = new byte[CheckInCalendarService.BITMAP_BYTES];
+        CheckInCalendarService.setBit(bitmap, 0); // 1월 1일
+        CheckInCalendarService.setBit(bitmap, 9); // 1월 10일
+        CheckInCalendarService.setBit(bitmap, 365); // 윤년 12월 31일
+
+        // when
+        List<LocalDate> dates = CheckInCalendarService.toDates(2024, bitmap);
+
+        // then
+        assertThat(bitmap[0]).isEqualTo((byte) 0x80);
+        assertThat(bitmap[1]).isEqualTo((byte) 0x40);
+        assertThat(dates).containsExactly(
+                LocalDate.of(2024, 1, 1), LocalDate.of(2024, 1, 10), LocalDate.of(2024, 12, 31));
+    }
+
+    @Test
+    @DisplayName("달력 조회 - 비트맵이 없으면 빈 달력")
+    void 달력_조회_기록없음() {
+        // given
+        int year = LocalDate.now().getYear();
+
+        // when (Redis 응답 없음)
+        CheckInCalendarResponseDto calendar = checkInCalendarService.getCalendar(1L, year);
+
+        // then
+        assertThat(calendar.getYear()).isEqualTo(year);
+        assertThat(calendar.getSurveyedDays()).isZero();
+        assertThat(calendar.getSuccessDates()).isEmpty();
+    }
+
+    @Test
+    @DisplayName("달력 조회 실패 - 범위를 벗어난 연도")
+    void 달력_조회_실패_연도() {
+        assertThatThrownBy(() -> checkInCalendarService.getCalendar(1L, 1999))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+}
@@ -0,0 +1,100 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import org.example.nosmoke.dto.quitsurvey.QuitStreakSummaryDto;
+import org.example.nosmoke.entity.QuitStreak;
+import org.example.nosmoke.repository.QuitStreakRepository;
+import org.example.nosmoke.repository.QuitSurveyArchiveRepository;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QuitStreakServiceTest {
+
+    @InjectMocks
+    private QuitStreakService quitStreakService;
+
+    @Mock private QuitStreakRepository quitStreakRepository;
+    @Mock private QuitSurveyRepository quitSurveyRepository;
+    @Mock private DashboardViewStore dashboardViewStore;
+    @Mock private QuitSurveyArchiveRepository quitSurveyArchiveRepository;
+
+    @Test
+    @DisplayName("요약이 있으면 설문 기록을 읽지 않고 한 행만 갱신")
+    void 설문_반영_증분_갱신() {
+        // given
+        Long userId = 1L;
+        LocalDate today = LocalDate.now();
+        QuitStreak streak = new QuitStreak(userId, 3, 3, 10, today.minusDays(1));
+        given(quitStreakRepository.findByUserIdForUpdate(userId)).willReturn(Optional.of(streak));
+
+        // when
+        quitStreakService.recordSurvey(userId, true, today);
+
+        // then
+        assertThat(streak.getCurrentStreak()).isEqualTo(4);
+        assertThat(streak.getLongestStreak()).isEqualTo(4);
+        assertThat(streak.getTotalSuccesses()).isEqualTo(11);
+        assertThat(streak.getLastSurveyDate()).isEqualTo(today);
+        verify(quitSurveyRepository, never()).summarizeStreakByUserId(any());
+    }
+
+    @Test
+    @DisplayName("실패 설문이면 현재 스트릭만 초기화, 최장 스트릭은 유지")
+    void 실패시_현재_스트릭_초기화() {
+        // given
+        Long userId = 1L;
+        QuitStreak streak = new QuitStreak(userId, 5, 7, 20, LocalDate.now().minusDays(1));
+        given(quitStreakRepository.findByUserIdForUpdate(userId)).willReturn(Optional.of(streak));
+
+        // when
+        quitStreakService.recordSurvey(userId, false, LocalDate.now());
+
+        // then
+        assertThat(streak.getCurrentStreak()).isZero();
+        assertThat(streak.getLongestStreak()).isEqualTo(7);
+        assertThat(streak.getTotalSuccesses()).isEqualTo(20);
+    }
+
+    @Test
+    @DisplayName("요약이 없으면 DB 집계 결과로 계산해 저장")
+    void 요약_없으면_집계_쿼리로_계산() {
+        // given
+        Long userId = 1L;
+        LocalDateTime lastCreatedAt = LocalDateTime.now();
+        QuitStreakSummaryDto summary = mock(QuitStreakSummaryDto.class);
+        given(summary.getCurrentStreak()).willReturn(1L);
+        given(summary.getLongestStreak()).willReturn(2L);
+        given(summary.getTotalSuccesses()).willReturn(3L);
+
+        given(quitStreakRepository.findByUserIdForUpdate(userId)).willReturn(Optional.empty());
+        given(quitSurveyRepository.summarizeStreakByUserId(userId)).willReturn(summary);
+        given(quitSurveyRepository.findLastCreatedAtByUserId(userId)).willReturn(lastCreatedAt);
+        given(quitStreakRepository.save(any(QuitStreak.class))).willAnswer(invocation -> invocation.getArgument(0));
+
+        // when
+        QuitStreak result = quitStreakService.rebuild(userId);
+
+        // then
+        assertThat(result.getCurrentStreak()).isEqualTo(1);
+        assertThat(result.getLongestStreak()).isEqualTo(2);
+        assertThat(result.getTotalSuccesses()).isEqualTo(3);
+        assertThat(result.getLastSurveyDate()).isEqualTo(lastCreatedAt.toLocalDate());
+    }
+}
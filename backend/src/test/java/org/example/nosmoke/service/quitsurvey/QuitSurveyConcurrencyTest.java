@@ -0,0 +1,96 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyRequestDto;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.data.redis.connection.RedisConnectionFactory;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.test.context.bean.override.mockito.MockitoBean;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.BDDMockito.willAnswer;
+
+// 같은 날 설문 저장 요청 두 개가 동시에 들어오는 경우 (앱의 재시도)
+// 실제 트랜잭션 두 개를 서로 다른 스레드에서 실행 - 테스트 트랜잭션으로 감싸지 않고 끝난 뒤 직접 정리
+@SpringBootTest(properties = "spring.data.redis.repositories.enabled=false")
+class QuitSurveyConcurrencyTest {
+
+    @Autowired private QuitSurveyService quitSurveyService;
+    @Autowired private QuitSurveyRepository quitSurveyRepository;
+    @Autowired private UserRepository userRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @MockitoBean private RedisTemplate<String, Object> redisTemplate;
+    @MockitoBean private RedisConnectionFactory redisConnectionFactory;
+    @MockitoBean private DashboardViewStore dashboardViewStore;
+    @MockitoBean private CheckInCalendarService checkInCalendarService;
+
+    private Long userId;
+
+    @AfterEach
+    void tearDown() {
+        if (userId == null) {
+            return;
+        }
+        for (String table : new String[]{"quit_survey", "quit_streak", "quit_survey_stats", "point_transaction"}) {
+            jdbcTemplate.update("DELETE FROM " + table + " WHERE user_id = ?", userId);
+        }
+        jdbcTemplate.update("DELETE FROM users WHERE id = ?", userId);
+    }
+
+    @Test
+    @DisplayName("동시 재시도 - 첫 요청이 커밋하기 전에 들어온 재시도는 기다렸다가 같은 설문을 반환, 포인트는 한 번만")
+    void 동시_재시도_요청() throws Exception {
+        // given
+        userId = userRepository.save(new User("동시요청", "concurrent@nosmoke.com", "password", 0)).getId();
+        QuitSurveyRequestDto request = new QuitSurveyRequestDto(true, 3, "", 2, "");
+
+        // 첫 요청은 설문 INSERT 후 (커밋 전) 멈춰 있음
+        CountDownLatch firstInserted = new CountDownLatch(1);
+        CountDownLatch releaseFirst = new CountDownLatch(1);
+        willAnswer(invocation -> {
+            firstInserted.countDown();
+            releaseFirst.await(5, TimeUnit.SECONDS);
+            return null;
+        }).given(dashboardViewStore).evictAfterCommit(userId);
+
+        ExecutorService executor = Executors.newFixedThreadPool(2);
+        try {
+            // when
+            Future<QuitSurvey> first = executor.submit(() -> quitSurveyService.saveSurvey(userId, request));
+            assertThat(firstInserted.await(5, TimeUnit.SECONDS)).isTrue();
+
+            Future<QuitSurvey> retry = executor.submit(() -> quitSurveyService.saveSurvey(userId, request));
+            // 재시도 요청은 사용자 행 잠금에서 대기
+            Thread.sleep(300);
+            assertThat(retry.isDone()).isFalse();
+            releaseFirst.countDown();
+
+            QuitSurvey saved = first.get(10, TimeUnit.SECONDS);
+            QuitSurvey retried = retry.get(10, TimeUnit.SECONDS);
+
+            // then
+            assertThat(retried.getId()).isEqualTo(saved.getId());
+            assertThat(quitSurveyRepository.findByUserId(userId)).hasSize(1);
+            assertThat(userRepository.findPointById(userId)).hasValue(10);
+        } finally {
+            releaseFirst.countDown();
+            executor.shutdownNow();
+        }
+    }
+}
@@ -0,0 +1,107 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyPartitionDto;
+import org.example.nosmoke.entity.RollupWatermark;
+import org.example.nosmoke.repository.QuitSurveyPartitionRepository;
+import org.example.nosmoke.repository.RollupWatermarkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QuitSurveyPartitionServiceTest {
+
+    @InjectMocks
+    private QuitSurveyPartitionService quitSurveyPartitionService;
+
+    @Mock private QuitSurveyPartitionRepository quitSurveyPartitionRepository;
+    @Mock private RollupWatermarkRepository rollupWatermarkRepository;
+
+    private static final List<QuitSurveyPartitionDto> PARTITIONS = List.of(
+            new QuitSurveyPartitionDto("p_history", LocalDate.of(2026, 1, 1)),
+            new QuitSurveyPartitionDto("p202601", LocalDate.of(2026, 2, 1)),
+            new QuitSurveyPartitionDto("p202612", LocalDate.of(2027, 1, 1)),
+            new QuitSurveyPartitionDto("pmax", null)
+    );
+
+    @Test
+    @DisplayName("미래 파티션 - 이번 달부터 monthsAhead 개월 뒤까지 없는 달만 pmax 를 잘라 추가")
+    void 미래_파티션_추가() {
+        // given
+        given(quitSurveyPartitionRepository.findPartitions()).willReturn(PARTITIONS);
+
+        // when (2026-11 + 3개월 = 2027-02 까지 필요, 2026-12 까지 있음)
+        int created = quitSurveyPartitionService.createFuturePartitions(LocalDate.of(2026, 11, 15), 3);
+
+        // then
+        assertThat(created).isEqualTo(2);
+        verify(quitSurveyPartitionRepository).splitMaxPartition("p202701", LocalDate.of(2027, 2, 1));
+        verify(quitSurveyPartitionRepository).splitMaxPartition("p202702", LocalDate.of(2027, 3, 1));
+    }
+
+    @Test
+    @DisplayName("보관 대상 - 모든 설문이 기준일 전인 파티션만 (pmax 제외)")
+    void 보관_대상_파티션() {
+        // given
+        given(quitSurveyPartitionRepository.findPartitions()).willReturn(PARTITIONS);
+
+        // when
+        List<String> expired = quitSurveyPartitionService.findExpiredPartitions(LocalDate.of(2026, 2, 1));
+
+        // then
+        assertThat(expired).containsExactly("p_history", "p202601");
+    }
+
+    @Test
+    @DisplayName("보관 - 나눠서 복사한 뒤, 그 사이 달라진 설문까지 옮기고 파티션 삭제")
+    void 파티션_보관() {
+        // given
+        given(quitSurveyPartitionRepository.findMaxId("p_history")).willReturn(250L);
+        given(rollupWatermarkRepository.findById(QuitSurveyRollupService.WATERMARK))
+                .willReturn(Optional.of(new RollupWatermark(QuitSurveyRollupService.WATERMARK, 300L)));
+        given(quitSurveyPartitionRepository.findBatchEndId("p_history", 0L, 100)).willReturn(180L);
+        given(quitSurveyPartitionRepository.findBatchEndId("p_history", 180L, 100)).willReturn(250L);
+        given(quitSurveyPartitionRepository.findBatchEndId("p_history", 250L, 100)).willReturn(null);
+        given(quitSurveyPartitionRepository.copyToArchive("p_history", 0L, 180L)).willReturn(100);
+        given(quitSurveyPartitionRepository.copyToArchive("p_history", 180L, 250L)).willReturn(40);
+        // 복사하는 동안 들어온 설문 2건은 잠금 안에서 옮긴 뒤 삭제
+        given(quitSurveyPartitionRepository.copyChangedAndDropPartition("p_history")).willReturn(2);
+
+        // when
+        long copied = quitSurveyPartitionService.archivePartition("p_history", 100);
+
+        // then
+        assertThat(copied).isEqualTo(142);
+        verify(quitSurveyPartitionRepository).copyChangedAndDropPartition("p_history");
+    }
+
+    @Test
+    @DisplayName("보관 실패 - 주간 / 월간 집계가 아직 읽지 않은 설문이 있으면 옮기지 않음")
+    void 파티션_보관_실패_집계전() {
+        // given
+        given(quitSurveyPartitionRepository.findMaxId("p_history")).willReturn(500L);
+        given(rollupWatermarkRepository.findById(QuitSurveyRollupService.WATERMARK))
+                .willReturn(Optional.of(new RollupWatermark(QuitSurveyRollupService.WATERMARK, 300L)));
+
+        // when & then
+        assertThatThrownBy(() -> quitSurveyPartitionService.archivePartition("p_history", 100))
+                .isInstanceOf(IllegalStateException.class);
+        verify(quitSurveyPartitionRepository, never()).copyToArchive(any(), anyLong(), anyLong());
+        verify(quitSurveyPartitionRepository, never()).copyChangedAndDropPartition(any());
+    }
+}
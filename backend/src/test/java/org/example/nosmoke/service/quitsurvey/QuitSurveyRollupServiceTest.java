@@ -0,0 +1,122 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyRollupRowDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTrendResponseDto;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.QuitSurveyRollup;
+import org.example.nosmoke.entity.RollupWatermark;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.QuitSurveyRollupRepository;
+import org.example.nosmoke.repository.RollupWatermarkRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyLong;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QuitSurveyRollupServiceTest {
+
+    @InjectMocks
+    private QuitSurveyRollupService quitSurveyRollupService;
+
+    @Mock private QuitSurveyRepository quitSurveyRepository;
+    @Mock private QuitSurveyRollupRepository quitSurveyRollupRepository;
+    @Mock private RollupWatermarkRepository rollupWatermarkRepository;
+
+    @Test
+    @DisplayName("집계 - 워터마크 이후 설문을 주 / 월별로 합산해 기간당 한 번씩 반영하고 워터마크 이동")
+    void 워터마크_이후_설문_집계() {
+        // given
+        RollupWatermark watermark = new RollupWatermark(QuitSurveyRollupService.WATERMARK, 100L);
+        given(rollupWatermarkRepository.findByNameForUpdate(QuitSurveyRollupService.WATERMARK)).willReturn(Optional.of(watermark));
+        LocalDateTime settledBefore = LocalDateTime.now();
+        given(quitSurveyRepository.findMaxIdSettledBefore(100L, settledBefore)).willReturn(102L);
+
+        // 2024-05-06(월), 2024-05-07(화) - 같은 주 / 같은 달
+        List<QuitSurveyRollupRowDto> rows = List.of(
+                row(null, LocalDate.of(2024, 5, 6), true, 4, 2),
+                row(102L, LocalDate.of(2024, 5, 7), false, 8, null));
+        given(quitSurveyRepository.findRollupRows(eq(100L), eq(102L), any(Pageable.class))).willReturn(rows);
+        // 주간 행은 이미 있고, 월간 행은 처음
+        given(quitSurveyRollupRepository.addDelta(eq(1L), eq(QuitSurveyRollup.Period.WEEK), eq(LocalDate.of(2024, 5, 6)),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong())).willReturn(1);
+        given(quitSurveyRollupRepository.addDelta(eq(1L), eq(QuitSurveyRollup.Period.MONTH), eq(LocalDate.of(2024, 5, 1)),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong())).willReturn(0);
+
+        // when
+        int processed = quitSurveyRollupService.rollupNextBatch(1000, settledBefore);
+
+        // then
+        assertThat(processed).isEqualTo(2);
+        assertThat(watermark.getLastId()).isEqualTo(102L);
+        // 두 설문 합산 (2건, 성공 1, 스트레스 12/2, 충동 2/1)
+        verify(quitSurveyRollupRepository).addDelta(1L, QuitSurveyRollup.Period.WEEK, LocalDate.of(2024, 5, 6), 2, 1, 12, 2, 2, 1);
+        verify(quitSurveyRollupRepository).save(any(QuitSurveyRollup.class));
+    }
+
+    @Test
+    @DisplayName("설문 수정 - 아직 집계 전인 설문이면 집계 테이블을 건드리지 않음")
+    void 설문_수정_집계전() {
+        // given
+        given(rollupWatermarkRepository.findByNameForShare(QuitSurveyRollupService.WATERMARK))
+                .willReturn(Optional.of(new RollupWatermark(QuitSurveyRollupService.WATERMARK, 100L)));
+        QuitSurvey edited = new QuitSurvey(1L, LocalDate.now(), true, 3, "", 3, "");
+        ReflectionTestUtils.setField(edited, "id", 150L);
+
+        // when
+        quitSurveyRollupService.recordEdit(edited, false, 8, 8);
+
+        // then
+        verify(quitSurveyRollupRepository, never()).addDelta(any(), any(), any(),
+                anyLong(), anyLong(), anyLong(), anyLong(), anyLong(), anyLong());
+        // 수정은 공유 잠금만 - 배타 잠금은 집계 작업 전용
+        verify(rollupWatermarkRepository, never()).findByNameForUpdate(any());
+    }
+
+    @Test
+    @DisplayName("추이 조회 - 설문이 없던 기간은 0 으로 채워 요청한 기간 수만큼 반환")
+    void 추이_조회_빈기간_채움() {
+        // given
+        given(quitSurveyRollupRepository.findByUserIdAndPeriodTypeAndPeriodStartGreaterThanEqualOrderByPeriodStartAsc(
+                eq(1L), eq(QuitSurveyRollup.Period.MONTH), any())).willReturn(List.of());
+
+        // when
+        QuitSurveyTrendResponseDto trend = quitSurveyRollupService.getTrend(1L, QuitSurveyRollup.Period.MONTH, 6);
+
+        // then
+        assertThat(trend.getPoints()).hasSize(6);
+        assertThat(trend.getPoints().get(5).getPeriodStart()).isEqualTo(LocalDate.now().withDayOfMonth(1));
+        assertThat(trend.getPoints()).allSatisfy(point -> assertThat(point.getTotalSurveys()).isZero());
+    }
+
+    private static QuitSurveyRollupRowDto row(Long id, LocalDate day, boolean success, Integer stress, Integer craving) {
+        QuitSurveyRollupRowDto row = mock(QuitSurveyRollupRowDto.class);
+        if (id != null) { // 워터마크는 마지막 설문 id 만 읽음
+            given(row.getId()).willReturn(id);
+        }
+        given(row.getUserId()).willReturn(1L);
+        given(row.getSurveyDate()).willReturn(day);
+        given(row.getSuccess()).willReturn(success);
+        given(row.getStressLevel()).willReturn(stress);
+        given(row.getCravingLevel()).willReturn(craving);
+        return row;
+    }
+}
@@ -1,18 +1,37 @@
 package org.example.nosmoke.service.quitsurvey;
 
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportItemDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportRequestDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyImportResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyPageResponseDto;
 import org.example.nosmoke.dto.quitsurvey.QuitSurveyRequestDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyUpdateRequestDto;
+import org.example.nosmoke.entity.PointTransaction;
 import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.QuitSurveyArchive;
 import org.example.nosmoke.entity.User;
+import org.example.nosmoke.repository.QuitSurveyArchiveRepository;
+import org.example.nosmoke.repository.QuitSurveyBatchRepository;
 import org.example.nosmoke.repository.QuitSurveyRepository;
 import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
 import org.example.nosmoke.service.user.UserService;
+import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.beans.BeanUtils;
+import org.springframework.data.domain.Pageable;
+import org.springframework.test.util.ReflectionTestUtils;
 
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.Optional;
 
@@ -39,6 +58,37 @@ class QuitSurveyServiceTest {
     @Mock
     private UserService userService; // 포인트 지급 확인용
 
+    @Mock
+    private QuitStreakService quitStreakService; // 스트릭 요약 갱신 확인용
+
+    @Mock
+    private DashboardViewStore dashboardViewStore; // 대시보드 조회 모델 삭제 확인용
+
+    @Mock
+    private CheckInCalendarService checkInCalendarService; // 체크인 달력 기록 확인용
+
+    @Mock
+    private QuitSurveyStatsService quitSurveyStatsService; // 설문 통계 누적값 갱신 확인용
+
+    @Mock
+    private QuitSurveyBatchRepository quitSurveyBatchRepository; // 일괄 등록 배치 INSERT 확인용
+
+    @Mock
+    private QuitSurveyRollupService quitSurveyRollupService; // 주간 / 월간 집계 보정 확인용
+
+    @Mock
+    private QuitSurveyArchiveRepository quitSurveyArchiveRepository; // 보관된 설문 조회용
+
+    @BeforeEach
+    void setUp() {
+        ReflectionTestUtils.setField(quitSurveyService, "importMaxDaysBack", 30);
+        ReflectionTestUtils.setField(quitSurveyService, "retentionMonths", 24);
+    }
+
+    private static User testUser() {
+        return new User("테스터", "test@nosmoke.com", "password", 0);
+    }
+
     // 1. 설문 저장 (Save)
 
     @Test
@@ -51,21 +101,33 @@ class QuitSurveyServiceTest {
                 true, 5, "스트레스 원인", 3, "메모"
         );
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(new User()));
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(testUser()));
 
-        // 저장 시 Entity 반환 설정
-        given(quitSurveyRepository.save(any(QuitSurvey.class))).willAnswer(invocation -> {
-            return (QuitSurvey) invocation.getArgument(0);
-        });
+        // 오늘 첫 설문 -> 기존 설문 없음, INSERT 후 저장된 설문 조회
+        given(quitSurveyRepository.findByUserIdAndSurveyDateForShare(userId, LocalDate.now()))
+                .willReturn(Optional.empty(), Optional.of(new QuitSurvey(userId, true, 5, "스트레스 원인", 3, "메모")));
 
         // when
         QuitSurvey result = quitSurveyService.saveSurvey(userId, request);
 
         // then
         assertThat(result.isSuccess()).isTrue();
+        verify(quitSurveyRepository).insertIfAbsent(eq(userId), eq(LocalDate.now()), eq(true), eq(5), eq("스트레스 원인"), eq(3), eq("메모"), any());
+
+        // [중요] 금연 성공했으므로 addPoints(userId, 10, SURVEY_SUCCESS)이 한 번 호출되어야 함
+        verify(userService).addPoints(eq(userId), eq(10), eq(PointTransaction.Reason.SURVEY_SUCCESS));
 
-        // [중요] 금연 성공했으므로 addPoints(userId, 10)이 한 번 호출되어야 함
-        verify(userService).addPoints(eq(userId), eq(10));
+        // 스트릭 요약도 같은 트랜잭션에서 갱신
+        verify(quitStreakService).recordSurvey(eq(userId), eq(true), any(LocalDate.class));
+
+        // 설문 통계 누적값도 같은 트랜잭션에서 갱신
+        verify(quitSurveyStatsService).recordSurvey(eq(userId), any(QuitSurvey.class));
+
+        // 커밋 후 대시보드 조회 모델 삭제 예약
+        verify(dashboardViewStore).evictAfterCommit(userId);
+
+        // 커밋 후 체크인 달력에 오늘 비트 기록 예약
+        verify(checkInCalendarService).recordAfterCommit(eq(userId), eq(LocalDate.now()), eq(true));
     }
 
     @Test
@@ -78,8 +140,9 @@ class QuitSurveyServiceTest {
                 false, 9, "회식", 8, "힘들었다"
         );
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(new User()));
-        given(quitSurveyRepository.save(any(QuitSurvey.class))).willAnswer(invocation -> invocation.getArgument(0));
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(testUser()));
+        given(quitSurveyRepository.findByUserIdAndSurveyDateForShare(userId, LocalDate.now()))
+                .willReturn(Optional.empty(), Optional.of(new QuitSurvey(userId, false, 9, "회식", 8, "힘들었다")));
 
         // when
         QuitSurvey result = quitSurveyService.saveSurvey(userId, request);
@@ -88,7 +151,31 @@ class QuitSurveyServiceTest {
         assertThat(result.isSuccess()).isFalse();
 
         // 실패했으므로 addPoints는 절대로 호출되면 안 됨 --> never()
-        verify(userService, never()).addPoints(any(), any(Integer.class));
+        verify(userService, never()).addPoints(any(), any(Integer.class), any());
+    }
+
+    @Test
+    @DisplayName("설문 저장 - 같은 날 재시도 요청은 기존 설문 반환, 포인트 / 스트릭 / 통계 반영 없음")
+    void 설문_저장_재시도_무시() {
+        // given
+        Long userId = 1L;
+        QuitSurveyRequestDto request = new QuitSurveyRequestDto(true, 5, "스트레스 원인", 3, "메모");
+        QuitSurvey existing = new QuitSurvey(userId, true, 5, "스트레스 원인", 3, "메모");
+
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(testUser()));
+        // 오늘 설문이 이미 있음 (잠금 읽기)
+        given(quitSurveyRepository.findByUserIdAndSurveyDateForShare(userId, LocalDate.now())).willReturn(Optional.of(existing));
+
+        // when
+        QuitSurvey result = quitSurveyService.saveSurvey(userId, request);
+
+        // then
+        assertThat(result).isSameAs(existing);
+        verify(quitSurveyRepository, never()).insertIfAbsent(any(), any(), any(Boolean.class), any(), any(), any(), any(), any());
+        verify(userService, never()).addPoints(any(), any(Integer.class), any());
+        verify(quitStreakService, never()).recordSurvey(any(), any(Boolean.class), any());
+        verify(quitSurveyStatsService, never()).recordSurvey(any(), any());
+        verify(checkInCalendarService, never()).recordAfterCommit(any(), any(), any(Boolean.class));
     }
 
     @Test
@@ -98,7 +185,7 @@ class QuitSurveyServiceTest {
         Long userId = 999L;
         QuitSurveyRequestDto request = new QuitSurveyRequestDto(true, 1, "", 1, "");
 
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.empty());
 
         // when & then
         assertThatThrownBy(() -> quitSurveyService.saveSurvey(userId, request))
@@ -106,25 +193,311 @@ class QuitSurveyServiceTest {
                 .hasMessageContaining("해당 사용자를 찾을 수 없습니다");
     }
 
-    // 2. 설문 목록 조회
+    // 2. 설문 일괄 등록
 
     @Test
-    @DisplayName("설문 목록 조회 성공")
+    @DisplayName("설문 일괄 등록 - 이미 있는 날짜는 건너뛰고, 스트릭 / 통계 / 포인트는 한 번씩만 갱신")
+    void 설문_일괄_등록_성공() {
+        // given
+        Long userId = 1L;
+        LocalDate day1 = LocalDate.now().minusDays(3);
+        LocalDate day2 = LocalDate.now().minusDays(2);
+        LocalDate day3 = LocalDate.now().minusDays(1);
+        QuitSurveyImportRequestDto request = new QuitSurveyImportRequestDto(List.of(
+                new QuitSurveyImportItemDto(day1, true, 3, "", 3, ""),
+                new QuitSurveyImportItemDto(day2, true, 3, "", 3, ""),
+                new QuitSurveyImportItemDto(day3, false, 7, "", 8, "")
+        ));
+
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(testUser()));
+        // day2 는 이미 설문이 있음
+        given(quitSurveyRepository.findSurveyDatesBetween(userId, day1, day3)).willReturn(List.of(day2));
+
+        // when
+        QuitSurveyImportResponseDto result = quitSurveyService.importSurveys(userId, request);
+
+        // then
+        assertThat(result.getImported()).isEqualTo(2);
+        assertThat(result.getSkipped()).isEqualTo(1);
+        assertThat(result.getPointsEarned()).isEqualTo(10);
+
+        ArgumentCaptor<List<QuitSurvey>> captor = ArgumentCaptor.forClass(List.class);
+        verify(quitSurveyBatchRepository).insertAll(captor.capture());
+        assertThat(captor.getValue()).extracting(QuitSurvey::getSurveyDate).containsExactly(day1, day3);
+
+        verify(quitStreakService).rebuild(userId);
+        verify(quitSurveyStatsService).recordSurveys(userId, captor.getValue());
+        verify(userService).addPoints(userId, 10, PointTransaction.Reason.SURVEY_SUCCESS);
+        verify(checkInCalendarService).recordAllAfterCommit(userId, captor.getValue());
+    }
+
+    @Test
+    @DisplayName("설문 일괄 등록 실패 - 오프라인 기록 기간(30일)보다 오래된 날짜 / 가입일 이전 날짜")
+    void 설문_일괄_등록_실패_과거날짜() {
+        // given
+        Long userId = 1L;
+        User user = testUser();
+        ReflectionTestUtils.setField(user, "createdAt", LocalDate.now().minusDays(5).atStartOfDay());
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(user));
+
+        QuitSurveyImportRequestDto tooOld = new QuitSurveyImportRequestDto(List.of(
+                new QuitSurveyImportItemDto(LocalDate.now().minusDays(31), true, 3, "", 3, "")));
+        QuitSurveyImportRequestDto beforeSignUp = new QuitSurveyImportRequestDto(List.of(
+                new QuitSurveyImportItemDto(LocalDate.now().minusDays(6), true, 3, "", 3, ""),
+                new QuitSurveyImportItemDto(LocalDate.now().minusDays(5), true, 3, "", 3, "")));
+
+        // when & then
+        assertThatThrownBy(() -> quitSurveyService.importSurveys(userId, tooOld))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("최근 30일 이내의 설문만 등록할 수 있습니다.");
+        assertThatThrownBy(() -> quitSurveyService.importSurveys(userId, beforeSignUp))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("가입일 이전의 설문은 등록할 수 없습니다.");
+        verify(quitSurveyBatchRepository, never()).insertAll(any());
+        verify(userService, never()).addPoints(any(), any(Integer.class), any());
+    }
+
+    @Test
+    @DisplayName("설문 일괄 등록 실패 - 날짜 순서가 뒤바뀐 요청")
+    void 설문_일괄_등록_실패_날짜순서() {
+        // given
+        Long userId = 1L;
+        QuitSurveyImportRequestDto request = new QuitSurveyImportRequestDto(List.of(
+                new QuitSurveyImportItemDto(LocalDate.now().minusDays(1), true, 3, "", 3, ""),
+                new QuitSurveyImportItemDto(LocalDate.now().minusDays(2), true, 3, "", 3, "")
+        ));
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(testUser()));
+
+        // when & then
+        assertThatThrownBy(() -> quitSurveyService.importSurveys(userId, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("설문 날짜는 오래된 순서로 중복 없이 보내야 합니다.");
+        verify(quitSurveyBatchRepository, never()).insertAll(any());
+    }
+
+    @Test
+    @DisplayName("설문 일괄 등록 실패 - 보관 기간이 지난 날짜 (보관 테이블과의 중복 확인 불가)")
+    void 설문_일괄_등록_실패_보관기간() {
+        // given
+        Long userId = 1L;
+        ReflectionTestUtils.setField(quitSurveyService, "importMaxDaysBack", 400);
+        ReflectionTestUtils.setField(quitSurveyService, "retentionMonths", 1);
+        LocalDate cutoff = LocalDate.now().withDayOfMonth(1).minusMonths(1);
+        QuitSurveyImportRequestDto request = new QuitSurveyImportRequestDto(List.of(
+                new QuitSurveyImportItemDto(cutoff.minusDays(1), true, 3, "", 3, ""),
+                new QuitSurveyImportItemDto(cutoff, true, 3, "", 3, "")
+        ));
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(testUser()));
+
+        // when & then
+        assertThatThrownBy(() -> quitSurveyService.importSurveys(userId, request))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("보관 기간이 지난 날짜의 설문은 등록할 수 없습니다.");
+        verify(quitSurveyRepository, never()).findSurveyDatesBetween(any(), any(), any());
+        verify(quitSurveyBatchRepository, never()).insertAll(any());
+    }
+
+    // 3. 설문 수정
+
+    @Test
+    @DisplayName("설문 수정 성공 - 성공 여부가 바뀌면 통계 보정 + 스트릭 재계산")
+    void 설문_수정_성공() {
+        // given
+        Long userId = 1L;
+        Long surveyId = 10L;
+        QuitSurvey survey = new QuitSurvey(userId, false, 8, "회식", 9, "");
+        ReflectionTestUtils.setField(survey, "createdAt", LocalDateTime.now());
+        given(quitSurveyRepository.findById(surveyId)).willReturn(Optional.of(survey));
+        given(quitSurveyRepository.existsSuccessOnDate(userId, LocalDate.now())).willReturn(true);
+
+        QuitSurveyUpdateRequestDto requestDto = new QuitSurveyUpdateRequestDto(true, 3, "회식", 4, "참았음");
+
+        // when
+        quitSurveyService.updateSurvey(userId, surveyId, requestDto);
+
+        // then
+        assertThat(survey.isSuccess()).isTrue();
+        assertThat(survey.getStressLevel()).isEqualTo(3);
+        // 수정 전 값(실패, 8, 9)을 넘겨 차이만큼 보정
+        verify(quitSurveyStatsService).recordEdit(userId, false, 8, 9, survey);
+        verify(quitSurveyRollupService).recordEdit(survey, false, 8, 9);
+        verify(quitStreakService).rebuild(userId);
+        verify(checkInCalendarService).setSuccessAfterCommit(userId, LocalDate.now(), true);
+        verify(dashboardViewStore).evictAfterCommit(userId);
+    }
+
+    @Test
+    @DisplayName("설문 수정 성공 - 한꺼번에 올린 지난 설문은 작성일이 아닌 설문 날짜의 달력 비트를 고침")
+    void 설문_수정_성공_지난설문() {
+        // given
+        Long userId = 1L;
+        Long surveyId = 10L;
+        LocalDate surveyDate = LocalDate.now().minusDays(3);
+        QuitSurvey survey = new QuitSurvey(userId, surveyDate, false, 8, "회식", 9, "");
+        ReflectionTestUtils.setField(survey, "createdAt", LocalDateTime.now());
+        given(quitSurveyRepository.findById(surveyId)).willReturn(Optional.of(survey));
+        given(quitSurveyRepository.existsSuccessOnDate(userId, surveyDate)).willReturn(true);
+
+        QuitSurveyUpdateRequestDto requestDto = new QuitSurveyUpdateRequestDto(true, 3, "회식", 4, "참았음");
+
+        // when
+        quitSurveyService.updateSurvey(userId, surveyId, requestDto);
+
+        // then
+        verify(checkInCalendarService).setSuccessAfterCommit(userId, surveyDate, true);
+        verify(quitSurveyRepository, never()).existsSuccessOnDate(userId, LocalDate.now());
+    }
+
+    @Test
+    @DisplayName("설문 수정 실패 - 다른 사용자의 설문")
+    void 설문_수정_실패_다른사용자() {
+        // given
+        QuitSurvey survey = new QuitSurvey(2L, true, 1, "", 1, "");
+        given(quitSurveyRepository.findById(10L)).willReturn(Optional.of(survey));
+        QuitSurveyUpdateRequestDto requestDto = new QuitSurveyUpdateRequestDto(false, 1, "", 1, "");
+
+        // when & then
+        assertThatThrownBy(() -> quitSurveyService.updateSurvey(1L, 10L, requestDto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("본인의 설문만 수정할 수 있습니다.");
+        verify(quitSurveyStatsService, never()).recordEdit(any(), any(Boolean.class), any(), any(), any());
+    }
+
+    @Test
+    @DisplayName("설문 수정 실패 - 보관 기간이 지난 설문 (보관 테이블로 옮기는 중)")
+    void 설문_수정_실패_보관기간() {
+        // given
+        QuitSurvey survey = new QuitSurvey(1L, LocalDate.now().minusMonths(25), true, 1, "", 1, "");
+        given(quitSurveyRepository.findById(10L)).willReturn(Optional.of(survey));
+        QuitSurveyUpdateRequestDto requestDto = new QuitSurveyUpdateRequestDto(false, 1, "", 1, "");
+
+        // when & then
+        assertThatThrownBy(() -> quitSurveyService.updateSurvey(1L, 10L, requestDto))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("보관 기간이 지난 설문은 수정할 수 없습니다.");
+        assertThat(survey.isSuccess()).isTrue();
+        verify(quitSurveyStatsService, never()).recordEdit(any(), any(Boolean.class), any(), any(), any());
+    }
+
+    // 4. 설문 목록 조회
+
+    @Test
+    @DisplayName("설문 목록 조회 성공 - 한 개 더 읽어 다음 페이지 커서 생성")
     void 설문_목록_조회_성공() {
         // given
         Long userId = 1L;
         QuitSurvey survey1 = new QuitSurvey(userId, true, 1, "", 1, "");
         QuitSurvey survey2 = new QuitSurvey(userId, false, 5, "", 5, "");
+        QuitSurvey survey3 = new QuitSurvey(userId, true, 3, "", 3, "");
+        ReflectionTestUtils.setField(survey2, "id", 2L);
+        ReflectionTestUtils.setField(survey2, "createdAt", LocalDateTime.of(2026, 1, 2, 9, 0));
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(quitSurveyRepository.findFirstPageByUserId(eq(userId), any(LocalDate.class), any(Pageable.class)))
+                .willReturn(List.of(survey1, survey2, survey3));
+
+        // when
+        QuitSurveyPageResponseDto result = quitSurveyService.findSurveyPage(userId, null, 2);
+
+        // then
+        assertThat(result.getSurveys()).hasSize(2);
+        assertThat(result.getSurveys().get(0).isSuccess()).isTrue();
+        assertThat(result.isHasNext()).isTrue();
+        assertThat(result.getNextCursor()).isNotNull();
+    }
+
+    @Test
+    @DisplayName("설문 목록 조회 - 최근 설문 날짜 구간(파티션)에서 한 페이지를 채우면 전체 기간은 읽지 않음")
+    void 설문_목록_조회_최근구간() {
+        // given
+        Long userId = 1L;
+        LocalDateTime now = LocalDateTime.now();
+        List<QuitSurvey> recent = new ArrayList<>();
+        for (long i = 0; i < 3; i++) {
+            QuitSurvey survey = new QuitSurvey(userId, now.toLocalDate().minusDays(i), true, 1, "", 1, "");
+            ReflectionTestUtils.setField(survey, "id", 10L - i);
+            ReflectionTestUtils.setField(survey, "createdAt", now.minusDays(i));
+            recent.add(survey);
+        }
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(quitSurveyRepository.findFirstPageByUserId(eq(userId), any(LocalDate.class), any(Pageable.class)))
+                .willReturn(recent);
+
+        // when
+        QuitSurveyPageResponseDto result = quitSurveyService.findSurveyPage(userId, null, 2);
+
+        // then
+        // 한 페이지(2 + 1건) + 일괄 등록 기간(30일) 만큼의 설문 날짜 구간만 읽음
+        assertThat(result.getSurveys()).extracting(QuitSurveyResponseDto::getId).containsExactly(10L, 9L);
+        verify(quitSurveyRepository).findFirstPageByUserId(eq(userId), eq(now.toLocalDate().minusDays(33)), any(Pageable.class));
+        verify(quitSurveyRepository, never()).findFirstPageByUserId(eq(userId), eq(LocalDate.EPOCH), any(Pageable.class));
+    }
+
+    @Test
+    @DisplayName("설문 목록 조회 - 보관된 설문과 작성 시각 순으로 합쳐서 한 페이지")
+    void 설문_목록_조회_보관설문_포함() {
+        // given
+        Long userId = 1L;
+        QuitSurvey newest = new QuitSurvey(userId, true, 1, "", 1, "");
+        ReflectionTestUtils.setField(newest, "id", 5L);
+        ReflectionTestUtils.setField(newest, "createdAt", LocalDateTime.of(2026, 1, 5, 9, 0));
+        QuitSurvey oldest = new QuitSurvey(userId, true, 1, "", 1, "");
+        ReflectionTestUtils.setField(oldest, "id", 2L);
+        ReflectionTestUtils.setField(oldest, "createdAt", LocalDateTime.of(2026, 1, 2, 9, 0));
+
+        QuitSurveyArchive archived = BeanUtils.instantiateClass(QuitSurveyArchive.class);
+        ReflectionTestUtils.setField(archived, "id", 4L);
+        ReflectionTestUtils.setField(archived, "userId", userId);
+        ReflectionTestUtils.setField(archived, "createdAt", LocalDateTime.of(2026, 1, 4, 9, 0));
 
-        given(userRepository.findById(userId)).willReturn(Optional.of(new User()));
-        given(quitSurveyRepository.findByUserId(userId)).willReturn(List.of(survey1, survey2));
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(quitSurveyRepository.findFirstPageByUserId(eq(userId), any(LocalDate.class), any(Pageable.class))).willReturn(List.of(newest, oldest));
+        given(quitSurveyArchiveRepository.findFirstPageByUserId(eq(userId), any(Pageable.class))).willReturn(List.of(archived));
 
         // when
-        List<QuitSurvey> result = quitSurveyService.findSurveyByUserId(userId);
+        QuitSurveyPageResponseDto result = quitSurveyService.findSurveyPage(userId, null, 2);
 
         // then
-        assertThat(result).hasSize(2);
-        assertThat(result.get(0).isSuccess()).isTrue();
+        assertThat(result.getSurveys()).extracting(QuitSurveyResponseDto::getId).containsExactly(5L, 4L);
+        assertThat(result.isHasNext()).isTrue();
+    }
+
+    @Test
+    @DisplayName("설문 목록 조회 - 커서가 있으면 그 다음부터 조회")
+    void 설문_목록_조회_다음페이지() {
+        // given
+        Long userId = 1L;
+        QuitSurvey survey = new QuitSurvey(userId, true, 1, "", 1, "");
+        ReflectionTestUtils.setField(survey, "id", 2L);
+        ReflectionTestUtils.setField(survey, "createdAt", LocalDateTime.of(2026, 1, 2, 9, 0));
+
+        given(userRepository.existsById(userId)).willReturn(true);
+        given(quitSurveyRepository.findFirstPageByUserId(eq(userId), any(LocalDate.class), any(Pageable.class))).willReturn(List.of(survey, survey));
+        String cursor = quitSurveyService.findSurveyPage(userId, null, 1).getNextCursor();
+
+        given(quitSurveyRepository.findPageByUserIdBefore(eq(userId), any(LocalDate.class), eq(LocalDate.of(2026, 1, 2)),
+                eq(LocalDateTime.of(2026, 1, 2, 9, 0)), eq(2L), any(Pageable.class)))
+                .willReturn(List.of());
+
+        // when
+        QuitSurveyPageResponseDto result = quitSurveyService.findSurveyPage(userId, cursor, 1);
+
+        // then
+        assertThat(result.getSurveys()).isEmpty();
+        assertThat(result.isHasNext()).isFalse();
+        assertThat(result.getNextCursor()).isNull();
+    }
+
+    @Test
+    @DisplayName("설문 목록 조회 실패 - 잘못된 커서")
+    void 설문_목록_조회_실패_커서() {
+        // given
+        given(userRepository.existsById(1L)).willReturn(true);
+
+        // when & then
+        assertThatThrownBy(() -> quitSurveyService.findSurveyPage(1L, "not-a-cursor", 20))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("잘못된 커서입니다.");
     }
 
     @Test
@@ -132,10 +505,10 @@ class QuitSurveyServiceTest {
     void 설문_조회_실패_유저없음() {
         // given
         Long userId = 999L;
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        given(userRepository.existsById(userId)).willReturn(false);
 
         // when & then
-        assertThatThrownBy(() -> quitSurveyService.findSurveyByUserId(userId))
+        assertThatThrownBy(() -> quitSurveyService.findSurveyPage(userId, null, 20))
                 .isInstanceOf(IllegalArgumentException.class);
     }
-}
\ No newline at end of file
+}
@@ -0,0 +1,139 @@
+package org.example.nosmoke.service.quitsurvey;
+
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyStatsResponseDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyTotalsDto;
+import org.example.nosmoke.entity.QuitSurvey;
+import org.example.nosmoke.entity.QuitSurveyStats;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.QuitSurveyStatsRepository;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.mock;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class QuitSurveyStatsServiceTest {
+
+    @InjectMocks
+    private QuitSurveyStatsService quitSurveyStatsService;
+
+    @Mock private QuitSurveyStatsRepository quitSurveyStatsRepository;
+    @Mock private QuitSurveyRepository quitSurveyRepository;
+
+    @Test
+    @DisplayName("설문 저장 - 누적값이 있으면 차이만큼 UPDATE 한 번, 입력되지 않은 수준 값은 제외")
+    void 설문_저장_누적값_갱신() {
+        // given
+        Long userId = 1L;
+        QuitSurvey survey = new QuitSurvey(userId, true, 5, "", null, "");
+        given(quitSurveyStatsRepository.addDelta(userId, 1, 1, 5, 1, 0, 0)).willReturn(1);
+
+        // when
+        quitSurveyStatsService.recordSurvey(userId, survey);
+
+        // then
+        verify(quitSurveyStatsRepository).addDelta(userId, 1, 1, 5, 1, 0, 0);
+        verify(quitSurveyRepository, never()).calculateTotalsByUserId(any());
+    }
+
+    @Test
+    @DisplayName("첫 설문 - 누적값 행이 없으면 전체 기록으로 계산해 INSERT (먼저 생긴 행이 있으면 차이만 더하는 한 문장)")
+    void 첫_설문_누적값_생성() {
+        // given
+        Long userId = 1L;
+        QuitSurvey survey = new QuitSurvey(userId, true, 5, "", null, "");
+        given(quitSurveyStatsRepository.addDelta(userId, 1, 1, 5, 1, 0, 0)).willReturn(0);
+
+        QuitSurveyTotalsDto totals = mock(QuitSurveyTotalsDto.class);
+        given(totals.getTotalSurveys()).willReturn(3L);
+        given(totals.getSuccessCount()).willReturn(2L);
+        given(totals.getStressSum()).willReturn(9L);
+        given(totals.getStressCount()).willReturn(2L);
+        given(totals.getCravingSum()).willReturn(0L);
+        given(totals.getCravingCount()).willReturn(0L);
+        given(quitSurveyRepository.calculateTotalsByUserId(userId)).willReturn(totals);
+
+        // when
+        quitSurveyStatsService.recordSurvey(userId, survey);
+
+        // then (save 로 INSERT 하지 않음 - 동시에 첫 설문이 저장되면 PK 충돌)
+        ArgumentCaptor<QuitSurveyStats> captor = ArgumentCaptor.forClass(QuitSurveyStats.class);
+        verify(quitSurveyStatsRepository).insertOrAddDelta(captor.capture(), eq(1L), eq(1L), eq(5L), eq(1L), eq(0L), eq(0L));
+        assertThat(captor.getValue().getTotalSurveys()).isEqualTo(3);
+        assertThat(captor.getValue().getStressSum()).isEqualTo(9);
+        verify(quitSurveyStatsRepository, never()).save(any());
+    }
+
+    @Test
+    @DisplayName("설문 수정 - 수정 전 값을 빼고 수정 후 값을 더함")
+    void 설문_수정_누적값_보정() {
+        // given
+        Long userId = 1L;
+        QuitSurvey edited = new QuitSurvey(userId, true, 3, "", 4, "");
+        given(quitSurveyStatsRepository.addDelta(userId, 0, 1, -5, 0, -5, 0)).willReturn(1);
+
+        // when (실패, 스트레스 8, 충동 9 -> 성공, 스트레스 3, 충동 4)
+        quitSurveyStatsService.recordEdit(userId, false, 8, 9, edited);
+
+        // then
+        verify(quitSurveyStatsRepository).addDelta(userId, 0, 1, -5, 0, -5, 0);
+    }
+
+    @Test
+    @DisplayName("통계 조회 - 누적값 한 행으로 성공률 / 평균 계산")
+    void 통계_조회() {
+        // given
+        Long userId = 1L;
+        QuitSurveyStats stats = new QuitSurveyStats(userId, 4, 3, 20, 4, 9, 3);
+        given(quitSurveyStatsRepository.findById(userId)).willReturn(Optional.of(stats));
+
+        // when
+        QuitSurveyStatsResponseDto result = quitSurveyStatsService.getStats(userId);
+
+        // then
+        assertThat(result.getTotalSurveys()).isEqualTo(4);
+        assertThat(result.getSuccessDays()).isEqualTo(3);
+        assertThat(result.getSuccessRate()).isEqualTo(75.0);
+        assertThat(result.getAverageStressLevel()).isEqualTo(5.0);
+        assertThat(result.getAverageCravingLevel()).isEqualTo(3.0);
+    }
+
+    @Test
+    @DisplayName("보정 - 누적값이 설문 기록과 다르면 덮어쓰고 true")
+    void 보정_오차_발견() {
+        // given
+        Long userId = 1L;
+        QuitSurveyStats stats = new QuitSurveyStats(userId, 5, 3, 20, 5, 20, 5);
+        given(quitSurveyStatsRepository.findByUserIdForUpdate(userId)).willReturn(Optional.of(stats));
+
+        QuitSurveyTotalsDto totals = mock(QuitSurveyTotalsDto.class);
+        given(totals.getTotalSurveys()).willReturn(4L);
+        given(totals.getSuccessCount()).willReturn(3L);
+        given(totals.getStressSum()).willReturn(16L);
+        given(totals.getStressCount()).willReturn(4L);
+        given(totals.getCravingSum()).willReturn(16L);
+        given(totals.getCravingCount()).willReturn(4L);
+        given(quitSurveyRepository.calculateTotalsByUserId(userId)).willReturn(totals);
+
+        // when
+        boolean drifted = quitSurveyStatsService.reconcile(userId);
+
+        // then
+        assertThat(drifted).isTrue();
+        assertThat(stats.getTotalSurveys()).isEqualTo(4);
+        assertThat(stats.getStressSum()).isEqualTo(16);
+    }
+}
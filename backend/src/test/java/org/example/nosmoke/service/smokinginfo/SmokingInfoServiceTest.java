@@ -3,9 +3,9 @@ package org.example.nosmoke.service.smokinginfo;
 import org.example.nosmoke.dto.smokinginfo.SmokingInfoRequestDto;
 import org.example.nosmoke.dto.smokinginfo.SmokingInfoUpdateRequestDto;
 import org.example.nosmoke.entity.SmokingInfo;
-import org.example.nosmoke.entity.User;
 import org.example.nosmoke.repository.SmokingInfoRepository;
-import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.cache.EntityCacheInvalidator;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
@@ -14,12 +14,15 @@ import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
 
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Optional;
 
 import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.eq;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
 
 @ExtendWith(MockitoExtension.class)
@@ -32,29 +35,28 @@ public class SmokingInfoServiceTest {
     private SmokingInfoRepository smokingInfoRepository;
 
     @Mock
-    private UserRepository userRepository;
+    private DashboardViewStore dashboardViewStore;
+
+    @Mock
+    private EntityCacheInvalidator entityCacheInvalidator;
 
 
     // 1. 흡연정보 저장
 
     @Test
-    @DisplayName("흡연 정보 저장 성공")
+    @DisplayName("흡연 정보 저장 성공 - 한 문장으로 저장 / 수정 후 저장된 행 반환")
     void 흡연정보_저장_성공() {
         // given
         Long userId = 1L;
+        LocalDate quitStart = LocalDate.now();
         SmokingInfoRequestDto requestDto = new SmokingInfoRequestDto(
-                "말보로", 10, LocalDate.now(), LocalDate.now().plusDays(100), "건강을 위해"
+                "말보로", 10, quitStart, quitStart.plusDays(100), "건강을 위해"
         );
 
-        // 유저가 존재한다고 가정
-        given(userRepository.findById(userId)).willReturn(Optional.of(new User()));
-
-        // 저장될 때 입력받은 객체 그대로 반환한다고 가정 (ID는 임의로 100L)
-        given(smokingInfoRepository.save(any(SmokingInfo.class))).willAnswer(invocation -> {
-            SmokingInfo info = (SmokingInfo) invocation.getArgument(0);
-            // 테스트 검증을 위해 ID가 부여된 것처럼 처리 (Reflection 없이 필드값 검증만으로 충분하면 생략 가능)
-            return info;
-        });
+        given(smokingInfoRepository.upsert(eq(userId), eq("말보로"), eq(10), eq(quitStart), eq(quitStart.plusDays(100)),
+                eq("건강을 위해"), any(LocalDateTime.class))).willReturn(1);
+        given(smokingInfoRepository.findByUserId(userId)).willReturn(Optional.of(
+                new SmokingInfo(userId, "말보로", 10, quitStart, quitStart.plusDays(100), "건강을 위해")));
 
         // when
         SmokingInfo result = smokingInfoService.smokingInfoSave(userId, requestDto);
@@ -64,8 +66,10 @@ public class SmokingInfoServiceTest {
         assertThat(result.getDailyConsumption()).isEqualTo(10);
         assertThat(result.getQuitGoal()).isEqualTo("건강을 위해");
 
-        // 실제로 Repository의 save가 호출되었는지 확인
-        verify(smokingInfoRepository).save(any(SmokingInfo.class));
+        // 조회 후 분기하지 않고 save 도 호출하지 않음
+        verify(smokingInfoRepository, never()).save(any(SmokingInfo.class));
+        verify(dashboardViewStore).evictAfterCommit(userId);
+        verify(entityCacheInvalidator).evictAfterCommit(eq(SmokingInfo.class), any());
     }
 
     @Test
@@ -77,13 +81,14 @@ public class SmokingInfoServiceTest {
                 "말보로", 10, LocalDate.now(), LocalDate.now().plusDays(100), "목표"
         );
 
-        // 유저를 찾지 못함 (Empty)
-        given(userRepository.findById(userId)).willReturn(Optional.empty());
+        // users 에 없는 사용자 - 아무 행도 저장되지 않음
+        given(smokingInfoRepository.upsert(eq(userId), any(), any(Integer.class), any(), any(), any(), any())).willReturn(0);
 
         // when & then
         assertThatThrownBy(() -> smokingInfoService.smokingInfoSave(userId, requestDto))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessageContaining("해당 사용자를 찾을 수 없습니다");
+        verify(dashboardViewStore, never()).evictAfterCommit(any());
     }
 
     // 2. 흡연 정보 조회
@@ -142,6 +147,9 @@ public class SmokingInfoServiceTest {
         assertThat(existingInfo.getCigaretteType()).isEqualTo("전자담배");
         assertThat(existingInfo.getDailyConsumption()).isEqualTo(5);
         assertThat(existingInfo.getQuitGoal()).isEqualTo("새로운목표");
+
+        // 커밋 후 대시보드 조회 모델 삭제 예약
+        verify(dashboardViewStore).evictAfterCommit(userId);
     }
 
     @Test
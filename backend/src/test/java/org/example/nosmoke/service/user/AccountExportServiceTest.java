@@ -0,0 +1,153 @@
+package org.example.nosmoke.service.user;
+
+import com.fasterxml.jackson.databind.JsonNode;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.fasterxml.jackson.databind.SerializationFeature;
+import com.fasterxml.jackson.datatype.jsr310.JavaTimeModule;
+import org.example.nosmoke.dto.monkey.MonkeyMessageExportDto;
+import org.example.nosmoke.dto.quitsurvey.QuitSurveyExportDto;
+import org.example.nosmoke.entity.MonkeyMessage;
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.exception.TooManyRequestsException;
+import org.example.nosmoke.repository.MonkeyMessageRepository;
+import org.example.nosmoke.repository.QuitSurveyArchiveRepository;
+import org.example.nosmoke.repository.QuitSurveyRepository;
+import org.example.nosmoke.repository.SmokingInfoRepository;
+import org.example.nosmoke.repository.UserRepository;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.Optional;
+import java.util.stream.Stream;
+import java.util.zip.ZipEntry;
+import java.util.zip.ZipInputStream;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.BDDMockito.given;
+
+@ExtendWith(MockitoExtension.class)
+class AccountExportServiceTest {
+
+    private AccountExportService accountExportService;
+
+    @Mock private UserRepository userRepository;
+    @Mock private SmokingInfoRepository smokingInfoRepository;
+    @Mock private QuitSurveyRepository quitSurveyRepository;
+    @Mock private QuitSurveyArchiveRepository quitSurveyArchiveRepository;
+    @Mock private MonkeyMessageRepository monkeyMessageRepository;
+
+    private final ObjectMapper objectMapper = new ObjectMapper()
+            .registerModule(new JavaTimeModule())
+            .disable(SerializationFeature.WRITE_DATES_AS_TIMESTAMPS);
+
+    // 실제 JSON 출력을 확인하기 위해 ObjectMapper 는 목이 아닌 실제 객체로 주입
+    @BeforeEach
+    void setUp() {
+        accountExportService = new AccountExportService(
+                userRepository, smokingInfoRepository, quitSurveyRepository, quitSurveyArchiveRepository,
+                monkeyMessageRepository, objectMapper);
+        ReflectionTestUtils.setField(accountExportService, "maxConcurrent", 2);
+        ReflectionTestUtils.setField(accountExportService, "retryAfterSeconds", 30L);
+        accountExportService.init();
+    }
+
+    private void givenAccount(Long userId) {
+        User user = new User("홍길동", "test@test.com", "password", 30);
+        given(userRepository.findById(userId)).willReturn(Optional.of(user));
+        given(smokingInfoRepository.findByUserId(userId)).willReturn(Optional.empty());
+
+        LocalDateTime now = LocalDateTime.of(2025, 3, 1, 9, 0);
+        given(quitSurveyArchiveRepository.streamExportByUserId(userId)).willReturn(Stream.of(
+                new QuitSurveyExportDto(1L, LocalDate.of(2023, 1, 1), true, 2, "", 2, "", now.minusYears(2), now.minusYears(2))
+        ));
+        given(quitSurveyRepository.streamExportByUserId(userId)).willReturn(Stream.of(
+                new QuitSurveyExportDto(2L, LocalDate.of(2025, 3, 1), true, 3, "업무", 4, "", now, now),
+                new QuitSurveyExportDto(3L, LocalDate.of(2025, 3, 2), false, 8, "회식", 9, "", now, now)
+        ));
+        given(monkeyMessageRepository.streamExportByUserId(userId)).willReturn(Stream.of(
+                new MonkeyMessageExportDto(10L, MonkeyMessage.MessageType.USER, "안녕", now)
+        ));
+    }
+
+    @Test
+    @DisplayName("내보내기 - 프로필, 설문(보관된 설문 포함), 대화 기록을 한 줄에 한 건씩 NDJSON 으로")
+    void 내보내기_NDJSON() throws Exception {
+        // given
+        Long userId = 1L;
+        givenAccount(userId);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        accountExportService.export(userId, out, false);
+
+        // then (흡연 정보가 없으면 해당 줄은 생략)
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines).hasSize(5);
+        assertThat(objectMapper.readTree(lines[0]).get("type").asText()).isEqualTo("profile");
+        JsonNode survey = objectMapper.readTree(lines[1]);
+        assertThat(survey.get("type").asText()).isEqualTo("survey");
+        assertThat(survey.get("data").get("surveyDate").asText()).isEqualTo("2023-01-01");
+        assertThat(objectMapper.readTree(lines[2]).get("data").get("surveyDate").asText()).isEqualTo("2025-03-01");
+        assertThat(objectMapper.readTree(lines[4]).get("type").asText()).isEqualTo("message");
+    }
+
+    @Test
+    @DisplayName("내보내기 - zip 이면 NDJSON 파일 하나를 담은 zip")
+    void 내보내기_zip() throws Exception {
+        // given
+        Long userId = 1L;
+        givenAccount(userId);
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        // when
+        accountExportService.export(userId, out, true);
+
+        // then
+        try (ZipInputStream zipIn = new ZipInputStream(new ByteArrayInputStream(out.toByteArray()))) {
+            ZipEntry entry = zipIn.getNextEntry();
+            assertThat(entry.getName()).isEqualTo(AccountExportService.FILE_NAME);
+            String content = new String(zipIn.readAllBytes(), StandardCharsets.UTF_8);
+            assertThat(content.split("\n")).hasSize(5);
+            assertThat(zipIn.getNextEntry()).isNull();
+        }
+    }
+
+    @Test
+    @DisplayName("내보내기 실패 - 존재하지 않는 사용자")
+    void 내보내기_실패_사용자없음() {
+        // given
+        given(userRepository.existsById(99L)).willReturn(false);
+
+        // when & then
+        assertThatThrownBy(() -> accountExportService.checkUser(99L))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 사용자입니다.");
+    }
+
+    @Test
+    @DisplayName("내보내기 자리 - 동시에 max-concurrent 건까지만, 반납하면 다시 확보 가능")
+    void 내보내기_동시_실행_제한() {
+        // given
+        accountExportService.acquireSlot();
+        accountExportService.acquireSlot();
+
+        // when & then
+        assertThatThrownBy(() -> accountExportService.acquireSlot())
+                .isInstanceOf(TooManyRequestsException.class)
+                .hasMessage("다른 내보내기가 진행 중입니다. 잠시 후 다시 시도해주세요.");
+
+        accountExportService.releaseSlot();
+        accountExportService.acquireSlot();
+    }
+}
@@ -0,0 +1,86 @@
+package org.example.nosmoke.service.user;
+
+import org.example.nosmoke.entity.User;
+import org.example.nosmoke.repository.UserRepository;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.InjectMocks;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.data.redis.core.RedisTemplate;
+import org.springframework.data.redis.core.ValueOperations;
+import org.springframework.data.redis.core.script.RedisScript;
+import org.springframework.data.redis.listener.RedisMessageListenerContainer;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+import java.util.List;
+import java.util.Optional;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.ArgumentMatchers.anyList;
+import static org.mockito.ArgumentMatchers.anyString;
+import static org.mockito.ArgumentMatchers.eq;
+import static org.mockito.BDDMockito.given;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class SecurityVersionServiceTest {
+
+    @InjectMocks
+    private SecurityVersionService securityVersionService;
+
+    @Mock private RedisTemplate<String, Object> redisTemplate;
+    @Mock private RedisMessageListenerContainer redisMessageListenerContainer;
+    @Mock private UserRepository userRepository;
+    @Mock private ValueOperations<String, Object> valueOperations;
+
+    @AfterEach
+    void tearDown() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    @DisplayName("보안 버전 조회 - Redis 키가 사라졌으면 DB 원본을 읽어 다시 채움 (0 으로 읽지 않음)")
+    void 보안_버전_조회_Redis_키_없음() {
+        // given
+        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(valueOperations.get("SV:1")).willReturn(null);
+        given(userRepository.findSecurityVersionById(1L)).willReturn(Optional.of(3L));
+
+        // when
+        long version = securityVersionService.getVersion(1L);
+
+        // then
+        assertThat(version).isEqualTo(3L);
+        assertThat(securityVersionService.isCurrent(1L, 0L)).isFalse();
+        verify(valueOperations).setIfAbsent("SV:1", "3");
+    }
+
+    @Test
+    @DisplayName("전체 무효화 - DB 버전을 올리고, Redis 갱신 / 다른 서버 알림은 커밋된 뒤에")
+    void 전체_무효화_커밋후_반영() {
+        // given
+        User user = new User("홍길동", "test@email.com", "encodedPw", 0);
+        given(userRepository.findByIdForUpdate(1L)).willReturn(Optional.of(user));
+        TransactionSynchronizationManager.initSynchronization();
+
+        // when
+        securityVersionService.revokeAll(1L);
+
+        // then
+        assertThat(user.getSecurityVersion()).isEqualTo(1L);
+        verify(redisTemplate, never()).convertAndSend(anyString(), any());
+
+        List<TransactionSynchronization> synchronizations = TransactionSynchronizationManager.getSynchronizations();
+        synchronizations.forEach(TransactionSynchronization::afterCommit);
+        verify(redisTemplate).execute(any(RedisScript.class), anyList(), eq("1"));
+        verify(redisTemplate).convertAndSend(SecurityVersionService.INVALIDATION_CHANNEL, "1");
+    }
+}
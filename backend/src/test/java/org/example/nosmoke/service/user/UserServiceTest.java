@@ -1,20 +1,27 @@
 package org.example.nosmoke.service.user;
 
+import io.jsonwebtoken.Claims;
+import io.jsonwebtoken.Jwts;
 import org.example.nosmoke.dto.token.TokenDto;
 import org.example.nosmoke.dto.user.*;
+import org.example.nosmoke.entity.PointTransaction;
 import org.example.nosmoke.entity.User;
-import org.example.nosmoke.repository.SmokingInfoRepository;
+import org.example.nosmoke.exception.TooManyRequestsException;
+import org.example.nosmoke.repository.PointTransactionRepository;
 import org.example.nosmoke.repository.UserRepository;
+import org.example.nosmoke.service.cache.EntityCacheInvalidator;
+import org.example.nosmoke.service.dashboard.DashboardViewStore;
 import org.example.nosmoke.util.JwtTokenProvider;
 import org.junit.jupiter.api.DisplayName;
 import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.ArgumentCaptor;
 import org.mockito.InjectMocks;
 import org.mockito.Mock;
 import org.mockito.junit.jupiter.MockitoExtension;
-import org.springframework.data.redis.core.RedisTemplate;
-import org.springframework.data.redis.core.ValueOperations;
 import org.springframework.security.crypto.password.PasswordEncoder;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
 
 import java.util.Optional;
 
@@ -22,7 +29,10 @@ import static org.assertj.core.api.AssertionsForClassTypes.assertThat;
 import static org.assertj.core.api.AssertionsForClassTypes.assertThatThrownBy;
 import static org.mockito.ArgumentMatchers.*;
 import static org.mockito.BDDMockito.given;
+import static org.mockito.BDDMockito.willThrow;
+import static org.mockito.Mockito.never;
 import static org.mockito.Mockito.verify;
+import static org.mockito.Mockito.verifyNoInteractions;
 
 
 @ExtendWith(MockitoExtension.class) // Mockito 사용 선언
@@ -35,9 +45,12 @@ public class UserServiceTest {
     @Mock private UserRepository userRepository;
     @Mock private PasswordEncoder passwordEncoder;
     @Mock private JwtTokenProvider jwtTokenProvider;
-    @Mock private SmokingInfoRepository smokingInfoRepository;
-    @Mock private RedisTemplate<String, Object> redisTemplate;
-    @Mock private ValueOperations<String, Object> valueOperations;
+    @Mock private SecurityVersionService securityVersionService;
+    @Mock private TokenSessionStore tokenSessionStore;
+    @Mock private LoginRateLimiter loginRateLimiter;
+    @Mock private DashboardViewStore dashboardViewStore;
+    @Mock private PointTransactionRepository pointTransactionRepository;
+    @Mock private EntityCacheInvalidator entityCacheInvalidator;
 
 
     // 1. 회원가입 테스트
@@ -98,24 +111,27 @@ public class UserServiceTest {
         };
 
             // 1. 유저 조회 성공 가정
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findLoginInfoByEmail(request.getEmail())).willReturn(Optional.of(new UserLoginInfoDto(user, true)));
             // 2. 비밀번호 일치 가정
         given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(true);
             // 3. 토큰 생성 가정
         TokenDto fakeToken = TokenDto.builder().accessToken("access").refreshToken("refresh").build();
-        given(jwtTokenProvider.createTokenDto(any(), any())).willReturn(fakeToken);
-            // 4. Redis 저장 로직
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(jwtTokenProvider.createTokenDto(any(), any(), anyLong())).willReturn(fakeToken);
+            // 4. Refresh Token 유효시간
+        given(jwtTokenProvider.getRefreshTokenValidTime()).willReturn(1000L);
 
         // when
-        UserLoginResponseDto response = userService.login(request);
+        UserLoginResponseDto response = userService.login(request, "127.0.0.1");
 
         // then
         assertThat(response.getEmail()).isEqualTo("test@email.com");
         assertThat(response.getAccessToken()).isEqualTo("access");
+        assertThat(response.isHasSmokingInfo()).isTrue();
 
-        // Redis에 토큰 저장 로직이 호출되었는지 검증
-        verify(valueOperations).set(eq("RT:" + user.getEmail()), eq("refresh"), anyLong(), any());
+        // Redis에 사용자 ID 기준으로 토큰 저장 로직이 호출되었는지 검증
+        verify(tokenSessionStore).save(1L, "refresh", 1000L);
+        // 성공한 로그인은 이메일별 실패 횟수에 기록하지 않음
+        verify(loginRateLimiter, never()).recordFailure(any());
 
     }
 
@@ -124,12 +140,13 @@ public class UserServiceTest {
     void 로그인_실패_존재하지_않는_이메일(){
         // given
         UserLoginRequestDto request = new UserLoginRequestDto("unknown@gmail.com", "pw");
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.empty());
+        given(userRepository.findLoginInfoByEmail(request.getEmail())).willReturn(Optional.empty());
 
         // when & then
-        assertThatThrownBy(() -> userService.login(request))
+        assertThatThrownBy(() -> userService.login(request, "127.0.0.1"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("존재하지 않는 사용자입니다.");
+        verify(loginRateLimiter).recordFailure("unknown@gmail.com");
     }
 
     @Test
@@ -139,14 +156,29 @@ public class UserServiceTest {
         UserLoginRequestDto request = new UserLoginRequestDto("test@email.com", "wrongPw");
         User user = new User("홍길동", "test@email.com", "encodedPw", 0);
 
-        given(userRepository.findByEmail(request.getEmail())).willReturn(Optional.of(user));
+        given(userRepository.findLoginInfoByEmail(request.getEmail())).willReturn(Optional.of(new UserLoginInfoDto(user, true)));
         // 비밀번호가 다르다고 가정(matches -> false)
         given(passwordEncoder.matches(request.getPassword(), user.getPassword())).willReturn(false);
 
         // when & then
-        assertThatThrownBy(() -> userService.login(request))
+        assertThatThrownBy(() -> userService.login(request, "127.0.0.1"))
                 .isInstanceOf(IllegalArgumentException.class)
                 .hasMessage("비밀번호가 틀렸습니다.");
+        verify(loginRateLimiter).recordFailure("test@email.com");
+    }
+
+    @Test
+    @DisplayName("로그인 실패 - 시도 횟수 초과 시 비밀번호 비교 전에 거절")
+    void 로그인_실패_시도_횟수_초과(){
+        // given
+        UserLoginRequestDto request = new UserLoginRequestDto("test@email.com", "pw");
+        willThrow(new TooManyRequestsException("로그인 시도가 너무 많습니다. 잠시 후 다시 시도해주세요.", 30))
+                .given(loginRateLimiter).checkLogin("test@email.com", "127.0.0.1");
+
+        // when & then
+        assertThatThrownBy(() -> userService.login(request, "127.0.0.1"))
+                .isInstanceOf(TooManyRequestsException.class);
+        verifyNoInteractions(userRepository, passwordEncoder);
     }
 
     // 3. 사용자 이름 수정 테스트
@@ -221,12 +253,24 @@ public class UserServiceTest {
         // 3. 새 비밀번호 암호화 수행
         given(passwordEncoder.encode("newPw")).willReturn("encodedNewPw");
 
-        // when
-        userService.updatePassword(userId, request);
-
-        // then
-        // 유저 객체의 비밀번호가 암호화된 새 비밀번호로 바뀌었는지 확인
-        assertThat(user.getPassword()).isEqualTo("encodedNewPw");
+        // 트랜잭션 안에서 호출된 것처럼 동기화 활성화 (커밋 후 작업 확인용)
+        TransactionSynchronizationManager.initSynchronization();
+        try {
+            // when
+            userService.updatePassword(userId, request);
+
+            // then
+            // 유저 객체의 비밀번호가 암호화된 새 비밀번호로 바뀌었는지 확인
+            assertThat(user.getPassword()).isEqualTo("encodedNewPw");
+            // 기존 토큰 무효화를 위해 보안 버전이 올라갔는지 확인
+            verify(securityVersionService).revokeAll(userId);
+            // Refresh Token 삭제는 커밋된 뒤에 (롤백되면 세션 유지)
+            verify(tokenSessionStore, never()).delete(any());
+            TransactionSynchronizationManager.getSynchronizations().forEach(TransactionSynchronization::afterCommit);
+            verify(tokenSessionStore).delete(userId);
+        } finally {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
     }
 
     @Test
@@ -272,32 +316,29 @@ public class UserServiceTest {
 
     // 5. 토큰 재발급 테스트
     @Test
-    @DisplayName("토큰 재발급 성공")
+    @DisplayName("토큰 재발급 성공 - DB 조회 없이 Refresh Token 교체")
     void 토큰_재발급_성공() {
         // given
-        String accessToken = "oldAccessToken";
+        String accessToken = "expiredAccessToken";
         String refreshToken = "validRefreshToken";
         String userId = "1";
         String email = "test@email.com";
+        Claims refreshClaims = Jwts.claims().setSubject(userId);
 
-        User user = new User("홍길동", email, "pw", 0);
+        // Refresh Token 검증 통과
+        given(jwtTokenProvider.getRefreshClaims(refreshToken)).willReturn(refreshClaims);
+        given(jwtTokenProvider.getEmail(refreshClaims)).willReturn(email);
 
-        // Refresh Token 유효성 검증 통과
-        given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
-
-        // Access Token에서 userPk(ID) 추출
-        given(jwtTokenProvider.getUserPk(accessToken)).willReturn(userId);
-
-        // 유저 조회
-        given(userRepository.getByIdOrThrow(Long.parseLong(userId))).willReturn(user);
-
-        // Redis에서 저장된 Refresh Token 가져오기
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
-        given(valueOperations.get("RT:" + email)).willReturn(refreshToken); // Redis와 입력값 일치
+        // 만료된 Access Token 에서도 userPk 추출
+        given(jwtTokenProvider.getUserPkAllowExpired(accessToken)).willReturn(userId);
 
         // 새 토큰 생성
         TokenDto newToken = TokenDto.builder().accessToken("newAccess").refreshToken("newRefresh").build();
-        given(jwtTokenProvider.createTokenDto(userId, email)).willReturn(newToken);
+        given(jwtTokenProvider.createTokenDto(userId, email, 0L)).willReturn(newToken);
+        given(jwtTokenProvider.getRefreshTokenValidTime()).willReturn(1000L);
+
+        // Redis에 저장된 토큰과 일치 --> 교체 성공
+        given(tokenSessionStore.rotate(1L, refreshToken, "newRefresh", 1000L)).willReturn(true);
 
         // when
         TokenDto result = userService.reissue(accessToken, refreshToken);
@@ -306,8 +347,8 @@ public class UserServiceTest {
         assertThat(result.getAccessToken()).isEqualTo("newAccess");
         assertThat(result.getRefreshToken()).isEqualTo("newRefresh");
 
-        // Redis에 새 토큰이 업데이트되었는지 확인
-        verify(valueOperations).set(eq("RT:" + email), eq("newRefresh"), anyLong());
+        // 재발급 과정에서 DB 조회는 없어야 함
+        verifyNoInteractions(userRepository);
     }
 
     @Test
@@ -317,15 +358,15 @@ public class UserServiceTest {
         String accessToken = "access";
         String refreshToken = "inputRefresh";
         String userId = "1";
-        User user = new User("홍길동", "test@email.com", "pw", 0);
+        Claims refreshClaims = Jwts.claims().setSubject(userId);
 
-        given(jwtTokenProvider.validateToken(refreshToken)).willReturn(true);
-        given(jwtTokenProvider.getUserPk(accessToken)).willReturn(userId);
-        given(userRepository.getByIdOrThrow(Long.parseLong(userId))).willReturn(user);
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
+        given(jwtTokenProvider.getRefreshClaims(refreshToken)).willReturn(refreshClaims);
+        given(jwtTokenProvider.getUserPkAllowExpired(accessToken)).willReturn(userId);
+        given(jwtTokenProvider.createTokenDto(any(), any(), anyLong()))
+                .willReturn(TokenDto.builder().accessToken("newAccess").refreshToken("newRefresh").build());
 
-        // Redis에는 다른 토큰이 저장되어 있다고 가정
-        given(valueOperations.get("RT:test@email.com")).willReturn("differentRefresh");
+        // Redis에는 다른 토큰이 저장되어 있다고 가정 --> 교체 실패
+        given(tokenSessionStore.rotate(eq(1L), eq(refreshToken), eq("newRefresh"), anyLong())).willReturn(false);
 
         // when & then
         assertThatThrownBy(() -> userService.reissue(accessToken, refreshToken))
@@ -333,6 +374,45 @@ public class UserServiceTest {
                 .hasMessage("토큰 정보가 일치하지 않습니다");
     }
 
+    @Test
+    @DisplayName("토큰 재발급 실패 - 다른 사용자의 Access Token")
+    void 토큰_재발급_실패_사용자_불일치() {
+        // given
+        String accessToken = "otherUserAccess";
+        String refreshToken = "validRefreshToken";
+        Claims refreshClaims = Jwts.claims().setSubject("1");
+
+        given(jwtTokenProvider.getRefreshClaims(refreshToken)).willReturn(refreshClaims);
+        given(jwtTokenProvider.getUserPkAllowExpired(accessToken)).willReturn("2");
+
+        // when & then
+        assertThatThrownBy(() -> userService.reissue(accessToken, refreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("토큰 정보가 일치하지 않습니다");
+        verifyNoInteractions(tokenSessionStore);
+    }
+
+    @Test
+    @DisplayName("토큰 재발급 실패 - 전체 로그아웃 이전에 발급된 Refresh Token")
+    void 토큰_재발급_실패_보안버전_불일치() {
+        // given
+        String accessToken = "access";
+        String refreshToken = "oldRefresh";
+        Claims refreshClaims = Jwts.claims().setSubject("1");
+
+        given(jwtTokenProvider.getRefreshClaims(refreshToken)).willReturn(refreshClaims);
+        given(jwtTokenProvider.getUserPkAllowExpired(accessToken)).willReturn("1");
+        // 토큰의 보안 버전은 0, 현재 버전은 1 (전체 로그아웃으로 올라감)
+        given(jwtTokenProvider.getSecurityVersion(refreshClaims)).willReturn(0L);
+        given(securityVersionService.getVersion(1L)).willReturn(1L);
+
+        // when & then
+        assertThatThrownBy(() -> userService.reissue(accessToken, refreshToken))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("만료된 로그인 정보입니다. 다시 로그인해주세요.");
+        verifyNoInteractions(tokenSessionStore);
+    }
+
     // 6. 로그아웃 테스트
 
     @Test
@@ -341,30 +421,91 @@ public class UserServiceTest {
         // given
         String accessToken = "validAccessToken";
         String userId = "1";
-        User user = new User("홍길동", "test@email.com", "pw", 0);
 
         // 토큰 유효성 검증
         given(jwtTokenProvider.validateToken(accessToken)).willReturn(true);
 
         // 유저 정보 가져오기
         given(jwtTokenProvider.getUserPk(accessToken)).willReturn(userId);
-        given(userRepository.getByIdOrThrow(Long.parseLong(userId))).willReturn(user);
-
-        // Redis 작업 준비
-        given(redisTemplate.opsForValue()).willReturn(valueOperations);
 
-        // Redis에 RT가 있다고 가정 (삭제 대상)
-        given(valueOperations.get("RT:" + user.getEmail())).willReturn("refreshToken");
+        // 블랙리스트에 등록할 토큰 ID와 남은 유효시간
+        given(jwtTokenProvider.getTokenId(accessToken)).willReturn("token-id");
+        given(jwtTokenProvider.getExpiration(accessToken)).willReturn(60000L);
 
         // when
         userService.logout(accessToken);
 
         // then
-        // Redis에서 RT 삭제되었는지 검증
-        verify(redisTemplate).delete("RT:" + user.getEmail());
+        // RT 삭제 + Access Token 블랙리스트 등록(남은 유효시간)이 한 번의 호출로 처리되었는지 검증
+        verify(tokenSessionStore).logout(1L, "token-id", 60000L);
+    }
 
-        // Access Token이 블랙리스트("logout")로 등록되었는지 검증
-        verify(valueOperations).set(eq(accessToken), eq("logout"));
+    @Test
+    @DisplayName("전체 로그아웃 - 보안 버전 증가 + Refresh Token 삭제")
+    void 전체_로그아웃_성공() {
+        // when
+        userService.logoutAll(1L);
+
+        // then
+        verify(securityVersionService).revokeAll(1L);
+        verify(tokenSessionStore).delete(1L);
     }
 
+    // 7. 포인트 테스트
+
+    @Test
+    @DisplayName("포인트 지급 - UPDATE 한 문장으로 더하고 원장에 기록 (사용자 엔티티 조회 없음)")
+    void 포인트_지급_성공() {
+        // given
+        Long userId = 1L;
+        given(userRepository.addPoint(userId, 10)).willReturn(1);
+        given(userRepository.findPointById(userId)).willReturn(Optional.of(110));
+
+        // when
+        int balance = userService.addPoints(userId, 10, PointTransaction.Reason.SURVEY_SUCCESS);
+
+        // then
+        assertThat(balance).isEqualTo(110);
+        verify(userRepository, never()).findById(any());
+
+        ArgumentCaptor<PointTransaction> captor = ArgumentCaptor.forClass(PointTransaction.class);
+        verify(pointTransactionRepository).save(captor.capture());
+        assertThat(captor.getValue().getAmount()).isEqualTo(10);
+        assertThat(captor.getValue().getBalanceAfter()).isEqualTo(110);
+        assertThat(captor.getValue().getReason()).isEqualTo(PointTransaction.Reason.SURVEY_SUCCESS);
+
+        verify(dashboardViewStore).evictAfterCommit(userId);
+        verify(entityCacheInvalidator).evictAfterCommit(User.class, userId);
+    }
+
+    @Test
+    @DisplayName("포인트 지급 실패 - 갱신된 행이 없으면 존재하지 않는 사용자")
+    void 포인트_지급_실패_사용자없음() {
+        // given
+        given(userRepository.addPoint(999L, 10)).willReturn(0);
+
+        // when & then
+        assertThatThrownBy(() -> userService.addPoints(999L, 10, PointTransaction.Reason.SURVEY_SUCCESS))
+                .isInstanceOf(IllegalArgumentException.class)
+                .hasMessage("존재하지 않는 사용자입니다.");
+        verifyNoInteractions(pointTransactionRepository);
+    }
+
+    @Test
+    @DisplayName("포인트 감사 - 원장 합계와 잔액이 다르면 원장 기준으로 잔액 재설정")
+    void 포인트_감사_보정() {
+        // given
+        Long userId = 1L;
+        User user = new User("홍길동", "test@email.com", "pw", 150);
+        given(userRepository.findByIdForUpdate(userId)).willReturn(Optional.of(user));
+        given(pointTransactionRepository.sumAmountByUserId(userId)).willReturn(120L);
+
+        // when
+        boolean drifted = userService.reconcilePoints(userId);
+
+        // then
+        assertThat(drifted).isTrue();
+        assertThat(user.getPoint()).isEqualTo(120);
+        verify(pointTransactionRepository).save(any(PointTransaction.class));
+    }
 }
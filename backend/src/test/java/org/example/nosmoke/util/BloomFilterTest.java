@@ -0,0 +1,50 @@
+package org.example.nosmoke.util;
+
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+
+import java.util.UUID;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+class BloomFilterTest {
+
+    @Test
+    @DisplayName("넣은 값은 항상 있을 수도 있음으로 판정 (미탐 없음)")
+    void 미탐_없음() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        String[] tokenIds = new String[10_000];
+        for (int i = 0; i < tokenIds.length; i++) {
+            tokenIds[i] = UUID.randomUUID().toString();
+            bloomFilter.put(tokenIds[i]);
+        }
+
+        // when & then
+        for (String tokenId : tokenIds) {
+            assertThat(bloomFilter.mightContain(tokenId)).isTrue();
+        }
+    }
+
+    @Test
+    @DisplayName("예상 개수만큼 넣었을 때 오탐률이 설정값 근처로 유지")
+    void 오탐률_유지() {
+        // given
+        BloomFilter bloomFilter = new BloomFilter(10_000, 0.01);
+        for (int i = 0; i < 10_000; i++) {
+            bloomFilter.put(UUID.randomUUID().toString());
+        }
+
+        // when
+        int falsePositives = 0;
+        int trials = 100_000;
+        for (int i = 0; i < trials; i++) {
+            if (bloomFilter.mightContain(UUID.randomUUID().toString())) {
+                falsePositives++;
+            }
+        }
+
+        // then (1% 목표, 여유를 두고 2% 이하 확인)
+        assertThat((double) falsePositives / trials).isLessThan(0.02);
+    }
+}
@@ -0,0 +1,98 @@
+package org.example.nosmoke.util;
+
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.nosmoke.exception.TooManyRequestsException;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.springframework.security.crypto.bcrypt.BCryptPasswordEncoder;
+import org.springframework.security.crypto.password.PasswordEncoder;
+
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+class BoundedPasswordEncoderTest {
+
+    private final SimpleMeterRegistry meterRegistry = new SimpleMeterRegistry();
+    private BoundedPasswordEncoder passwordEncoder;
+
+    @AfterEach
+    void tearDown() {
+        passwordEncoder.shutdown();
+    }
+
+    @Test
+    @DisplayName("전용 스레드풀에서 해싱 및 검증, 소요 시간 기록")
+    void 해싱_및_검증() {
+        // given
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(4), 2, 4, 1, meterRegistry);
+
+        // when
+        String encoded = passwordEncoder.encode("password");
+
+        // then
+        assertThat(passwordEncoder.matches("password", encoded)).isTrue();
+        assertThat(passwordEncoder.matches("wrong", encoded)).isFalse();
+        assertThat(meterRegistry.get("password.hash").tag("operation", "encode").timer().count()).isEqualTo(1L);
+        assertThat(meterRegistry.get("password.hash").tag("operation", "matches").timer().count()).isEqualTo(2L);
+    }
+
+    @Test
+    @DisplayName("cost 설정이 올라가면 기존 해시는 재해싱 대상")
+    void cost_변경시_재해싱_대상() {
+        // given
+        String oldHash = new BCryptPasswordEncoder(4).encode("password");
+        passwordEncoder = new BoundedPasswordEncoder(new BCryptPasswordEncoder(5), 1, 1, 1, meterRegistry);
+
+        // when & then
+        assertThat(passwordEncoder.upgradeEncoding(oldHash)).isTrue();
+        assertThat(passwordEncoder.upgradeEncoding(passwordEncoder.encode("password"))).isFalse();
+    }
+
+    @Test
+    @DisplayName("대기열이 가득 차면 기다리지 않고 바로 거절")
+    void 대기열_초과시_거절() throws Exception {
+        // given - 해싱 스레드 1개, 대기열 1개, 첫 해싱이 끝나지 않도록 막아둠
+        CountDownLatch started = new CountDownLatch(1);
+        CountDownLatch release = new CountDownLatch(1);
+        PasswordEncoder blockingEncoder = new PasswordEncoder() {
+            @Override
+            public String encode(CharSequence rawPassword) {
+                started.countDown();
+                try {
+                    release.await();
+                } catch (InterruptedException e) {
+                    Thread.currentThread().interrupt();
+                }
+                return "encoded";
+            }
+
+            @Override
+            public boolean matches(CharSequence rawPassword, String encodedPassword) {
+                return true;
+            }
+        };
+        passwordEncoder = new BoundedPasswordEncoder(blockingEncoder, 1, 1, 3, meterRegistry);
+
+        CompletableFuture<String> running = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("a"));
+        started.await(5, TimeUnit.SECONDS);
+        CompletableFuture<String> queued = CompletableFuture.supplyAsync(() -> passwordEncoder.encode("b"));
+        while (meterRegistry.get("password.hash.queue.depth").gauge().value() < 1) {
+            Thread.sleep(10);
+        }
+
+        // when & then
+        assertThatThrownBy(() -> passwordEncoder.encode("c"))
+                .isInstanceOf(TooManyRequestsException.class)
+                .extracting("retryAfterSeconds").isEqualTo(3L);
+        assertThat(meterRegistry.get("password.hash.rejected").counter().count()).isEqualTo(1.0);
+
+        release.countDown();
+        assertThat(running.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+        assertThat(queued.get(5, TimeUnit.SECONDS)).isEqualTo("encoded");
+    }
+}
@@ -0,0 +1,108 @@
+package org.example.nosmoke.util;
+
+import io.jsonwebtoken.Claims;
+import io.micrometer.core.instrument.simple.SimpleMeterRegistry;
+import org.example.nosmoke.dto.token.TokenDto;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.DisplayName;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.ExtendWith;
+import org.mockito.Mock;
+import org.mockito.junit.jupiter.MockitoExtension;
+import org.springframework.security.core.Authentication;
+import org.springframework.security.core.userdetails.UserDetailsService;
+import org.springframework.test.util.ReflectionTestUtils;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+import static org.mockito.ArgumentMatchers.any;
+import static org.mockito.Mockito.never;
+import static org.mockito.Mockito.verify;
+
+@ExtendWith(MockitoExtension.class)
+class JwtTokenProviderTest {
+
+    @Mock
+    private UserDetailsService userDetailsService;
+
+    private SimpleMeterRegistry meterRegistry;
+    private JwtTokenProvider jwtTokenProvider;
+
+    @BeforeEach
+    void setUp() {
+        meterRegistry = new SimpleMeterRegistry();
+        jwtTokenProvider = new JwtTokenProvider(userDetailsService, meterRegistry);
+        ReflectionTestUtils.setField(jwtTokenProvider, "secretKey", "test-secret-key-test-secret-key-test-secret-key");
+        ReflectionTestUtils.setField(jwtTokenProvider, "verifiedTokenCacheMaxSize", 100L);
+        jwtTokenProvider.init();
+    }
+
+    @Test
+    @DisplayName("같은 토큰을 두 번 검증하면 두 번째는 캐시에서 반환")
+    void 검증_캐시_적중() {
+        // given
+        TokenDto tokenDto = jwtTokenProvider.createTokenDto("1", "test@email.com", 0L);
+
+        // when
+        Claims first = jwtTokenProvider.getVerifiedClaims(tokenDto.getAccessToken());
+        Claims second = jwtTokenProvider.getVerifiedClaims(tokenDto.getAccessToken());
+
+        // then
+        assertThat(first.getSubject()).isEqualTo("1");
+        assertThat(second).isSameAs(first);
+        assertThat(meterRegistry.get("jwt.verification.cache").tag("result", "hit").counter().count()).isEqualTo(1.0);
+        assertThat(meterRegistry.get("jwt.verification.cache").tag("result", "miss").counter().count()).isEqualTo(1.0);
+        // 실제 서명 검증은 한 번만 수행
+        assertThat(meterRegistry.get("jwt.parse").timer().count()).isEqualTo(1L);
+    }
+
+    @Test
+    @DisplayName("변조된 토큰은 검증 실패")
+    void 변조된_토큰_검증_실패() {
+        // given
+        String accessToken = jwtTokenProvider.createTokenDto("1", "test@email.com", 0L).getAccessToken();
+        String tampered = accessToken.substring(0, accessToken.length() - 2) + "xx";
+
+        // when & then
+        assertThat(jwtTokenProvider.getVerifiedClaims(tampered)).isNull();
+        assertThat(jwtTokenProvider.validateToken(tampered)).isFalse();
+        assertThatThrownBy(() -> jwtTokenProvider.getUserPk(tampered))
+                .isInstanceOf(IllegalArgumentException.class);
+    }
+
+    @Test
+    @DisplayName("Stateless 모드 - DB 조회 없이 클레임만으로 인증 주체 생성")
+    void 클레임_기반_인증주체_생성() {
+        // given
+        ReflectionTestUtils.setField(jwtTokenProvider, "statelessPrincipal", true);
+        String accessToken = jwtTokenProvider.createTokenDto("7", "stateless@email.com", 3L).getAccessToken();
+        Claims claims = jwtTokenProvider.getVerifiedClaims(accessToken);
+
+        // when
+        Authentication authentication = jwtTokenProvider.getAuthentication(claims);
+
+        // then
+        assertThat(authentication.getName()).isEqualTo("7");
+        assertThat(((JwtUserPrincipal) authentication.getPrincipal()).getEmail()).isEqualTo("stateless@email.com");
+        assertThat(jwtTokenProvider.getSecurityVersion(claims)).isEqualTo(3L);
+        verify(userDetailsService, never()).loadUserByUsername(any());
+    }
+
+    @Test
+    @DisplayName("Refresh Token 에 사용자 정보가 담기고, Access Token 으로는 쓸 수 없음")
+    void 리프레시_토큰_클레임() {
+        // given
+        TokenDto tokenDto = jwtTokenProvider.createTokenDto("5", "refresh@email.com", 2L);
+
+        // when
+        Claims refreshClaims = jwtTokenProvider.getRefreshClaims(tokenDto.getRefreshToken());
+
+        // then
+        assertThat(refreshClaims.getSubject()).isEqualTo("5");
+        assertThat(jwtTokenProvider.getEmail(refreshClaims)).isEqualTo("refresh@email.com");
+        assertThat(jwtTokenProvider.isAccessToken(refreshClaims)).isFalse();
+        // Access Token 을 Refresh Token 자리에 넣으면 거절
+        assertThat(jwtTokenProvider.getRefreshClaims(tokenDto.getAccessToken())).isNull();
+        assertThat(jwtTokenProvider.getUserPkAllowExpired(tokenDto.getAccessToken())).isEqualTo("5");
+    }
+}